@@ -33,6 +33,8 @@ import org.apache.servicecomb.http.client.common.HttpTransport;
 import org.apache.servicecomb.http.client.common.HttpTransportFactory;
 import org.apache.servicecomb.http.client.common.HttpUtils;
 import org.apache.servicecomb.service.center.client.exception.OperationException;
+import org.apache.servicecomb.service.center.client.model.BatchFindInstancesRequest;
+import org.apache.servicecomb.service.center.client.model.BatchFindInstancesResponse;
 import org.apache.servicecomb.service.center.client.model.CreateMicroserviceInstanceRequest;
 import org.apache.servicecomb.service.center.client.model.CreateMicroserviceRequest;
 import org.apache.servicecomb.service.center.client.model.CreateSchemaRequest;
@@ -242,6 +244,28 @@ public class ServiceCenterClient implements ServiceCenterOperation {
     }
   }
 
+  @Override
+  public BatchFindInstancesResponse batchFindMicroserviceInstances(String consumerId,
+      BatchFindInstancesRequest request) {
+    try {
+      Map<String, String> headers = new HashMap<>();
+      headers.put("X-ConsumerId", consumerId);
+      HttpResponse response = httpClient
+          .postHttpRequest("/registry/instances/action?type=query", headers, HttpUtils.serialize(request));
+      if (response.getStatusCode() == HttpStatus.SC_OK) {
+        return HttpUtils.deserialize(response.getContent(), BatchFindInstancesResponse.class);
+      } else {
+        throw new OperationException(
+            "batch find service instances fails, statusCode = " + response.getStatusCode() + "; message = "
+                + response.getMessage()
+                + "; content = " + response.getContent());
+      }
+    } catch (IOException e) {
+      throw new OperationException(
+          "batch find service instances fails", e);
+    }
+  }
+
   @Override
   public MicroserviceInstancesResponse getMicroserviceInstanceList(String serviceId) {
     try {
@@ -336,6 +360,7 @@ public class ServiceCenterClient implements ServiceCenterOperation {
    * @return
    * @throws OperationException
    */
+  @Override
   public void sendHeartBeats(HeartbeatsRequest heartbeatsRequest) {
     try {
       HttpResponse response = httpClient
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -28,6 +29,11 @@ import org.apache.servicecomb.http.client.task.AbstractTask;
 import org.apache.servicecomb.http.client.task.Task;
 import org.apache.servicecomb.service.center.client.DiscoveryEvents.InstanceChangedEvent;
 import org.apache.servicecomb.service.center.client.DiscoveryEvents.PullInstanceEvent;
+import org.apache.servicecomb.service.center.client.model.BatchFindInstancesRequest;
+import org.apache.servicecomb.service.center.client.model.BatchFindInstancesResponse;
+import org.apache.servicecomb.service.center.client.model.BatchFindInstancesResponse.FailedResult;
+import org.apache.servicecomb.service.center.client.model.BatchFindInstancesResponse.UpdatedResult;
+import org.apache.servicecomb.service.center.client.model.FindInstancesRequest;
 import org.apache.servicecomb.service.center.client.model.FindMicroserviceInstancesResponse;
 import org.apache.servicecomb.service.center.client.model.Microservice;
 import org.apache.servicecomb.service.center.client.model.MicroserviceInstance;
@@ -42,6 +48,9 @@ public class ServiceCenterDiscovery extends AbstractTask {
 
   private static final long POLL_INTERVAL = 15000;
 
+  // max services in one batch find request, batches are sent one by one
+  private static final int BATCH_FIND_SIZE = 100;
+
   private boolean started = false;
 
   public static class SubscriptionKey {
@@ -138,24 +147,8 @@ public class ServiceCenterDiscovery extends AbstractTask {
       FindMicroserviceInstancesResponse instancesResponse = serviceCenterClient
           .findMicroserviceInstance(myselfServiceId, k.appId, k.serviceName, ALL_VERSION, v.revision);
       if (instancesResponse.isModified()) {
-        List<MicroserviceInstance> instances = instancesResponse.getMicroserviceInstancesResponse().getInstances()
-            == null ? Collections.emptyList() : instancesResponse.getMicroserviceInstancesResponse().getInstances();
-        setMicroserviceInfo(instances);
-        LOGGER.info("Instance changed event, "
-                + "current: revision={}, instances={}; "
-                + "origin: revision={}, instances={}; "
-                + "appId={}, serviceName={}",
-            instancesResponse.getRevision(),
-            instanceToString(instances),
-            v.revision,
-            instanceToString(v.instancesCache),
-            k.appId,
-            k.serviceName
-        );
-        v.instancesCache = instances;
-        v.revision = instancesResponse.getRevision();
-        eventBus.post(new InstanceChangedEvent(k.appId, k.serviceName,
-            v.instancesCache));
+        onInstancesModified(k, v, instancesResponse.getMicroserviceInstancesResponse().getInstances(),
+            instancesResponse.getRevision());
       }
     } catch (Exception e) {
       LOGGER.error("find service {}#{} instance failed.", k.appId, k.serviceName, e);
@@ -163,6 +156,99 @@ public class ServiceCenterDiscovery extends AbstractTask {
     }
   }
 
+  private void batchPullInstance(List<Entry<SubscriptionKey, SubscriptionValue>> batch) {
+    BatchFindInstancesRequest request = new BatchFindInstancesRequest();
+    batch.forEach(entry -> request.addService(
+        new FindInstancesRequest(entry.getKey().appId, entry.getKey().serviceName, ALL_VERSION,
+            entry.getValue().revision)));
+
+    BatchFindInstancesResponse response;
+    try {
+      response = serviceCenterClient.batchFindMicroserviceInstances(myselfServiceId, request);
+    } catch (Exception e) {
+      // maybe service center not support batch find, find them one by one
+      LOGGER.warn("batch find {} services instances failed, try to find them one by one, cause={}.",
+          batch.size(), e.getMessage());
+      batch.forEach(entry -> pullInstance(entry.getKey(), entry.getValue()));
+      return;
+    }
+
+    BatchFindInstancesResponse.Results results = response.getServices();
+    if (results == null) {
+      return;
+    }
+    if (!isValidIndexes(results, batch.size())) {
+      LOGGER.warn("batch find {} services instances got invalid index, try to find them one by one.", batch.size());
+      batch.forEach(entry -> pullInstance(entry.getKey(), entry.getValue()));
+      return;
+    }
+    if (results.getUpdated() != null) {
+      for (UpdatedResult updated : results.getUpdated()) {
+        Entry<SubscriptionKey, SubscriptionValue> entry = batch.get(updated.getIndex());
+        try {
+          onInstancesModified(entry.getKey(), entry.getValue(), updated.getInstances(), updated.getRev());
+        } catch (Exception e) {
+          LOGGER.error("process service {}#{} instance failed.", entry.getKey().appId, entry.getKey().serviceName, e);
+          failedInstances.add(entry.getKey());
+        }
+      }
+    }
+    if (results.getFailed() != null) {
+      for (FailedResult failed : results.getFailed()) {
+        for (int index : failed.getIndexes()) {
+          SubscriptionKey k = batch.get(index).getKey();
+          LOGGER.error("find service {}#{} instance failed, error={}.", k.appId, k.serviceName, failed.getError());
+          failedInstances.add(k);
+        }
+      }
+    }
+  }
+
+  // index is from service center response, validate all before process any of them
+  private static boolean isValidIndexes(BatchFindInstancesResponse.Results results, int size) {
+    if (results.getUpdated() != null) {
+      for (UpdatedResult updated : results.getUpdated()) {
+        if (updated == null || updated.getIndex() < 0 || updated.getIndex() >= size) {
+          return false;
+        }
+      }
+    }
+    if (results.getFailed() != null) {
+      for (FailedResult failed : results.getFailed()) {
+        if (failed == null || failed.getIndexes() == null) {
+          return false;
+        }
+        for (Integer index : failed.getIndexes()) {
+          if (index == null || index < 0 || index >= size) {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  private void onInstancesModified(SubscriptionKey k, SubscriptionValue v, List<MicroserviceInstance> pulledInstances,
+      String revision) {
+    List<MicroserviceInstance> instances = pulledInstances == null ? Collections.emptyList() : pulledInstances;
+    setMicroserviceInfo(instances);
+    LOGGER.info("Instance changed event, "
+            + "current: revision={}, instances={}; "
+            + "origin: revision={}, instances={}; "
+            + "appId={}, serviceName={}",
+        revision,
+        instanceToString(instances),
+        v.revision,
+        instanceToString(v.instancesCache),
+        k.appId,
+        k.serviceName
+    );
+    v.instancesCache = instances;
+    v.revision = revision;
+    eventBus.post(new InstanceChangedEvent(k.appId, k.serviceName,
+        v.instancesCache));
+  }
+
   private void setMicroserviceInfo(List<MicroserviceInstance> instances) {
     instances.forEach(instance -> {
       Microservice microservice = microserviceCache
@@ -188,9 +274,15 @@ public class ServiceCenterDiscovery extends AbstractTask {
   }
 
   private synchronized void pullAllInstance() {
-    instancesCache.forEach((k, v) -> {
-      pullInstance(k, v);
-    });
+    if (myselfServiceId == null) {
+      // registration not ready
+      return;
+    }
+
+    List<Entry<SubscriptionKey, SubscriptionValue>> entries = new ArrayList<>(instancesCache.entrySet());
+    for (int from = 0; from < entries.size(); from += BATCH_FIND_SIZE) {
+      batchPullInstance(entries.subList(from, Math.min(from + BATCH_FIND_SIZE, entries.size())));
+    }
     if (failedInstances.isEmpty()) {
       return;
     }
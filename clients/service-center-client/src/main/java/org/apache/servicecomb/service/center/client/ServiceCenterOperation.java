@@ -18,8 +18,12 @@
 package org.apache.servicecomb.service.center.client;
 
 import org.apache.servicecomb.service.center.client.exception.OperationException;
+import org.apache.servicecomb.service.center.client.model.BatchFindInstancesRequest;
+import org.apache.servicecomb.service.center.client.model.BatchFindInstancesResponse;
 import org.apache.servicecomb.service.center.client.model.CreateSchemaRequest;
 import org.apache.servicecomb.service.center.client.model.FindMicroserviceInstancesResponse;
+import org.apache.servicecomb.service.center.client.model.HeartbeatsRequest;
+import org.apache.servicecomb.service.center.client.model.InstancesRequest;
 import org.apache.servicecomb.service.center.client.model.Microservice;
 import org.apache.servicecomb.service.center.client.model.MicroserviceInstance;
 import org.apache.servicecomb.service.center.client.model.MicroserviceInstanceStatus;
@@ -112,6 +116,18 @@ public interface ServiceCenterOperation {
       String versionRule,
       String revision);
 
+  /**
+   * Find MicroserviceInstance of many services in one request, every service carries its own revision.
+   * default not supported, caller should find them one by one.
+   *
+   * @return BatchFindInstancesResponse
+   * @throws OperationException If some problems happened to contact service center or non http 200 returned.
+   */
+  default BatchFindInstancesResponse batchFindMicroserviceInstances(String consumerId,
+      BatchFindInstancesRequest request) {
+    throw new OperationException("batch find microservice instances is not supported.");
+  }
+
   /**
    * Update status of microservice Instance
    *
@@ -151,6 +167,19 @@ public interface ServiceCenterOperation {
    */
   boolean sendHeartBeat(String serviceId, String instanceId);
 
+  /**
+   * send heart beats of many instances in one request, default send them one by one.
+   * @throws OperationException If some problems happened to contact service center or non http 200 returned.
+   */
+  default void sendHeartBeats(HeartbeatsRequest heartbeatsRequest) {
+    for (InstancesRequest instance : heartbeatsRequest.getInstances()) {
+      if (!sendHeartBeat(instance.getServiceId(), instance.getInstanceId())) {
+        throw new OperationException("send heart beat failed, serviceId=" + instance.getServiceId()
+            + ", instanceId=" + instance.getInstanceId());
+      }
+    }
+  }
+
   /**
    * query token using user confidential
    *
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.service.center.client.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * response of POST /registry/instances/action?type=query,
+ * index is the position of the service in {@link BatchFindInstancesRequest#getServices()}
+ */
+public class BatchFindInstancesResponse {
+  public static class UpdatedResult {
+    private int index;
+
+    private String rev;
+
+    private List<MicroserviceInstance> instances;
+
+    public int getIndex() {
+      return index;
+    }
+
+    public void setIndex(int index) {
+      this.index = index;
+    }
+
+    public String getRev() {
+      return rev;
+    }
+
+    public void setRev(String rev) {
+      this.rev = rev;
+    }
+
+    public List<MicroserviceInstance> getInstances() {
+      return instances;
+    }
+
+    public void setInstances(List<MicroserviceInstance> instances) {
+      this.instances = instances;
+    }
+  }
+
+  public static class FailedResult {
+    private List<Integer> indexes = new ArrayList<>();
+
+    private Map<String, Object> error;
+
+    public List<Integer> getIndexes() {
+      return indexes;
+    }
+
+    public void setIndexes(List<Integer> indexes) {
+      this.indexes = indexes;
+    }
+
+    public Map<String, Object> getError() {
+      return error;
+    }
+
+    public void setError(Map<String, Object> error) {
+      this.error = error;
+    }
+  }
+
+  public static class Results {
+    private List<UpdatedResult> updated = new ArrayList<>();
+
+    private List<Integer> notModified = new ArrayList<>();
+
+    private List<FailedResult> failed = new ArrayList<>();
+
+    public List<UpdatedResult> getUpdated() {
+      return updated;
+    }
+
+    public void setUpdated(List<UpdatedResult> updated) {
+      this.updated = updated;
+    }
+
+    public List<Integer> getNotModified() {
+      return notModified;
+    }
+
+    public void setNotModified(List<Integer> notModified) {
+      this.notModified = notModified;
+    }
+
+    public List<FailedResult> getFailed() {
+      return failed;
+    }
+
+    public void setFailed(List<FailedResult> failed) {
+      this.failed = failed;
+    }
+  }
+
+  private Results services = new Results();
+
+  public Results getServices() {
+    return services;
+  }
+
+  public void setServices(Results services) {
+    this.services = services;
+  }
+}
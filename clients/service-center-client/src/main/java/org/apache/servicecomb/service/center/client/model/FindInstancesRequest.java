@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.service.center.client.model;
+
+public class FindInstancesRequest {
+  public static class ServiceKey {
+    private String environment;
+
+    private String appId;
+
+    private String serviceName;
+
+    private String version;
+
+    public ServiceKey() {
+    }
+
+    public ServiceKey(String appId, String serviceName, String version) {
+      this.appId = appId;
+      this.serviceName = serviceName;
+      this.version = version;
+    }
+
+    public String getEnvironment() {
+      return environment;
+    }
+
+    public void setEnvironment(String environment) {
+      this.environment = environment;
+    }
+
+    public String getAppId() {
+      return appId;
+    }
+
+    public void setAppId(String appId) {
+      this.appId = appId;
+    }
+
+    public String getServiceName() {
+      return serviceName;
+    }
+
+    public void setServiceName(String serviceName) {
+      this.serviceName = serviceName;
+    }
+
+    public String getVersion() {
+      return version;
+    }
+
+    public void setVersion(String version) {
+      this.version = version;
+    }
+  }
+
+  private ServiceKey service;
+
+  private String rev;
+
+  public FindInstancesRequest() {
+  }
+
+  public FindInstancesRequest(String appId, String serviceName, String version, String rev) {
+    this.service = new ServiceKey(appId, serviceName, version);
+    this.rev = rev;
+  }
+
+  public ServiceKey getService() {
+    return service;
+  }
+
+  public void setService(ServiceKey service) {
+    this.service = service;
+  }
+
+  public String getRev() {
+    return rev;
+  }
+
+  public void setRev(String rev) {
+    this.rev = rev;
+  }
+}
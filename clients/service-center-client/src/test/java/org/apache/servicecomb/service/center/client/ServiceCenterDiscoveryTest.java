@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.service.center.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.servicecomb.service.center.client.DiscoveryEvents.InstanceChangedEvent;
+import org.apache.servicecomb.service.center.client.DiscoveryEvents.PullInstanceEvent;
+import org.apache.servicecomb.service.center.client.ServiceCenterDiscovery.SubscriptionKey;
+import org.apache.servicecomb.service.center.client.exception.OperationException;
+import org.apache.servicecomb.service.center.client.model.BatchFindInstancesRequest;
+import org.apache.servicecomb.service.center.client.model.BatchFindInstancesResponse;
+import org.apache.servicecomb.service.center.client.model.BatchFindInstancesResponse.UpdatedResult;
+import org.apache.servicecomb.service.center.client.model.FindMicroserviceInstancesResponse;
+import org.apache.servicecomb.service.center.client.model.Microservice;
+import org.apache.servicecomb.service.center.client.model.MicroserviceInstance;
+import org.apache.servicecomb.service.center.client.model.MicroserviceInstancesResponse;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.google.common.eventbus.EventBus;
+
+public class ServiceCenterDiscoveryTest {
+  ServiceCenterClient client = Mockito.mock(ServiceCenterClient.class);
+
+  EventBus eventBus = Mockito.mock(EventBus.class);
+
+  List<InstanceChangedEvent> events = new ArrayList<>();
+
+  ServiceCenterDiscovery discovery = new ServiceCenterDiscovery(client, eventBus);
+
+  public ServiceCenterDiscoveryTest() {
+    Mockito.doAnswer(invocation -> events.add((InstanceChangedEvent) invocation.getArguments()[0]))
+        .when(eventBus).post(Mockito.any(InstanceChangedEvent.class));
+    discovery.updateMyselfServiceId("consumerId");
+    Mockito.when(client.getMicroserviceByServiceId(Mockito.anyString())).thenReturn(new Microservice());
+  }
+
+  private MicroserviceInstance createInstance(String instanceId) {
+    MicroserviceInstance instance = new MicroserviceInstance();
+    instance.setInstanceId(instanceId);
+    instance.setServiceId("providerId");
+    return instance;
+  }
+
+  private void registerWithoutPull(String serviceName) {
+    // register will pull by single find, make it not modified
+    FindMicroserviceInstancesResponse notModified = new FindMicroserviceInstancesResponse();
+    notModified.setModified(false);
+    Mockito.when(client.findMicroserviceInstance("consumerId", "app", serviceName, "0+", null))
+        .thenReturn(notModified);
+    discovery.register(new SubscriptionKey("app", serviceName));
+  }
+
+  @Test
+  public void pullAllInstance_batch() {
+    registerWithoutPull("ms1");
+    registerWithoutPull("ms2");
+
+    BatchFindInstancesResponse response = new BatchFindInstancesResponse();
+    UpdatedResult updated = new UpdatedResult();
+    updated.setIndex(0);
+    updated.setRev("rev1");
+    updated.setInstances(Collections.singletonList(createInstance("i1")));
+    response.getServices().getUpdated().add(updated);
+    response.getServices().getNotModified().add(1);
+    ArgumentCaptor<BatchFindInstancesRequest> captor = ArgumentCaptor.forClass(BatchFindInstancesRequest.class);
+    Mockito.when(client.batchFindMicroserviceInstances(Mockito.eq("consumerId"), captor.capture()))
+        .thenReturn(response);
+
+    discovery.onPullInstanceEvent(new PullInstanceEvent());
+
+    Assert.assertEquals(2, captor.getValue().getServices().size());
+    Assert.assertEquals(1, events.size());
+    String serviceName = captor.getValue().getServices().get(0).getService().getServiceName();
+    Assert.assertEquals(serviceName, events.get(0).getServiceName());
+    Assert.assertEquals("i1", events.get(0).getInstances().get(0).getInstanceId());
+    Assert.assertEquals(1, discovery.getInstanceCache(new SubscriptionKey("app", serviceName)).size());
+  }
+
+  @Test
+  public void pullAllInstance_invalidIndexFallbackToSingleFind() {
+    registerWithoutPull("ms1");
+    BatchFindInstancesResponse response = new BatchFindInstancesResponse();
+    UpdatedResult updated = new UpdatedResult();
+    updated.setIndex(5);
+    updated.setRev("rev1");
+    response.getServices().getUpdated().add(updated);
+    Mockito.when(client.batchFindMicroserviceInstances(Mockito.eq("consumerId"),
+        Mockito.any(BatchFindInstancesRequest.class))).thenReturn(response);
+    FindMicroserviceInstancesResponse modified = new FindMicroserviceInstancesResponse();
+    modified.setModified(true);
+    modified.setRevision("rev1");
+    modified.setMicroserviceInstancesResponse(new MicroserviceInstancesResponse());
+    modified.getMicroserviceInstancesResponse().setInstances(Collections.singletonList(createInstance("i1")));
+    Mockito.when(client.findMicroserviceInstance("consumerId", "app", "ms1", "0+", null)).thenReturn(modified);
+
+    discovery.onPullInstanceEvent(new PullInstanceEvent());
+
+    Assert.assertEquals(1, events.size());
+    Assert.assertEquals("ms1", events.get(0).getServiceName());
+  }
+
+  @Test
+  public void pullAllInstance_fallbackToSingleFind() {
+    registerWithoutPull("ms1");
+    Mockito.when(client.batchFindMicroserviceInstances(Mockito.eq("consumerId"),
+        Mockito.any(BatchFindInstancesRequest.class))).thenThrow(new OperationException("not supported"));
+    FindMicroserviceInstancesResponse modified = new FindMicroserviceInstancesResponse();
+    modified.setModified(true);
+    modified.setRevision("rev1");
+    modified.setMicroserviceInstancesResponse(new MicroserviceInstancesResponse());
+    modified.getMicroserviceInstancesResponse().setInstances(Collections.singletonList(createInstance("i1")));
+    Mockito.when(client.findMicroserviceInstance("consumerId", "app", "ms1", "0+", null)).thenReturn(modified);
+
+    discovery.onPullInstanceEvent(new PullInstanceEvent());
+
+    Assert.assertEquals(1, events.size());
+    Assert.assertEquals("ms1", events.get(0).getServiceName());
+  }
+}
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response.Status;
@@ -40,6 +41,7 @@ import org.apache.servicecomb.core.Handler;
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.executor.PriorityTask;
 import org.apache.servicecomb.foundation.common.Holder;
 import org.apache.servicecomb.foundation.common.utils.JsonUtils;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
@@ -144,7 +146,8 @@ public abstract class AbstractRestInvocation {
     }
 
     try {
-      operationMeta.getExecutor().execute(() -> {
+      Executor executor = operationMeta.getExecutor();
+      executor.execute(PriorityTask.wrap(executor, invocation, () -> {
         synchronized (this.requestEx) {
           try {
             if (isInQueueTimeout()) {
@@ -168,7 +171,7 @@ public abstract class AbstractRestInvocation {
             sendFailResponse(e);
           }
         }
-      });
+      }));
     } catch (Throwable e) {
       LOGGER.error("failed to schedule invocation, message={}, executor={}.", e.getMessage(), e.getClass().getName());
       sendFailResponse(e);
@@ -72,9 +72,15 @@ public final class RestConst {
   public static final String UPLOAD_MAX_SIZE = "servicecomb.uploads.maxSize";
 
   // the size threshold after which files will be written to disk
-  // only available for servlet rest transport
+  // for vertx rest transport, files below the threshold are kept in memory, 0 means always write to disk
   public static final String UPLOAD_FILE_SIZE_THRESHOLD = "servicecomb.uploads.fileSizeThreshold";
 
+  // memory limit of files kept in memory of one request, only available for vertx rest transport
+  public static final String UPLOAD_MAX_MEMORY_SIZE_PER_REQUEST = "servicecomb.uploads.maxMemorySizePerRequest";
+
+  // memory limit of files kept in memory of all requests, only available for vertx rest transport
+  public static final String UPLOAD_MAX_MEMORY_SIZE = "servicecomb.uploads.maxMemorySize";
+
   public static final String PROVIDER_SCAN_REST_CONTROLLER = "servicecomb.provider.rest.scanRestController";
 
   public static final String PRINT_CODEC_ERROR_MESSGAGE = "servicecomb.codec.printErrorMessage";
@@ -60,7 +60,7 @@ public class RestProducerInvocationFlow extends ProducerInvocationFlow {
   @Override
   protected void sendResponse(Invocation invocation, Response response) {
     if (isDownloadFileResponseType(invocation, response)) {
-      responseEx.sendPart(PartUtils.getSinglePart(null, response.getResult()))
+      responseEx.sendPart(PartUtils.getSinglePart(null, response.getResult()), requestEx)
           .whenComplete((r, e) -> flushResponse(invocation.getMicroserviceQualifiedName()));
       return;
     }
@@ -42,16 +42,30 @@ public class UploadConfig {
   private long maxSize;
 
   /**
-   * the size threshold after which files will be written to disk, only available for servlet rest transport
+   * the size threshold after which files will be written to disk
    */
   private int fileSizeThreshold;
 
+  /**
+   * memory limit of files kept in memory of one request, only available for vertx rest transport
+   */
+  private long maxMemorySizePerRequest;
+
+  /**
+   * memory limit of files kept in memory of all requests, only available for vertx rest transport
+   */
+  private long maxMemorySize;
+
   public UploadConfig() {
     location = DynamicPropertyFactory.getInstance().getStringProperty(RestConst.UPLOAD_DIR, null).get();
     maxFileSize = DynamicPropertyFactory.getInstance().getLongProperty(RestConst.UPLOAD_MAX_FILE_SIZE, -1L).get();
     maxSize = DynamicPropertyFactory.getInstance().getLongProperty(RestConst.UPLOAD_MAX_SIZE, -1L).get();
     fileSizeThreshold = DynamicPropertyFactory.getInstance().getIntProperty(RestConst.UPLOAD_FILE_SIZE_THRESHOLD, 0)
         .get();
+    maxMemorySizePerRequest = DynamicPropertyFactory.getInstance()
+        .getLongProperty(RestConst.UPLOAD_MAX_MEMORY_SIZE_PER_REQUEST, 1024 * 1024L).get();
+    maxMemorySize = DynamicPropertyFactory.getInstance()
+        .getLongProperty(RestConst.UPLOAD_MAX_MEMORY_SIZE, 64 * 1024 * 1024L).get();
   }
 
   public String getLocation() {
@@ -86,6 +100,22 @@ public class UploadConfig {
     this.fileSizeThreshold = fileSizeThreshold;
   }
 
+  public long getMaxMemorySizePerRequest() {
+    return maxMemorySizePerRequest;
+  }
+
+  public void setMaxMemorySizePerRequest(long maxMemorySizePerRequest) {
+    this.maxMemorySizePerRequest = maxMemorySizePerRequest;
+  }
+
+  public long getMaxMemorySize() {
+    return maxMemorySize;
+  }
+
+  public void setMaxMemorySize(long maxMemorySize) {
+    this.maxMemorySize = maxMemorySize;
+  }
+
   public MultipartConfigElement toMultipartConfigElement() {
     String location = DynamicPropertyFactory.getInstance().getStringProperty(RestConst.UPLOAD_DIR, null).get();
     if (location == null) {
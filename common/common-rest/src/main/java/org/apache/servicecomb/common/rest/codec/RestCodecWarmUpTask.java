@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.rest.codec;
+
+import java.lang.reflect.Type;
+
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.warmup.WarmUpTask;
+import org.apache.servicecomb.swagger.engine.SwaggerProducerOperation;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * create jackson reader/writer for all producer operations<br>
+ * reader/writer prefetch root deserializer/serializer, so the serializers are built and cached in mapper
+ */
+public class RestCodecWarmUpTask implements WarmUpTask {
+  @Override
+  public int getOrder() {
+    return 200;
+  }
+
+  @Override
+  public void warmUp(SCBEngine scbEngine) {
+    if (scbEngine.getProducerMicroserviceMeta() == null) {
+      return;
+    }
+
+    ObjectMapper mapper = RestObjectMapperFactory.getRestObjectMapper();
+    for (OperationMeta operationMeta : scbEngine.getProducerMicroserviceMeta().getOperations()) {
+      SwaggerProducerOperation producerOperation = operationMeta.getSwaggerProducerOperation();
+      if (producerOperation != null && producerOperation.getSwaggerParameterTypes() != null) {
+        for (Type type : producerOperation.getSwaggerParameterTypes().values()) {
+          mapper.readerFor(mapper.constructType(type));
+        }
+      }
+
+      for (JavaType javaType : operationMeta.getResponsesMeta().getResponseMap().values()) {
+        mapper.writerFor(javaType);
+      }
+    }
+  }
+}
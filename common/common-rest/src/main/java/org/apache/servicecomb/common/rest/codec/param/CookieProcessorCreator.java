@@ -26,6 +26,7 @@ import javax.ws.rs.core.Response.Status;
 
 import org.apache.servicecomb.common.rest.codec.RestClientRequest;
 import org.apache.servicecomb.common.rest.codec.RestObjectMapperFactory;
+import org.apache.servicecomb.foundation.vertx.http.VertxServerRequestToHttpServletRequest;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 
 import com.fasterxml.jackson.databind.JavaType;
@@ -44,6 +45,14 @@ public class CookieProcessorCreator implements ParamValueProcessorCreator {
 
     @Override
     public Object getValue(HttpServletRequest request) {
+      if (request instanceof VertxServerRequestToHttpServletRequest) {
+        Object value = ((VertxServerRequestToHttpServletRequest) request).getCookieValue(paramPath);
+        if (value == null) {
+          value = checkRequiredAndDefaultValue();
+        }
+        return convertValue(value, targetType);
+      }
+
       Cookie[] cookies = request.getCookies();
       Object value = null;
       if (cookies == null || cookies.length == 0) {
@@ -26,6 +26,7 @@ import javax.ws.rs.core.Response.Status;
 
 import org.apache.servicecomb.common.rest.codec.RestClientRequest;
 import org.apache.servicecomb.common.rest.codec.RestObjectMapperFactory;
+import org.apache.servicecomb.foundation.vertx.http.VertxServerRequestToHttpServletRequest;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +60,10 @@ public class HeaderProcessorCreator implements ParamValueProcessorCreator {
     @Override
     public Object getValue(HttpServletRequest request) {
       if (repeatedType) {
+        if (request instanceof VertxServerRequestToHttpServletRequest) {
+          return convertValue(((VertxServerRequestToHttpServletRequest) request).getHeaderList(paramPath), targetType);
+        }
+
         Enumeration<String> headerValues = request.getHeaders(paramPath);
         if (headerValues == null) {
           //Even if the paramPath does not exist, headerValues won't be null at now
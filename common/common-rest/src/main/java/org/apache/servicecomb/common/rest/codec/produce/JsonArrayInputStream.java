@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.rest.codec.produce;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * encode elements of a {@link Stream} to json array lazily<br>
+ * only a small batch of encoded elements is kept in memory, no matter how many elements the stream has
+ */
+public class JsonArrayInputStream extends InputStream {
+  private static final int BATCH_SIZE = 8 * 1024;
+
+  private static final byte[] NULL_BYTES = "null".getBytes(StandardCharsets.US_ASCII);
+
+  static class BatchOutputStream extends ByteArrayOutputStream {
+    BatchOutputStream() {
+      super(BATCH_SIZE);
+    }
+
+    byte[] getBuf() {
+      return buf;
+    }
+  }
+
+  private final ProduceProcessor produceProcessor;
+
+  private final Stream<?> stream;
+
+  private final Iterator<?> iterator;
+
+  private final BatchOutputStream batch = new BatchOutputStream();
+
+  private int readIndex;
+
+  private boolean first = true;
+
+  private boolean finished;
+
+  public JsonArrayInputStream(ProduceProcessor produceProcessor, Stream<?> stream) {
+    this.produceProcessor = produceProcessor;
+    this.stream = stream;
+    this.iterator = stream.iterator();
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!ensureBatch()) {
+      return -1;
+    }
+
+    return batch.getBuf()[readIndex++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+
+    if (!ensureBatch()) {
+      return -1;
+    }
+
+    int count = Math.min(len, batch.size() - readIndex);
+    System.arraycopy(batch.getBuf(), readIndex, b, off, count);
+    readIndex += count;
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return batch.size() - readIndex;
+  }
+
+  private boolean ensureBatch() throws IOException {
+    if (readIndex < batch.size()) {
+      return true;
+    }
+
+    if (finished) {
+      return false;
+    }
+
+    batch.reset();
+    readIndex = 0;
+    if (first) {
+      batch.write('[');
+    }
+
+    while (batch.size() < BATCH_SIZE && iterator.hasNext()) {
+      if (!first) {
+        batch.write(',');
+      }
+      first = false;
+      writeElement(iterator.next());
+    }
+
+    if (batch.size() < BATCH_SIZE) {
+      // means no more elements
+      batch.write(']');
+      finished = true;
+    }
+    return true;
+  }
+
+  private void writeElement(Object element) throws IOException {
+    if (element == null) {
+      batch.write(NULL_BYTES);
+      return;
+    }
+
+    try {
+      produceProcessor.encodeResponse(batch, element);
+    } catch (IOException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException("Failed to encode element of stream.", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    stream.close();
+  }
+}
@@ -20,6 +20,7 @@ package org.apache.servicecomb.common.rest.codec.produce;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.foundation.vertx.stream.BufferInputStream;
 import org.apache.servicecomb.foundation.vertx.stream.BufferOutputStream;
 
@@ -32,6 +33,13 @@ public interface ProduceProcessor {
 
   int getOrder();
 
+  /**
+   * value of Content-Type header of response
+   */
+  default String getContentType() {
+    return getName() + "; charset=utf-8";
+  }
+
   default String getSerializationView() {
     return ProduceProcessorManager.DEFAULT_SERIAL_CLASS;
   }
@@ -50,6 +58,14 @@ public interface ProduceProcessor {
 
   void doEncodeResponse(OutputStream output, Object result) throws Exception;
 
+  /**
+   * for processors depend on operation schema, eg: protobuf
+   */
+  default void encodeResponse(Invocation invocation, int statusCode, OutputStream output, Object result)
+      throws Exception {
+    encodeResponse(output, result);
+  }
+
   default Buffer encodeResponse(Object result) throws Exception {
     if (null == result) {
       return null;
@@ -67,6 +83,14 @@ public interface ProduceProcessor {
 
   Object doDecodeResponse(InputStream input, JavaType type) throws Exception;
 
+  /**
+   * for processors depend on operation schema, eg: protobuf
+   */
+  default Object decodeResponse(Invocation invocation, int statusCode, Buffer buffer, JavaType type)
+      throws Exception {
+    return decodeResponse(buffer, type);
+  }
+
   default Object decodeResponse(Buffer buffer, JavaType type) throws Exception {
     if (buffer.length() == 0) {
       return null;
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.rest.codec.produce;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.servicecomb.codec.protobuf.definition.OperationProtobuf;
+import org.apache.servicecomb.codec.protobuf.definition.ProtobufManager;
+import org.apache.servicecomb.core.Invocation;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * encode/decode response body by the same protobuf schema of highway<br>
+ * schema is bound to operation, so only work with invocation
+ */
+public class ProduceProtobufProcessor implements ProduceProcessor {
+  public static final String MEDIA_TYPE = "application/x-protobuf";
+
+  @Override
+  public String getName() {
+    return MEDIA_TYPE;
+  }
+
+  // binary, no charset
+  @Override
+  public String getContentType() {
+    return MEDIA_TYPE;
+  }
+
+  @Override
+  public int getOrder() {
+    return 0;
+  }
+
+  @Override
+  public void encodeResponse(Invocation invocation, int statusCode, OutputStream output, Object result)
+      throws Exception {
+    if (invocation == null || result == null) {
+      encodeResponse(output, result);
+      return;
+    }
+
+    OperationProtobuf operationProtobuf = ProtobufManager.getOrCreateOperation(invocation);
+    output.write(operationProtobuf.findResponseRootSerializer(statusCode).serialize(result));
+  }
+
+  @Override
+  public Object decodeResponse(Invocation invocation, int statusCode, Buffer buffer, JavaType type)
+      throws Exception {
+    if (invocation == null) {
+      return decodeResponse(buffer, type);
+    }
+
+    if (buffer.length() == 0) {
+      return null;
+    }
+
+    OperationProtobuf operationProtobuf = ProtobufManager.getOrCreateOperation(invocation);
+    return operationProtobuf.findResponseRootDeserializer(statusCode).deserialize(buffer.getBytes(), type);
+  }
+
+  @Override
+  public void doEncodeResponse(OutputStream output, Object result) {
+    throw new IllegalStateException("protobuf response can only be encoded with invocation.");
+  }
+
+  @Override
+  public Object doDecodeResponse(InputStream input, JavaType type) {
+    throw new IllegalStateException("protobuf response can only be decoded with invocation.");
+  }
+}
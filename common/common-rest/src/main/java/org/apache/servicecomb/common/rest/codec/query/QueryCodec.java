@@ -34,7 +34,26 @@ import org.springframework.core.Ordered;
  */
 public interface QueryCodec extends Ordered {
   static String encodeValue(@Nonnull Object value) throws UnsupportedEncodingException {
-    return URLEncoder.encode(value.toString(), StandardCharsets.UTF_8.name());
+    String str = value.toString();
+    if (isUnreserved(str)) {
+      return str;
+    }
+    return URLEncoder.encode(str, StandardCharsets.UTF_8.name());
+  }
+
+  /**
+   * chars that will not be changed by {@link URLEncoder}, most query values are made by them only
+   */
+  static boolean isUnreserved(String str) {
+    for (int idx = 0; idx < str.length(); idx++) {
+      char ch = str.charAt(idx);
+      if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9')
+          || ch == '-' || ch == '_' || ch == '.' || ch == '*') {
+        continue;
+      }
+      return false;
+    }
+    return true;
   }
 
   // can not replaced by value.toString() because of date serialize
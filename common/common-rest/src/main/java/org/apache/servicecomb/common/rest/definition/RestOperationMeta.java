@@ -33,6 +33,7 @@ import org.apache.servicecomb.common.rest.codec.RestObjectMapperFactory;
 import org.apache.servicecomb.common.rest.codec.param.FormProcessorCreator.PartProcessor;
 import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
 import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessorManager;
+import org.apache.servicecomb.common.rest.codec.produce.ProduceProtobufProcessor;
 import org.apache.servicecomb.common.rest.definition.path.PathRegExp;
 import org.apache.servicecomb.common.rest.definition.path.URLPathBuilder;
 import org.apache.servicecomb.core.Const;
@@ -271,7 +272,11 @@ public class RestOperationMeta {
       }
     }
 
-    defaultProcessor = produceProcessorMap.values().stream().findFirst().get();
+    // protobuf must be required by accept explicitly, not used as default
+    defaultProcessor = produceProcessorMap.values().stream()
+        .filter(processor -> !ProduceProtobufProcessor.MEDIA_TYPE.equals(processor.getName()))
+        .findFirst()
+        .orElseGet(() -> produceProcessorMap.values().iterator().next());
     produceProcessorMap.putIfAbsent(MediaType.WILDCARD, defaultProcessor);
   }
 
@@ -29,6 +29,10 @@ public class StaticUrlParamWriter implements UrlParamWriter {
     this.staticPath = staticPath;
   }
 
+  public String getPath() {
+    return staticPath;
+  }
+
   @Override
   public void write(URLPathStringBuilder builder, Map<String, Object> args) {
     builder.appendPath(staticPath);
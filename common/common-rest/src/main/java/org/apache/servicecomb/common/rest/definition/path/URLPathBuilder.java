@@ -37,9 +37,22 @@ public class URLPathBuilder {
 
   private static final String SLASH = "/";
 
+  // builders are reused in the same thread, to avoid allocate and grow buffer for every invocation
+  private static final ThreadLocal<URLPathStringBuilder> BUILDERS = ThreadLocal.withInitial(URLPathStringBuilder::new);
+
+  // not null when there is no path variable, no need to build path for every invocation
+  private String staticPath;
+
   public URLPathBuilder(String rawPath, Map<String, RestParam> paramMap) {
     initPathWriterList(rawPath, paramMap);
     initQueryWriterList(paramMap);
+    initStaticPath();
+  }
+
+  private void initStaticPath() {
+    if (pathParamWriterList.size() == 1 && pathParamWriterList.get(0) instanceof StaticUrlParamWriter) {
+      staticPath = ((StaticUrlParamWriter) pathParamWriterList.get(0)).getPath();
+    }
   }
 
   private void initQueryWriterList(Map<String, RestParam> paramMap) {
@@ -93,16 +106,28 @@ public class URLPathBuilder {
   }
 
   public String createRequestPath(Map<String, Object> args) throws Exception {
-    URLPathStringBuilder builder = new URLPathStringBuilder();
+    if (staticPath != null && queryParamWriterList.isEmpty()) {
+      return staticPath;
+    }
 
-    genPathString(builder, args);
+    URLPathStringBuilder builder = BUILDERS.get().reset();
+
+    if (staticPath != null) {
+      builder.appendPath(staticPath);
+    } else {
+      genPathString(builder, args);
+    }
     genQueryString(builder, args);
 
     return builder.build();
   }
 
   public String createPathString(Map<String, Object> args) throws Exception {
-    URLPathStringBuilder builder = new URLPathStringBuilder();
+    if (staticPath != null) {
+      return staticPath;
+    }
+
+    URLPathStringBuilder builder = BUILDERS.get().reset();
     genPathString(builder, args);
     return builder.build();
   }
@@ -120,6 +145,8 @@ public class URLPathBuilder {
   }
 
   public static class URLPathStringBuilder {
+    private static final int MAX_REUSE_CAPACITY = 4096;
+
     private StringBuilder stringBuilder = new StringBuilder();
 
     private boolean queryPrefixNotWrite = true;
@@ -141,6 +168,16 @@ public class URLPathBuilder {
       return this;
     }
 
+    public URLPathStringBuilder reset() {
+      if (stringBuilder.capacity() > MAX_REUSE_CAPACITY) {
+        // not keep big buffer for the thread
+        stringBuilder = new StringBuilder();
+      }
+      stringBuilder.setLength(0);
+      queryPrefixNotWrite = true;
+      return this;
+    }
+
     public String build() {
       return stringBuilder.toString();
     }
@@ -17,26 +17,37 @@
 
 package org.apache.servicecomb.common.rest.filter.inner;
 
+import static com.google.common.net.HttpHeaders.CONTENT_ENCODING;
 import static com.google.common.net.HttpHeaders.CONTENT_LENGTH;
+import static com.google.common.net.HttpHeaders.ETAG;
+import static com.google.common.net.HttpHeaders.IF_NONE_MATCH;
 import static com.google.common.net.HttpHeaders.TRANSFER_ENCODING;
 import static org.apache.servicecomb.core.exception.Exceptions.toProducerResponse;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 import javax.servlet.http.Part;
+import javax.ws.rs.core.Response.Status;
 
 import org.apache.servicecomb.common.rest.HttpTransportContext;
 import org.apache.servicecomb.common.rest.RestConst;
 import org.apache.servicecomb.common.rest.codec.RestCodec;
+import org.apache.servicecomb.common.rest.codec.produce.JsonArrayInputStream;
+import org.apache.servicecomb.common.rest.codec.produce.ProduceJsonProcessor;
 import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.filter.FilterNode;
 import org.apache.servicecomb.core.filter.ProducerFilter;
+import org.apache.servicecomb.core.filter.cache.CachedResponse;
+import org.apache.servicecomb.core.filter.cache.CachedResponse.EncodedBody;
 import org.apache.servicecomb.foundation.common.utils.AsyncUtils;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletResponseEx;
@@ -46,6 +57,7 @@ import org.springframework.stereotype.Component;
 
 import io.netty.buffer.Unpooled;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 
 @Component
 public class RestServerCodecFilter implements ProducerFilter {
@@ -89,12 +101,17 @@ public class RestServerCodecFilter implements ProducerFilter {
     HttpServletResponseEx responseEx = transportContext.getResponseEx();
     boolean download = isDownloadFileResponseType(invocation, response);
 
-    return encodeResponse(response, download, produceProcessor, responseEx);
+    return encodeResponse(invocation, response, download, produceProcessor, responseEx);
   }
 
-  @SuppressWarnings("deprecation")
   public static CompletableFuture<Response> encodeResponse(Response response, boolean download,
       ProduceProcessor produceProcessor, HttpServletResponseEx responseEx) {
+    return encodeResponse(null, response, download, produceProcessor, responseEx);
+  }
+
+  @SuppressWarnings("deprecation")
+  public static CompletableFuture<Response> encodeResponse(Invocation invocation, Response response, boolean download,
+      ProduceProcessor produceProcessor, HttpServletResponseEx responseEx) {
     responseEx.setStatus(response.getStatusCode(), response.getReasonPhrase());
     copyHeadersToHttpResponse(response.getHeaders(), responseEx);
 
@@ -102,11 +119,27 @@ public class RestServerCodecFilter implements ProducerFilter {
       return CompletableFuture.completedFuture(response);
     }
 
-    responseEx.setContentType(produceProcessor.getName() + "; charset=utf-8");
+    responseEx.setContentType(produceProcessor.getContentType());
+    CachedResponse cachedResponse = invocation == null ? null :
+        invocation.getLocalContext(CachedResponse.LOCAL_CONTEXT_KEY);
+    // stream result is never cached, see ResponseCacheManager.isCacheable
+    if (response.getResult() instanceof Stream) {
+      if (isStreamEncodable(produceProcessor)) {
+        return responseEx.sendStream(new JsonArrayInputStream(produceProcessor, response.getResult()))
+            .thenApply(v -> response);
+      }
+
+      response.setResult(collectStream(response.getResult()));
+    }
+    if (cachedResponse != null) {
+      return encodeCachedResponse(invocation, response, cachedResponse, produceProcessor, responseEx);
+    }
+
     try (BufferOutputStream output = new BufferOutputStream(Unpooled.compositeBuffer())) {
-      produceProcessor.encodeResponse(output, response.getResult());
+      produceProcessor.encodeResponse(invocation, response.getStatusCode(), output, response.getResult());
 
       responseEx.setBodyBuffer(output.getBuffer());
+      checkCompressionThreshold(invocation, response, responseEx, output.length());
 
       return CompletableFuture.completedFuture(response);
     } catch (Throwable e) {
@@ -114,6 +147,65 @@ public class RestServerCodecFilter implements ProducerFilter {
     }
   }
 
+  /**
+   * reuse encoded body of cached response, and answer 304 if client already have it
+   */
+  @SuppressWarnings("deprecation")
+  protected static CompletableFuture<Response> encodeCachedResponse(Invocation invocation, Response response,
+      CachedResponse cachedResponse, ProduceProcessor produceProcessor, HttpServletResponseEx responseEx) {
+    EncodedBody encodedBody = cachedResponse.findEncodedBody(produceProcessor.getName());
+    if (encodedBody == null) {
+      try (BufferOutputStream output = new BufferOutputStream()) {
+        produceProcessor.encodeResponse(invocation, response.getStatusCode(), output, response.getResult());
+        encodedBody = cachedResponse.putEncodedBody(produceProcessor.getName(), output.getBuffer().getBytes());
+      } catch (Throwable e) {
+        return AsyncUtils.completeExceptionally(e);
+      }
+    }
+
+    responseEx.setHeader(ETAG, encodedBody.getEtag());
+    HttpServletRequestEx requestEx = invocation.getRequestEx();
+    if (requestEx != null && isEtagMatch(requestEx.getHeader(IF_NONE_MATCH), encodedBody.getEtag())) {
+      responseEx.setStatus(Status.NOT_MODIFIED.getStatusCode(), Status.NOT_MODIFIED.getReasonPhrase());
+      return CompletableFuture.completedFuture(Response.status(Status.NOT_MODIFIED).setHeaders(response.getHeaders()));
+    }
+
+    // wrap without copy, every response has its own reader index
+    responseEx.setBodyBuffer(Buffer.buffer(Unpooled.wrappedBuffer(encodedBody.getBytes())));
+    checkCompressionThreshold(invocation, response, responseEx, encodedBody.getBytes().length);
+    return CompletableFuture.completedFuture(response);
+  }
+
+  static boolean isEtagMatch(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+
+    for (String candidate : ifNoneMatch.split(",")) {
+      candidate = candidate.trim();
+      if (candidate.equals("*") || candidate.equals(etag) || candidate.equals("W/" + etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * compression of rest response is done by http server when client accept it,
+   * compress small body gains nothing but cpu cost
+   */
+  public static void checkCompressionThreshold(Invocation invocation, Response response,
+      HttpServletResponseEx responseEx, int bodyLength) {
+    if (invocation == null || invocation.getOperationMeta() == null
+        || response.getHeader(CONTENT_ENCODING) != null) {
+      return;
+    }
+
+    if (bodyLength < invocation.getOperationMeta().getConfig().getCompressionMinSize()) {
+      responseEx.disableCompression();
+    }
+  }
+
   /**
    * Check whether this response is a downloaded file response,
    * according to the schema recorded in {@link org.apache.servicecomb.swagger.invocation.response.ResponsesMeta}
@@ -125,6 +217,20 @@ public class RestServerCodecFilter implements ProducerFilter {
         invocation.findResponseType(response.getStatusCode()).getRawClass());
   }
 
+  /**
+   * elements of stream can be encoded one by one to a chunked json array,
+   * other produce processors need the whole body
+   */
+  public static boolean isStreamEncodable(ProduceProcessor produceProcessor) {
+    return produceProcessor instanceof ProduceJsonProcessor;
+  }
+
+  public static List<?> collectStream(Stream<?> stream) {
+    try (Stream<?> autoClose = stream) {
+      return autoClose.collect(Collectors.toList());
+    }
+  }
+
   public static void copyHeadersToHttpResponse(MultiMap headers, HttpServletResponseEx responseEx) {
     if (headers == null) {
       return;
@@ -17,13 +17,18 @@
 
 package org.apache.servicecomb.common.rest.filter.inner;
 
+import static org.apache.servicecomb.common.rest.filter.inner.RestServerCodecFilter.checkCompressionThreshold;
+import static org.apache.servicecomb.common.rest.filter.inner.RestServerCodecFilter.collectStream;
 import static org.apache.servicecomb.common.rest.filter.inner.RestServerCodecFilter.isDownloadFileResponseType;
+import static org.apache.servicecomb.common.rest.filter.inner.RestServerCodecFilter.isStreamEncodable;
 
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.servicecomb.common.rest.RestConst;
 import org.apache.servicecomb.common.rest.codec.RestCodec;
+import org.apache.servicecomb.common.rest.codec.produce.JsonArrayInputStream;
 import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
 import org.apache.servicecomb.common.rest.filter.HttpServerFilter;
@@ -75,16 +80,24 @@ public class ServerRestArgsFilter implements HttpServerFilter {
     }
 
     if (null != invocation && isDownloadFileResponseType(invocation, response)) {
-      return responseEx.sendPart(PartUtils.getSinglePart(null, body));
+      return responseEx.sendPart(PartUtils.getSinglePart(null, body), invocation.getRequestEx());
     }
 
-    responseEx.setContentType(produceProcessor.getName() + "; charset=utf-8");
+    responseEx.setContentType(produceProcessor.getContentType());
+    if (body instanceof Stream) {
+      if (isStreamEncodable(produceProcessor)) {
+        return responseEx.sendStream(new JsonArrayInputStream(produceProcessor, (Stream<?>) body));
+      }
+
+      body = collectStream((Stream<?>) body);
+    }
 
     CompletableFuture<Void> future = new CompletableFuture<>();
     try (BufferOutputStream output = new BufferOutputStream(Unpooled.compositeBuffer())) {
-      produceProcessor.encodeResponse(output, body);
+      produceProcessor.encodeResponse(invocation, response.getStatusCode(), output, body);
 
       responseEx.setBodyBuffer(output.getBuffer());
+      checkCompressionThreshold(invocation, response, responseEx, output.length());
       future.complete(null);
     } catch (Throwable e) {
       future.completeExceptionally(ExceptionFactory.convertProducerException(e));
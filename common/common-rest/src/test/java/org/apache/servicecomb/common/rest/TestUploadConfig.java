@@ -43,6 +43,8 @@ public class TestUploadConfig {
     Assert.assertEquals(-1L, uploadConfig.getMaxFileSize());
     Assert.assertEquals(-1L, uploadConfig.getMaxSize());
     Assert.assertEquals(0, uploadConfig.getFileSizeThreshold());
+    Assert.assertEquals(1024 * 1024L, uploadConfig.getMaxMemorySizePerRequest());
+    Assert.assertEquals(64 * 1024 * 1024L, uploadConfig.getMaxMemorySize());
   }
 
   @Test
@@ -69,6 +71,8 @@ public class TestUploadConfig {
     ArchaiusUtils.setProperty(RestConst.UPLOAD_MAX_FILE_SIZE, 1);
     ArchaiusUtils.setProperty(RestConst.UPLOAD_MAX_SIZE, 2);
     ArchaiusUtils.setProperty(RestConst.UPLOAD_FILE_SIZE_THRESHOLD, 3);
+    ArchaiusUtils.setProperty(RestConst.UPLOAD_MAX_MEMORY_SIZE_PER_REQUEST, 4);
+    ArchaiusUtils.setProperty(RestConst.UPLOAD_MAX_MEMORY_SIZE, 5);
 
     UploadConfig uploadConfig = new UploadConfig();
     MultipartConfigElement multipartConfigElement = uploadConfig.toMultipartConfigElement();
@@ -77,6 +81,8 @@ public class TestUploadConfig {
     Assert.assertEquals(1, uploadConfig.getMaxFileSize());
     Assert.assertEquals(2, uploadConfig.getMaxSize());
     Assert.assertEquals(3, uploadConfig.getFileSizeThreshold());
+    Assert.assertEquals(4, uploadConfig.getMaxMemorySizePerRequest());
+    Assert.assertEquals(5, uploadConfig.getMaxMemorySize());
 
     Assert.assertEquals("upload", multipartConfigElement.getLocation());
     Assert.assertEquals(1, multipartConfigElement.getMaxFileSize());
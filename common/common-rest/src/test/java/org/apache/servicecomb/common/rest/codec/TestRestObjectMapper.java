@@ -27,15 +27,31 @@ import org.apache.servicecomb.foundation.common.utils.RestObjectMapper;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import io.vertx.core.json.JsonObject;
 
 public class TestRestObjectMapper {
+  enum PlainEnum {
+    RED {
+      @Override
+      public String toString() {
+        return "red";
+      }
+    },
+    BLUE
+  }
+
+  enum AnnotatedEnum {
+    @JsonProperty("r")
+    RED
+  }
 
   @Test
   public void testFormateDate() throws Exception {
@@ -92,4 +108,20 @@ public class TestRestObjectMapper {
       Assert.fail();
     }
   }
+
+  @Test
+  public void testConvertToString() throws Exception {
+    RestObjectMapper mapper = new RestObjectMapper();
+    Assert.assertEquals("1", mapper.convertToString(1));
+    Assert.assertEquals("-1", mapper.convertToString(-1L));
+    Assert.assertEquals("true", mapper.convertToString(true));
+    Assert.assertEquals("1.5", mapper.convertToString(1.5d));
+    Assert.assertEquals("RED", mapper.convertToString(PlainEnum.RED));
+    Assert.assertEquals("BLUE", mapper.convertToString(PlainEnum.BLUE));
+    Assert.assertEquals("r", mapper.convertToString(AnnotatedEnum.RED));
+    Assert.assertEquals("2017-07-21T17:32:28.000+00:00", mapper.convertToString(new Date(1500658348000L)));
+
+    mapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+    Assert.assertEquals("red", mapper.convertToString(PlainEnum.RED));
+  }
 }
@@ -26,6 +26,7 @@ import javax.servlet.http.HttpServletRequest;
 
 import org.apache.servicecomb.common.rest.codec.RestClientRequest;
 import org.apache.servicecomb.common.rest.codec.param.CookieProcessorCreator.CookieProcessor;
+import org.apache.servicecomb.foundation.vertx.http.VertxServerRequestToHttpServletRequest;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -76,6 +77,21 @@ public class TestCookieProcessor {
     Assert.assertNull(value);
   }
 
+  @Test
+  public void testGetValueFromVertx(@Mocked VertxServerRequestToHttpServletRequest vertxRequest) throws Exception {
+    new Expectations() {
+      {
+        vertxRequest.getCookieValue("c1");
+        result = "c1v";
+        vertxRequest.getCookieValue("c2");
+        result = null;
+      }
+    };
+
+    Assert.assertEquals("c1v", createProcessor("c1", String.class).getValue(vertxRequest));
+    Assert.assertEquals("c2d", createProcessor("c2", String.class, "c2d", false).getValue(vertxRequest));
+  }
+
   @Test
   public void testNoCookieAndRequired() throws Exception {
     new Expectations() {
@@ -30,6 +30,7 @@ import javax.servlet.http.HttpServletRequest;
 
 import org.apache.servicecomb.common.rest.codec.RestClientRequest;
 import org.apache.servicecomb.common.rest.codec.param.HeaderProcessorCreator.HeaderProcessor;
+import org.apache.servicecomb.foundation.vertx.http.VertxServerRequestToHttpServletRequest;
 import org.hamcrest.Matchers;
 import org.junit.Assert;
 import org.junit.Test;
@@ -111,6 +112,21 @@ public class TestHeaderProcessor {
     Assert.assertEquals(strDate, com.fasterxml.jackson.databind.util.ISO8601Utils.format((Date) value));
   }
 
+  @Test
+  public void testGetValueContainerTypeFromVertx(@Mocked VertxServerRequestToHttpServletRequest vertxRequest)
+      throws Exception {
+    new Expectations() {
+      {
+        vertxRequest.getHeaderList("h1");
+        result = Arrays.asList("h1v1", "h1v2");
+      }
+    };
+
+    HeaderProcessor processor = createProcessor("h1", String[].class, null, false);
+    String[] value = (String[]) processor.getValue(vertxRequest);
+    Assert.assertThat(value, Matchers.arrayContaining("h1v1", "h1v2"));
+  }
+
   @Test
   public void testGetValueContainerTypeNull() throws Exception {
     new Expectations() {
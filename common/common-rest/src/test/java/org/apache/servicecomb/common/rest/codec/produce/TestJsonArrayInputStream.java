@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.rest.codec.produce;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.servicecomb.common.rest.codec.RestObjectMapperFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+public class TestJsonArrayInputStream {
+  ProduceProcessor produceProcessor = ProduceProcessorManager.INSTANCE.findDefaultJsonProcessor();
+
+  private String readAll(Stream<?> stream) throws IOException {
+    try (InputStream inputStream = new JsonArrayInputStream(produceProcessor, stream)) {
+      return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+    }
+  }
+
+  @Test
+  public void empty() throws IOException {
+    Assert.assertEquals("[]", readAll(Stream.empty()));
+  }
+
+  @Test
+  public void elements() throws IOException {
+    Assert.assertEquals("[\"a\",null,1]", readAll(Stream.of("a", null, 1)));
+  }
+
+  @Test
+  public void crossBatches() throws IOException {
+    List<Integer> expected = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+    String json = readAll(expected.stream());
+
+    List<Integer> actual = RestObjectMapperFactory.getRestObjectMapper()
+        .readValue(json, new TypeReference<List<Integer>>() {
+        });
+    Assert.assertEquals(expected, actual);
+  }
+
+  @Test
+  public void readByByte() throws IOException {
+    try (InputStream inputStream = new JsonArrayInputStream(produceProcessor, Arrays.asList(1, 2).stream())) {
+      StringBuilder sb = new StringBuilder();
+      for (int b = inputStream.read(); b != -1; b = inputStream.read()) {
+        sb.append((char) b);
+      }
+      Assert.assertEquals("[1,2]", sb.toString());
+    }
+  }
+
+  @Test
+  public void closeStream() throws IOException {
+    AtomicBoolean closed = new AtomicBoolean();
+    readAll(Stream.of(1).onClose(() -> closed.set(true)));
+
+    Assert.assertTrue(closed.get());
+  }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.servicecomb.common.rest.codec.produce;
 
+import org.hamcrest.Matchers;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -26,4 +27,10 @@ public class TestProduceProcessorManager {
     Assert.assertSame(ProduceProcessorManager.INSTANCE.findDefaultJsonProcessor(),
         ProduceProcessorManager.INSTANCE.findDefaultProcessor());
   }
+
+  @Test
+  public void testProtobuf() {
+    Assert.assertThat(ProduceProcessorManager.INSTANCE.findProcessor(ProduceProtobufProcessor.MEDIA_TYPE, null),
+        Matchers.instanceOf(ProduceProtobufProcessor.class));
+  }
 }
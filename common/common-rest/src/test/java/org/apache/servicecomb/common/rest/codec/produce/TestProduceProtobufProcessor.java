@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.common.rest.codec.produce;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+
+import org.apache.servicecomb.config.ConfigUtil;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.core.bootstrap.SCBBootstrap;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.provider.consumer.ReferenceConfig;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.foundation.test.scaffolding.model.User;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.vertx.core.buffer.Buffer;
+
+public class TestProduceProtobufProcessor {
+  public static class ProtobufSchema {
+    public User echo(User user) {
+      return user;
+    }
+  }
+
+  static SCBEngine scbEngine;
+
+  static OperationMeta operationMeta;
+
+  ProduceProtobufProcessor processor = new ProduceProtobufProcessor();
+
+  @BeforeClass
+  public static void classSetup() {
+    ConfigUtil.installDynamicConfig();
+    scbEngine = SCBBootstrap.createSCBEngineForTest()
+        .addProducerMeta("pb", new ProtobufSchema())
+        .run();
+    operationMeta = scbEngine.getProducerMicroserviceMeta().operationMetas().get("test.pb.echo");
+  }
+
+  @AfterClass
+  public static void classTeardown() {
+    scbEngine.destroy();
+    ArchaiusUtils.resetConfig();
+  }
+
+  @Test
+  public void contentType() {
+    Assert.assertEquals(ProduceProtobufProcessor.MEDIA_TYPE, processor.getContentType());
+  }
+
+  @Test
+  public void encodeDecode() throws Exception {
+    Invocation producerInvocation = new Invocation(null, operationMeta, Collections.emptyMap());
+    Invocation consumerInvocation = new Invocation((ReferenceConfig) null, operationMeta,
+        operationMeta.buildBaseConsumerRuntimeType(), Collections.emptyMap());
+    User friend = new User();
+    friend.name = "friend";
+    User user = new User();
+    user.name = "user";
+    user.friends = Collections.singletonList(friend);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    processor.encodeResponse(producerInvocation, 200, output, user);
+    User decoded = (User) processor.decodeResponse(consumerInvocation, 200, Buffer.buffer(output.toByteArray()),
+        consumerInvocation.findResponseType(200));
+
+    Assert.assertEquals("user", decoded.name);
+    Assert.assertEquals("friend", decoded.friends.get(0).name);
+  }
+
+  @Test
+  public void decodeEmpty() throws Exception {
+    Invocation consumerInvocation = new Invocation((ReferenceConfig) null, operationMeta,
+        operationMeta.buildBaseConsumerRuntimeType(), Collections.emptyMap());
+
+    Assert.assertNull(processor.decodeResponse(consumerInvocation, 200, Buffer.buffer(),
+        consumerInvocation.findResponseType(200)));
+  }
+}
@@ -113,6 +113,44 @@ public class URLPathBuilderTest {
         urlPathBuilder.createPathString(parameters));
   }
 
+  @Test
+  public void testStaticPath() throws Exception {
+    Map<String, RestParam> paramMap = new LinkedHashMap<>();
+    URLPathBuilder urlPathBuilder = new URLPathBuilder("path/", paramMap);
+    Map<String, Object> parameters = new HashMap<>();
+    String path = urlPathBuilder.createRequestPath(parameters);
+    Assert.assertEquals("/path", path);
+    Assert.assertSame(path, urlPathBuilder.createRequestPath(parameters));
+    Assert.assertSame(path, urlPathBuilder.createPathString(parameters));
+
+    addParam("q", String.class, QueryParameter::new, paramMap);
+    urlPathBuilder = new URLPathBuilder("/path", paramMap);
+    parameters.put("q", "a b");
+    Assert.assertEquals("/path?q=a+b", urlPathBuilder.createRequestPath(parameters));
+    parameters.put("q", "ab");
+    Assert.assertEquals("/path?q=ab", urlPathBuilder.createRequestPath(parameters));
+    Assert.assertEquals("/path", urlPathBuilder.createPathString(parameters));
+  }
+
+  @Test
+  public void testReuseBuilder() throws Exception {
+    Map<String, RestParam> paramMap = new LinkedHashMap<>();
+    addParam("p", String.class, PathParameter::new, paramMap);
+    addParam("q", int.class, QueryParameter::new, paramMap);
+
+    URLPathBuilder urlPathBuilder = new URLPathBuilder("/path/{p}", paramMap);
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("p", "p1");
+    parameters.put("q", 1);
+    Assert.assertEquals("/path/p1?q=1", urlPathBuilder.createRequestPath(parameters));
+
+    parameters.put("p", "p2");
+    parameters.remove("q");
+    Assert.assertEquals("/path/p2", urlPathBuilder.createRequestPath(parameters));
+    parameters.put("q", 2);
+    Assert.assertEquals("/path/p2?q=2", urlPathBuilder.createRequestPath(parameters));
+  }
+
   private void addParam(String paramName, Type paramType,
       ParameterConstructor constructor, Map<String, RestParam> paramMap) {
     Parameter parameter = constructor.construct();
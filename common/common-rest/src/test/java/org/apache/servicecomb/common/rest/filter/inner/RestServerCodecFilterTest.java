@@ -18,17 +18,27 @@
 package org.apache.servicecomb.common.rest.filter.inner;
 
 import static com.google.common.net.HttpHeaders.CONTENT_LENGTH;
+import static com.google.common.net.HttpHeaders.IF_NONE_MATCH;
 import static com.google.common.net.HttpHeaders.TRANSFER_ENCODING;
 import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
+import static javax.ws.rs.core.Response.Status.NOT_MODIFIED;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
 
 import org.apache.servicecomb.common.rest.HttpTransportContext;
 import org.apache.servicecomb.common.rest.RestConst;
+import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessor;
+import org.apache.servicecomb.common.rest.codec.produce.ProduceProcessorManager;
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
 import org.apache.servicecomb.config.ConfigUtil;
 import org.apache.servicecomb.core.Endpoint;
@@ -38,9 +48,12 @@ import org.apache.servicecomb.core.SCBStatus;
 import org.apache.servicecomb.core.bootstrap.SCBBootstrap;
 import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.core.filter.cache.CachedResponse;
+import org.apache.servicecomb.core.filter.cache.CachedResponse.EncodedBody;
 import org.apache.servicecomb.core.invocation.InvocationFactory;
 import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
 import org.apache.servicecomb.foundation.test.scaffolding.exception.RuntimeExceptionWithoutStackTrace;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletResponseEx;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.junit.AfterClass;
@@ -51,6 +64,7 @@ import org.junit.Test;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.Json;
 import mockit.Expectations;
 import mockit.Mocked;
@@ -218,4 +232,85 @@ public class RestServerCodecFilterTest {
       }
     };
   }
-}
\ No newline at end of file
+
+  @Test
+  public void should_send_stream_as_json_array() throws ExecutionException, InterruptedException, IOException {
+    new Expectations() {
+      {
+        responseEx.sendStream((InputStream) any);
+        result = CompletableFuture.completedFuture(null);
+      }
+    };
+    Response response = Response.ok(Stream.of("a", "b"));
+
+    RestServerCodecFilter.encodeResponse(response, false,
+        ProduceProcessorManager.INSTANCE.findDefaultJsonProcessor(), responseEx).get();
+
+    List<InputStream> bodies = new ArrayList<>();
+    new Verifications() {
+      {
+        responseEx.sendStream(withCapture(bodies));
+        responseEx.setBodyBuffer((Buffer) any);
+        times = 0;
+      }
+    };
+    assertThat(IOUtils.toString(bodies.get(0), StandardCharsets.UTF_8)).isEqualTo("[\"a\",\"b\"]");
+  }
+
+  @Test
+  public void should_collect_stream_when_processor_not_support_stream()
+      throws ExecutionException, InterruptedException {
+    Response response = Response.ok(Stream.of("a", "b"));
+
+    RestServerCodecFilter.encodeResponse(response, false,
+        ProduceProcessorManager.INSTANCE.findDefaultPlainProcessor(), responseEx).get();
+
+    List<String> result = response.getResult();
+    assertThat(result).containsExactly("a", "b");
+    new Verifications() {
+      {
+        responseEx.sendStream((InputStream) any);
+        times = 0;
+      }
+    };
+  }
+
+  @Test
+  public void should_match_etag() {
+    assertThat(RestServerCodecFilter.isEtagMatch(null, "\"a\"")).isFalse();
+    assertThat(RestServerCodecFilter.isEtagMatch("\"b\"", "\"a\"")).isFalse();
+    assertThat(RestServerCodecFilter.isEtagMatch("\"b\", \"a\"", "\"a\"")).isTrue();
+    assertThat(RestServerCodecFilter.isEtagMatch("W/\"a\"", "\"a\"")).isTrue();
+    assertThat(RestServerCodecFilter.isEtagMatch("*", "\"a\"")).isTrue();
+  }
+
+  @SuppressWarnings("deprecation")
+  @Test
+  public void should_return_304_response_when_etag_match(@Mocked HttpServletRequestEx requestEx) {
+    ProduceProcessor produceProcessor = ProduceProcessorManager.INSTANCE.findDefaultJsonProcessor();
+    CachedResponse cachedResponse = new CachedResponse(Response.ok("ok"));
+    EncodedBody encodedBody = cachedResponse.putEncodedBody(produceProcessor.getName(),
+        "\"ok\"".getBytes(StandardCharsets.UTF_8));
+    new Expectations(invocation) {
+      {
+        invocation.getRequestEx();
+        result = requestEx;
+        requestEx.getHeader(IF_NONE_MATCH);
+        result = encodedBody.getEtag();
+      }
+    };
+
+    Response response = RestServerCodecFilter.encodeCachedResponse(invocation, cachedResponse.createResponse(),
+        cachedResponse, produceProcessor, responseEx).join();
+
+    assertThat(response.getStatusCode()).isEqualTo(NOT_MODIFIED.getStatusCode());
+    new Verifications() {
+      {
+        responseEx.setStatus(NOT_MODIFIED.getStatusCode(), NOT_MODIFIED.getReasonPhrase());
+        times = 1;
+        responseEx.setBodyBuffer((Buffer) any);
+        times = 0;
+      }
+    };
+  }
+}
@@ -18,6 +18,7 @@ package org.apache.servicecomb.common.rest.filter.inner;
 
 import java.util.concurrent.CompletableFuture;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.Part;
 
 import org.apache.servicecomb.common.rest.RestConst;
@@ -77,7 +78,7 @@ public class TestServerRestArgsFilter {
     };
     new MockUp<HttpServletResponseEx>(responseEx) {
       @Mock
-      CompletableFuture<Void> sendPart(Part body) {
+      CompletableFuture<Void> sendPart(Part body, HttpServletRequest request) {
         invokedSendPart = true;
         return null;
       }
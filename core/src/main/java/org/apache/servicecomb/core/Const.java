@@ -48,4 +48,7 @@ public final class Const {
   public static final String AUTH_TOKEN = "x-cse-auth-rsatoken";
 
   public static final String TRACE_ID_NAME = "X-B3-TraceId";
+
+  // local context, the eventloop context which received the producer request, only exists in context affinity mode
+  public static final String VERTX_CONTEXT = "x-scb-vertx-context";
 }
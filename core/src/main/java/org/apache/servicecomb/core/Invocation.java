@@ -44,6 +44,7 @@ import org.apache.servicecomb.core.event.InvocationStartEvent;
 import org.apache.servicecomb.core.event.InvocationStartSendRequestEvent;
 import org.apache.servicecomb.core.event.InvocationTimeoutCheckEvent;
 import org.apache.servicecomb.core.invocation.InvocationStageTrace;
+import org.apache.servicecomb.core.invocation.InvocationTimeoutBootListener;
 import org.apache.servicecomb.core.provider.consumer.InvokerUtils;
 import org.apache.servicecomb.core.provider.consumer.ReferenceConfig;
 import org.apache.servicecomb.core.tracing.TraceIdGenerator;
@@ -51,6 +52,7 @@ import org.apache.servicecomb.core.tracing.TraceIdLogger;
 import org.apache.servicecomb.foundation.common.event.EventManager;
 import org.apache.servicecomb.foundation.common.utils.AsyncUtils;
 import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
+import org.apache.servicecomb.foundation.vertx.client.ClientPoolManager;
 import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
 import org.apache.servicecomb.swagger.invocation.AsyncResponse;
 import org.apache.servicecomb.swagger.invocation.InvocationType;
@@ -60,6 +62,9 @@ import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 
 import com.fasterxml.jackson.databind.JavaType;
 
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
 public class Invocation extends SwaggerInvocation {
   private static final Collection<TraceIdGenerator> TRACE_ID_GENERATORS = loadTraceIdGenerators();
 
@@ -69,6 +74,10 @@ public class Invocation extends SwaggerInvocation {
     return SPIServiceUtils.getPriorityHighestServices(TraceIdGenerator::getName, TraceIdGenerator.class);
   }
 
+  public static Collection<TraceIdGenerator> getTraceIdGenerators() {
+    return TRACE_ID_GENERATORS;
+  }
+
   protected ReferenceConfig referenceConfig;
 
   private InvocationRuntimeType invocationRuntimeType;
@@ -384,53 +393,99 @@ public class Invocation extends SwaggerInvocation {
   public void onStart(long start) {
     invocationStageTrace.start(start);
     initTraceId();
+    initAffinityContext();
     EventManager.post(new InvocationStartEvent(this));
   }
 
+  // consumer invocations created by this producer invocation will inherit the context by local context
+  protected void initAffinityContext() {
+    if (!isProducer() || !ClientPoolManager.isContextAffinityEnabled()) {
+      return;
+    }
+
+    Context context = Vertx.currentContext();
+    if (context != null && context.isEventLoopContext()) {
+      addLocalContext(Const.VERTX_CONTEXT, context);
+    }
+  }
+
+  /**
+   * @return the eventloop context which received the producer request, null if not in context affinity mode
+   */
+  public Context getAffinityContext() {
+    return getLocalContext(Const.VERTX_CONTEXT);
+  }
+
   public void onStart(HttpServletRequestEx requestEx, long start) {
     this.requestEx = requestEx;
 
     onStart(start);
   }
 
+  /**
+   * stage times are always recorded into invocationStageTrace<br>
+   * stage events are not posted in record only mode, unless required by timeout check
+   */
+  protected boolean isStageEventsEnabled() {
+    return operationMeta == null
+        || !operationMeta.getConfig().isStageRecordOnly()
+        || InvocationTimeoutBootListener.isTimeoutCheckEnabled();
+  }
+
   public void onExecuteStart() {
     invocationStageTrace.startExecution();
-    EventManager.post(new InvocationRunInExecutorStartEvent(this));
+    if (isStageEventsEnabled()) {
+      EventManager.post(new InvocationRunInExecutorStartEvent(this));
+    }
   }
 
   public void onExecuteFinish() {
-    EventManager.post(new InvocationRunInExecutorFinishEvent(this));
+    if (isStageEventsEnabled()) {
+      EventManager.post(new InvocationRunInExecutorFinishEvent(this));
+    }
   }
 
   public void onStartHandlersRequest() {
     invocationStageTrace.startHandlersRequest();
-    EventManager.post(new InvocationHandlersStartEvent(this));
+    if (isStageEventsEnabled()) {
+      EventManager.post(new InvocationHandlersStartEvent(this));
+    }
   }
 
   public void onStartSendRequest() {
     invocationStageTrace.startSend();
-    EventManager.post(new InvocationStartSendRequestEvent(this));
+    if (isStageEventsEnabled()) {
+      EventManager.post(new InvocationStartSendRequestEvent(this));
+    }
   }
 
   @Override
   public void onBusinessMethodStart() {
     invocationStageTrace.startBusinessMethod();
-    EventManager.post(new InvocationBusinessMethodStartEvent(this));
+    if (isStageEventsEnabled()) {
+      EventManager.post(new InvocationBusinessMethodStartEvent(this));
+    }
   }
 
   @Override
   public void onBusinessMethodFinish() {
-    EventManager.post(new InvocationBusinessMethodFinishEvent(this));
+    if (isStageEventsEnabled()) {
+      EventManager.post(new InvocationBusinessMethodFinishEvent(this));
+    }
   }
 
   public void onEncodeResponseStart(Response response) {
-    EventManager.post(new InvocationEncodeResponseStartEvent(this, response));
+    if (isStageEventsEnabled()) {
+      EventManager.post(new InvocationEncodeResponseStartEvent(this, response));
+    }
   }
 
   @Override
   public void onBusinessFinish() {
     invocationStageTrace.finishBusiness();
-    EventManager.post(new InvocationBusinessFinishEvent(this));
+    if (isStageEventsEnabled()) {
+      EventManager.post(new InvocationBusinessFinishEvent(this));
+    }
   }
 
   public void onFinish(Response response) {
@@ -48,6 +48,7 @@ import org.apache.servicecomb.core.provider.consumer.ConsumerProviderManager;
 import org.apache.servicecomb.core.provider.consumer.MicroserviceReferenceConfig;
 import org.apache.servicecomb.core.provider.producer.ProducerProviderManager;
 import org.apache.servicecomb.core.transport.TransportManager;
+import org.apache.servicecomb.core.warmup.WarmUpManager;
 import org.apache.servicecomb.foundation.common.VendorExtensions;
 import org.apache.servicecomb.foundation.common.event.EnableExceptionPropagation;
 import org.apache.servicecomb.foundation.common.event.EventManager;
@@ -57,6 +58,7 @@ import org.apache.servicecomb.foundation.vertx.client.http.HttpClients;
 import org.apache.servicecomb.registry.DiscoveryManager;
 import org.apache.servicecomb.registry.RegistrationManager;
 import org.apache.servicecomb.registry.api.event.MicroserviceInstanceRegisteredEvent;
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstanceStatus;
 import org.apache.servicecomb.registry.consumer.MicroserviceVersions;
 import org.apache.servicecomb.registry.definition.MicroserviceNameParser;
@@ -131,6 +133,16 @@ public class SCBEngine {
 
   private Thread shutdownHook;
 
+  private WarmUpManager warmUpManager = new WarmUpManager();
+
+  // when warm up enabled, instance turns UP only after both registered and consumers warmed up
+  private boolean waitingWarmUp;
+
+  private boolean instanceRegistered;
+
+  // instance registered as STARTING during warm up, consumers will not select it until turns UP
+  private boolean registeredAsStarting;
+
   protected SCBEngine() {
     eventBus = EventManager.getEventBus();
 
@@ -261,6 +273,14 @@ public class SCBEngine {
     this.bootListeners.addAll(bootListeners);
   }
 
+  public WarmUpManager getWarmUpManager() {
+    return warmUpManager;
+  }
+
+  public void setWarmUpManager(WarmUpManager warmUpManager) {
+    this.warmUpManager = warmUpManager;
+  }
+
   public SCBEngine addProducerMeta(String schemaId, Object instance) {
     getProducerProviderManager().addProducerMeta(schemaId, instance);
     return this;
@@ -386,17 +406,67 @@ public class SCBEngine {
     transportManager.init(this);
     triggerEvent(EventType.AFTER_TRANSPORT);
 
+    // instance is not registered yet, so no invocation comes in before warm up finished
+    warmUpManager.warmUp(this);
+
     triggerEvent(EventType.BEFORE_REGISTRY);
 
+    waitingWarmUp = warmUpManager.isEnabled();
+    registerAsStartingIfWaitingWarmUp();
     triggerAfterRegistryEvent();
 
     RegistrationManager.INSTANCE.run();
     DiscoveryManager.INSTANCE.run();
 
+    // consumer warm up depends on discovery, instance is registered as STARTING and turns UP after it finished
+    warmUpManager.warmUpAfterDiscovery(this);
+    onWarmUpFinished();
+
     shutdownHook = new Thread(this::destroyForShutdownHook);
     Runtime.getRuntime().addShutdownHook(shutdownHook);
   }
 
+  private void registerAsStartingIfWaitingWarmUp() {
+    if (!waitingWarmUp) {
+      return;
+    }
+
+    MicroserviceInstance instance = RegistrationManager.INSTANCE.getMicroserviceInstance();
+    // keep the initial status when it is customized, eg: TESTING
+    if (!MicroserviceInstanceStatus.UP.equals(instance.getStatus())) {
+      return;
+    }
+
+    instance.setStatus(MicroserviceInstanceStatus.STARTING);
+    registeredAsStarting = true;
+  }
+
+  private synchronized void onWarmUpFinished() {
+    waitingWarmUp = false;
+    turnUpIfReady();
+  }
+
+  synchronized void onInstanceRegistered() {
+    instanceRegistered = true;
+    turnUpIfReady();
+  }
+
+  private void turnUpIfReady() {
+    if (!instanceRegistered || waitingWarmUp || !SCBStatus.STARTING.equals(status)) {
+      return;
+    }
+
+    if (registeredAsStarting) {
+      // re-register after heartbeat lost also uses UP
+      RegistrationManager.INSTANCE.getMicroserviceInstance().setStatus(MicroserviceInstanceStatus.UP);
+      RegistrationManager.INSTANCE.updateMicroserviceInstanceStatus(MicroserviceInstanceStatus.UP);
+    }
+    setStatus(SCBStatus.UP);
+    triggerEvent(EventType.AFTER_REGISTRY);
+    // keep this message to be WARN, used to detect service ready.
+    LOGGER.warn("ServiceComb is ready.");
+  }
+
   private void createProducerMicroserviceMeta() {
     String microserviceName = RegistrationManager.INSTANCE.getMicroservice().getServiceName();
 
@@ -628,11 +698,8 @@ public class SCBEngine {
     public void afterRegistryInstance(MicroserviceInstanceRegisteredEvent event) {
       if (event.isRegistrationManager()) {
         LOGGER.info("instance registry succeeds for the first time, will send AFTER_REGISTRY event.");
-        engine.setStatus(SCBStatus.UP);
-        engine.triggerEvent(EventType.AFTER_REGISTRY);
+        engine.onInstanceRegistered();
         EventManager.unregister(this);
-        // keep this message to be WARN, used to detect service ready. 
-        LOGGER.warn("ServiceComb is ready.");
       }
     }
   }
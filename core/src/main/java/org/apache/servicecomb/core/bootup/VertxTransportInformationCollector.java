@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.bootup;
+
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.apache.servicecomb.foundation.vertx.VertxUtils;
+
+import io.vertx.core.Vertx;
+
+public class VertxTransportInformationCollector implements BootUpInformationCollector {
+  @Override
+  public String collect() {
+    if (VertxUtils.getVertxMap().isEmpty()) {
+      return null;
+    }
+
+    StringBuilder sb = new StringBuilder();
+    sb.append("Vert.x transport:\n");
+    for (Entry<String, Vertx> entry : new TreeMap<>(VertxUtils.getVertxMap()).entrySet()) {
+      sb.append("  ").append(entry.getKey()).append(": ").append(VertxUtils.getTransportName(entry.getValue()))
+          .append("\n");
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public int getOrder() {
+    return 500;
+  }
+}
@@ -17,11 +17,14 @@
 package org.apache.servicecomb.core.definition;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.servicecomb.config.inject.InjectProperties;
 import org.apache.servicecomb.config.inject.InjectProperty;
 import org.apache.servicecomb.core.Const;
@@ -58,6 +61,21 @@ public class OperationConfig {
 
   private long nanoSlowInvocation;
 
+  /**
+   * when enabled, stage times are only recorded into InvocationStageTrace, no stage event is posted,
+   * only InvocationStartEvent and InvocationFinishEvent are posted
+   */
+  @InjectProperty(keys = {"metrics.${consumer-producer}.invocation.stage.recordOnly${op-priority}",
+      "${consumer-producer}.invocation.stage.recordOnly${op-priority}"}, defaultValue = "false")
+  private boolean stageRecordOnly;
+
+  /**
+   * rate of invocations to be logged with full stage trace even not slow, range [0, 1]
+   */
+  @InjectProperty(keys = {"metrics.${consumer-producer}.invocation.sample.rate${op-priority}",
+      "${consumer-producer}.invocation.sample.rate${op-priority}"}, defaultValue = "0")
+  private double stageTraceSampleRate;
+
   /**
    * consumer request timeout
    */
@@ -78,11 +96,83 @@ public class OperationConfig {
   @InjectProperty(keys = {"request.clientRequestHeaderFilterEnabled${consumer-op-priority}"}, defaultValue = "true")
   private boolean clientRequestHeaderFilterEnabled = true;
 
+  /**
+   * concurrent invocations with equal arguments share one request, only for idempotent operations
+   */
+  @InjectProperty(keys = "Consumer.coalesce.enabled${op-priority}", defaultValue = "false")
+  private boolean consumerCoalesceEnabled;
+
+  /**
+   * operationId of the batch operation in the same schema, invocations of this operation are packed into it,
+   * empty means not batch
+   */
+  @InjectProperty(keys = "Consumer.batch.operation${op-priority}")
+  private String consumerBatchOperation;
+
+  /**
+   * max count of invocations packed into one batch invocation
+   */
+  @InjectProperty(keys = "Consumer.batch.maxSize${op-priority}", defaultValue = "100")
+  private int consumerBatchMaxSize;
+
+  /**
+   * max milliseconds that the first invocation of a batch waits for others
+   */
+  @InjectProperty(keys = "Consumer.batch.maxDelay${op-priority}", defaultValue = "5")
+  private long msConsumerBatchMaxDelay;
+
   /**
    * producer wait in thread pool timeout
    */
   private Map<String, Long> nanoRequestWaitInPoolTimeoutByTransport = new HashMap<>();
 
+  /**
+   * rest consumer accept application/x-protobuf response, and fallback to application/json
+   */
+  @InjectProperty(keys = {"rest.client.protobuf.enabled${consumer-op-priority}"}, defaultValue = "false")
+  private boolean restClientProtobufEnabled;
+
+  /**
+   * payload smaller than this will not be compressed, even compression is negotiated
+   */
+  @InjectProperty(keys = {"transport.compression.minSize${op-priority}"}, defaultValue = "2048")
+  private int compressionMinSize;
+
+  /**
+   * time to live of cached response in milliseconds, 0 means not cache, only take effect for GET operations
+   */
+  @InjectProperty(keys = "Provider.responseCache.ttl${op-priority}", defaultValue = "0")
+  private long msResponseCacheTtl;
+
+  /**
+   * max count of cached responses of one operation
+   */
+  @InjectProperty(keys = "Provider.responseCache.maxSize${op-priority}", defaultValue = "1000")
+  private long responseCacheMaxSize;
+
+  /**
+   * comma separated request headers not declared in swagger but affect the response, are part of the cache key<br>
+   * eg: tenant header
+   */
+  @InjectProperty(keys = "Provider.responseCache.varyHeaders${op-priority}",
+      defaultValue = "Authorization,Cookie,Accept-Language")
+  private String responseCacheVaryHeaders;
+
+  private List<String> responseCacheVaryHeaderList = Collections.emptyList();
+
+  /**
+   * priority of requests in executor queue, only take effect when executor queue type is priority
+   */
+  @InjectProperty(keys = "Provider.schedule.priority${op-priority}", defaultValue = "0")
+  private int schedulePriority;
+
+  /**
+   * accept priority from invocation context "x-scb-priority", only enable it when all callers are trusted,
+   * otherwise any caller can raise its own priority
+   */
+  @InjectProperty(keys = "Provider.schedule.contextPriorityEnabled${op-priority}", defaultValue = "false")
+  private boolean scheduleContextPriorityEnabled;
+
   @InjectProperty(keys = "Provider.requestWaitInPoolTimeout${op-priority}", defaultValue = "30000")
   private long msDefaultRequestWaitInPoolTimeout;
 
@@ -132,6 +222,119 @@ public class OperationConfig {
     return nanoSlowInvocation;
   }
 
+  public boolean isStageRecordOnly() {
+    return stageRecordOnly;
+  }
+
+  public void setStageRecordOnly(boolean stageRecordOnly) {
+    this.stageRecordOnly = stageRecordOnly;
+  }
+
+  public double getStageTraceSampleRate() {
+    return stageTraceSampleRate;
+  }
+
+  public void setStageTraceSampleRate(double stageTraceSampleRate) {
+    this.stageTraceSampleRate = stageTraceSampleRate;
+  }
+
+  public boolean isRestClientProtobufEnabled() {
+    return restClientProtobufEnabled;
+  }
+
+  public void setRestClientProtobufEnabled(boolean restClientProtobufEnabled) {
+    this.restClientProtobufEnabled = restClientProtobufEnabled;
+  }
+
+  public boolean isConsumerCoalesceEnabled() {
+    return consumerCoalesceEnabled;
+  }
+
+  public void setConsumerCoalesceEnabled(boolean consumerCoalesceEnabled) {
+    this.consumerCoalesceEnabled = consumerCoalesceEnabled;
+  }
+
+  public String getConsumerBatchOperation() {
+    return consumerBatchOperation;
+  }
+
+  public void setConsumerBatchOperation(String consumerBatchOperation) {
+    this.consumerBatchOperation = consumerBatchOperation;
+  }
+
+  public int getConsumerBatchMaxSize() {
+    return consumerBatchMaxSize;
+  }
+
+  public void setConsumerBatchMaxSize(int consumerBatchMaxSize) {
+    this.consumerBatchMaxSize = consumerBatchMaxSize;
+  }
+
+  public long getMsConsumerBatchMaxDelay() {
+    return msConsumerBatchMaxDelay;
+  }
+
+  public void setMsConsumerBatchMaxDelay(long msConsumerBatchMaxDelay) {
+    this.msConsumerBatchMaxDelay = msConsumerBatchMaxDelay;
+  }
+
+  public long getMsResponseCacheTtl() {
+    return msResponseCacheTtl;
+  }
+
+  public void setMsResponseCacheTtl(long msResponseCacheTtl) {
+    this.msResponseCacheTtl = msResponseCacheTtl;
+  }
+
+  public long getResponseCacheMaxSize() {
+    return responseCacheMaxSize;
+  }
+
+  public void setResponseCacheMaxSize(long responseCacheMaxSize) {
+    this.responseCacheMaxSize = responseCacheMaxSize;
+  }
+
+  public int getSchedulePriority() {
+    return schedulePriority;
+  }
+
+  public void setSchedulePriority(int schedulePriority) {
+    this.schedulePriority = schedulePriority;
+  }
+
+  public boolean isScheduleContextPriorityEnabled() {
+    return scheduleContextPriorityEnabled;
+  }
+
+  public void setScheduleContextPriorityEnabled(boolean scheduleContextPriorityEnabled) {
+    this.scheduleContextPriorityEnabled = scheduleContextPriorityEnabled;
+  }
+
+  public String getResponseCacheVaryHeaders() {
+    return responseCacheVaryHeaders;
+  }
+
+  public void setResponseCacheVaryHeaders(String responseCacheVaryHeaders) {
+    this.responseCacheVaryHeaders = responseCacheVaryHeaders;
+    this.responseCacheVaryHeaderList = StringUtils.isEmpty(responseCacheVaryHeaders) ? Collections.emptyList() :
+        Arrays.stream(responseCacheVaryHeaders.split(","))
+            .map(String::trim)
+            .filter(StringUtils::isNotEmpty)
+            .collect(Collectors.toList());
+  }
+
+  public List<String> getResponseCacheVaryHeaderList() {
+    return responseCacheVaryHeaderList;
+  }
+
+  public int getCompressionMinSize() {
+    return compressionMinSize;
+  }
+
+  public void setCompressionMinSize(int compressionMinSize) {
+    this.compressionMinSize = compressionMinSize;
+  }
+
   public long getMsRequestTimeout() {
     return msRequestTimeout;
   }
@@ -21,6 +21,7 @@ import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -49,6 +50,14 @@ public class GroupExecutor implements Executor, Closeable {
 
   public static final String KEY_MAX_QUEUE_SIZE = "servicecomb.executor.default.maxQueueSize-per-group";
 
+  /**
+   * fifo: default, run tasks in order of arrival<br>
+   * priority: run tasks by priority and deadline, see {@link PriorityTask}
+   */
+  public static final String KEY_QUEUE_TYPE = "servicecomb.executor.default.queueType-per-group";
+
+  public static final String QUEUE_TYPE_PRIORITY = "priority";
+
   private static final AtomicBoolean LOG_PRINTED = new AtomicBoolean();
 
   protected String groupName;
@@ -63,6 +72,8 @@ public class GroupExecutor implements Executor, Closeable {
 
   protected int maxQueueSize;
 
+  protected String queueType;
+
   // to avoid multiple network thread conflicted when put tasks to executor queue
   private List<ExecutorService> executorList = new ArrayList<>();
 
@@ -87,7 +98,7 @@ public class GroupExecutor implements Executor, Closeable {
           maxThreads,
           maxIdleInSecond,
           TimeUnit.SECONDS,
-          new LinkedBlockingQueueEx(maxQueueSize),
+          createQueue(),
           factory);
       executorList.add(executor);
     }
@@ -95,6 +106,13 @@ public class GroupExecutor implements Executor, Closeable {
     return this;
   }
 
+  protected BlockingQueue<Runnable> createQueue() {
+    if (QUEUE_TYPE_PRIORITY.equals(queueType)) {
+      return new PriorityBlockingQueueEx(maxQueueSize);
+    }
+    return new LinkedBlockingQueueEx(maxQueueSize);
+  }
+
   public void initConfig() {
     if (LOG_PRINTED.compareAndSet(false, true)) {
       LOGGER.info("thread pool rules:\n"
@@ -123,10 +141,15 @@ public class GroupExecutor implements Executor, Closeable {
 
     maxIdleInSecond = DynamicPropertyFactory.getInstance().getIntProperty(KEY_MAX_IDLE_SECOND, 60).get();
     maxQueueSize = DynamicPropertyFactory.getInstance().getIntProperty(KEY_MAX_QUEUE_SIZE, Integer.MAX_VALUE).get();
+    queueType = DynamicPropertyFactory.getInstance().getStringProperty(KEY_QUEUE_TYPE, "fifo").get();
 
     LOGGER.info(
-        "executor name={}, group={}. per group settings, coreThreads={}, maxThreads={}, maxIdleInSecond={}, maxQueueSize={}.",
-        groupName, groupCount, coreThreads, maxThreads, maxIdleInSecond, maxQueueSize);
+        "executor name={}, group={}. per group settings, coreThreads={}, maxThreads={}, maxIdleInSecond={}, maxQueueSize={}, queueType={}.",
+        groupName, groupCount, coreThreads, maxThreads, maxIdleInSecond, maxQueueSize, queueType);
+  }
+
+  public boolean isPriorityQueue() {
+    return QUEUE_TYPE_PRIORITY.equals(queueType);
   }
 
   public List<ExecutorService> getExecutorList() {
@@ -19,7 +19,7 @@ package org.apache.servicecomb.core.executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 
-public class LinkedBlockingQueueEx extends LinkedBlockingQueue<Runnable> {
+public class LinkedBlockingQueueEx extends LinkedBlockingQueue<Runnable> implements ThreadPoolQueueEx {
   private static final long serialVersionUID = -1L;
 
   private transient volatile ThreadPoolExecutorEx owner = null;
@@ -28,6 +28,7 @@ public class LinkedBlockingQueueEx extends LinkedBlockingQueue<Runnable> {
     super(capacity);
   }
 
+  @Override
   public void setOwner(ThreadPoolExecutorEx owner) {
     this.owner = owner;
   }
@@ -56,6 +57,7 @@ public class LinkedBlockingQueueEx extends LinkedBlockingQueue<Runnable> {
   /*
    * when task is rejected (thread pool if full), force the item onto queue.
    */
+  @Override
   public boolean force(Runnable runnable) {
     if (owner == null || owner.isShutdown()) {
       throw new RejectedExecutionException("queue is not running.");
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.executor;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * order tasks by {@link PriorityTask#COMPARATOR}, instead of FIFO<br>
+ * capacity check is not atomic with offer, so the size may exceed capacity slightly under concurrency.
+ */
+public class PriorityBlockingQueueEx extends PriorityBlockingQueue<Runnable> implements ThreadPoolQueueEx {
+  private static final long serialVersionUID = -1L;
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int capacity;
+
+  private transient volatile ThreadPoolExecutorEx owner = null;
+
+  public PriorityBlockingQueueEx(int capacity) {
+    super(INITIAL_CAPACITY, PriorityTask.COMPARATOR);
+    this.capacity = capacity;
+  }
+
+  @Override
+  public void setOwner(ThreadPoolExecutorEx owner) {
+    this.owner = owner;
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return Math.max(capacity - size(), 0);
+  }
+
+  @Override
+  public boolean offer(Runnable runnable) {
+    // same rules with LinkedBlockingQueueEx
+    if (owner == null
+        || owner.getPoolSize() == owner.getMaximumPoolSize()
+        || owner.getNotFinished() <= owner.getPoolSize()) {
+      return offerInCapacity(runnable);
+    }
+
+    // all threads are busy, and can create new thread, not queue the task
+    return false;
+  }
+
+  @Override
+  public boolean force(Runnable runnable) {
+    if (owner == null || owner.isShutdown()) {
+      throw new RejectedExecutionException("queue is not running.");
+    }
+    return offerInCapacity(runnable);
+  }
+
+  private boolean offerInCapacity(Runnable runnable) {
+    if (size() >= capacity) {
+      return false;
+    }
+    return super.offer(runnable);
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.executor;
+
+import java.util.Comparator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.core.invocation.InvocationTimeoutBootListener;
+import org.apache.servicecomb.core.invocation.InvocationTimeoutStrategy;
+
+/**
+ * wrap a producer task with priority and deadline<br>
+ * <pre>
+ *   priority: from operation config, or invocation context if trusted, bigger value run first
+ *   deadline: min of "start + wait in pool timeout" and "now + remaining invocation timeout"
+ * </pre>
+ * only take effect when executor queue is {@link PriorityBlockingQueueEx}, other executors just run it in order.
+ */
+public class PriorityTask implements Runnable {
+  public static final String CONTEXT_PRIORITY = "x-scb-priority";
+
+  public static final int MIN_PRIORITY = 0;
+
+  public static final int MAX_PRIORITY = 9;
+
+  /**
+   * bigger priority first, then earlier deadline first, then FIFO<br>
+   * other tasks are treated as priority 0 without deadline
+   */
+  public static final Comparator<Runnable> COMPARATOR = Comparator
+      .comparingInt(PriorityTask::priorityOf).reversed()
+      .thenComparingLong(PriorityTask::deadlineOf)
+      .thenComparingLong(PriorityTask::sequenceOf);
+
+  private static final AtomicLong SEQUENCE = new AtomicLong();
+
+  private final Runnable task;
+
+  private final int priority;
+
+  private final long nanoDeadline;
+
+  private final long sequence = SEQUENCE.getAndIncrement();
+
+  private final long nanoEnqueue = System.nanoTime();
+
+  public PriorityTask(Runnable task, int priority, long nanoDeadline) {
+    this.task = task;
+    this.priority = priority;
+    this.nanoDeadline = nanoDeadline;
+  }
+
+  public static PriorityTask create(Invocation invocation, Runnable task) {
+    return new PriorityTask(task, calcPriority(invocation), calcDeadline(invocation));
+  }
+
+  /**
+   * wrap task only when executor queue is priority queue, avoid calculating priority and deadline for nothing
+   */
+  public static Runnable wrap(Executor executor, Invocation invocation, Runnable task) {
+    if (isPriorityExecutor(executor)) {
+      return create(invocation, task);
+    }
+    return task;
+  }
+
+  public static boolean isPriorityExecutor(Executor executor) {
+    if (executor instanceof GroupExecutor) {
+      return ((GroupExecutor) executor).isPriorityQueue();
+    }
+    return executor instanceof ThreadPoolExecutor
+        && ((ThreadPoolExecutor) executor).getQueue() instanceof PriorityBlockingQueueEx;
+  }
+
+  static int calcPriority(Invocation invocation) {
+    OperationConfig config = invocation.getOperationMeta().getConfig();
+    int priority = config.getSchedulePriority();
+    if (config.isScheduleContextPriorityEnabled()) {
+      priority = NumberUtils.toInt(invocation.getContext(CONTEXT_PRIORITY), priority);
+    }
+    return Math.min(Math.max(priority, MIN_PRIORITY), MAX_PRIORITY);
+  }
+
+  static long calcDeadline(Invocation invocation) {
+    OperationConfig config = invocation.getOperationMeta().getConfig();
+    String transport = invocation.getEndpoint() == null ? null : invocation.getEndpoint().getTransport().getName();
+    long nanoDeadline = invocation.getInvocationStageTrace().getStart()
+        + config.getNanoRequestWaitInPoolTimeout(transport);
+
+    InvocationTimeoutStrategy strategy = InvocationTimeoutBootListener.getTimeoutStrategy();
+    if (strategy != null) {
+      long nanoRemaining = strategy.calculateRemainingNanoTime(invocation);
+      if (nanoRemaining != Long.MAX_VALUE) {
+        nanoDeadline = Math.min(nanoDeadline, System.nanoTime() + nanoRemaining);
+      }
+    }
+    return nanoDeadline;
+  }
+
+  private static int priorityOf(Runnable runnable) {
+    return runnable instanceof PriorityTask ? ((PriorityTask) runnable).priority : MIN_PRIORITY;
+  }
+
+  private static long deadlineOf(Runnable runnable) {
+    return runnable instanceof PriorityTask ? ((PriorityTask) runnable).nanoDeadline : Long.MAX_VALUE;
+  }
+
+  private static long sequenceOf(Runnable runnable) {
+    return runnable instanceof PriorityTask ? ((PriorityTask) runnable).sequence : Long.MAX_VALUE;
+  }
+
+  public int getPriority() {
+    return priority;
+  }
+
+  public long getNanoDeadline() {
+    return nanoDeadline;
+  }
+
+  /**
+   * expired task still run, the wrapped task will find the timeout and fail fast without invoke business logic
+   */
+  @Override
+  public void run() {
+    QueueWaitStatistics.of(priority).record(System.nanoTime() - nanoEnqueue);
+    task.run();
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.executor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * time of tasks waiting in executor queue, grouped by priority
+ */
+public class QueueWaitStatistics {
+  private static final QueueWaitStatistics[] STATISTICS = new QueueWaitStatistics[PriorityTask.MAX_PRIORITY + 1];
+
+  static {
+    for (int priority = PriorityTask.MIN_PRIORITY; priority <= PriorityTask.MAX_PRIORITY; priority++) {
+      STATISTICS[priority] = new QueueWaitStatistics(priority);
+    }
+  }
+
+  private final int priority;
+
+  private final LongAdder count = new LongAdder();
+
+  private final LongAdder totalNanos = new LongAdder();
+
+  public static QueueWaitStatistics of(int priority) {
+    return STATISTICS[priority];
+  }
+
+  public static QueueWaitStatistics[] all() {
+    return STATISTICS.clone();
+  }
+
+  private QueueWaitStatistics(int priority) {
+    this.priority = priority;
+  }
+
+  public void record(long nanoWait) {
+    count.increment();
+    totalNanos.add(nanoWait);
+  }
+
+  public int getPriority() {
+    return priority;
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+}
@@ -33,8 +33,8 @@ public class ThreadPoolExecutorEx extends ThreadPoolExecutor {
   public ThreadPoolExecutorEx(int coreThreads, int maxThreads, int maxIdleInSecond, TimeUnit timeUnit,
       BlockingQueue<Runnable> queue, ThreadFactory threadFactory) {
     super(coreThreads, maxThreads, maxIdleInSecond, timeUnit, queue, threadFactory);
-    if (queue instanceof LinkedBlockingQueueEx) {
-      ((LinkedBlockingQueueEx) queue).setOwner(this);
+    if (queue instanceof ThreadPoolQueueEx) {
+      ((ThreadPoolQueueEx) queue).setOwner(this);
     }
     setRejectedExecutionHandler(this::rejectedExecution);
   }
@@ -45,8 +45,8 @@ public class ThreadPoolExecutorEx extends ThreadPoolExecutor {
     try {
       super.execute(command);
     } catch (RejectedExecutionException e) {
-      if (getQueue() instanceof LinkedBlockingQueueEx) {
-        final LinkedBlockingQueueEx queue = (LinkedBlockingQueueEx) getQueue();
+      if (getQueue() instanceof ThreadPoolQueueEx) {
+        final ThreadPoolQueueEx queue = (ThreadPoolQueueEx) getQueue();
         if (!queue.force(command)) {
           throw new RejectedExecutionException("thread pool queue is full");
         }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.filter.cache;
+
+import java.util.Map;
+
+import javax.ws.rs.core.Response.StatusType;
+
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
+import org.apache.servicecomb.swagger.invocation.Response;
+
+import com.google.common.hash.Hashing;
+
+import io.vertx.core.MultiMap;
+
+/**
+ * immutable snapshot of cached producer response, every hit gets a new {@link Response} created from it<br>
+ * transport can attach encoded body to it, so that later hits skip the encoding too
+ */
+public class CachedResponse {
+  public static final String LOCAL_CONTEXT_KEY = "x-scb-cached-response";
+
+  public static class EncodedBody {
+    private final byte[] bytes;
+
+    private final String etag;
+
+    public EncodedBody(byte[] bytes) {
+      this.bytes = bytes;
+      this.etag = "\"" + Hashing.murmur3_128().hashBytes(bytes).toString() + "\"";
+    }
+
+    public byte[] getBytes() {
+      return bytes;
+    }
+
+    public String getEtag() {
+      return etag;
+    }
+  }
+
+  private final StatusType status;
+
+  // null if no header
+  private final MultiMap headers;
+
+  private final Object result;
+
+  // key is the name of encoder, eg: content type of rest
+  private final Map<String, EncodedBody> encodedBodies = new ConcurrentHashMapEx<>();
+
+  /**
+   * result must be fully materialized, read-once result like stream or file can not be cached
+   */
+  public CachedResponse(Response response) {
+    this.status = response.getStatus();
+    this.headers = copyHeaders(response.getHeaders());
+    this.result = response.getResult();
+  }
+
+  private static MultiMap copyHeaders(MultiMap headers) {
+    return headers == null ? null : MultiMap.caseInsensitiveMultiMap().addAll(headers);
+  }
+
+  public Response createResponse() {
+    return Response.status(status).entity(result).setHeaders(copyHeaders(headers));
+  }
+
+  public EncodedBody findEncodedBody(String encoderName) {
+    return encodedBodies.get(encoderName);
+  }
+
+  public EncodedBody putEncodedBody(String encoderName, byte[] bytes) {
+    EncodedBody encodedBody = new EncodedBody(bytes);
+    encodedBodies.put(encoderName, encodedBody);
+    return encodedBody;
+  }
+}
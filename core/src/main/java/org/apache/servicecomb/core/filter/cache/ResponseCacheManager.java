@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.filter.cache;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.servlet.http.Part;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.invocation.InvocationKeyUtils;
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
+import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
+import org.apache.servicecomb.swagger.engine.SwaggerProducerOperation;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.swagger.invocation.arguments.producer.ProducerContextArgumentMapperFactory;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * response caches of producer operations, guava cache is segmented LRU
+ */
+public final class ResponseCacheManager {
+  public static final ResponseCacheManager INSTANCE = new ResponseCacheManager();
+
+  private static final String EXT_CACHEABLE = "response-cache-cacheable";
+
+  static class OperationCache {
+    final long msTtl;
+
+    final long maxSize;
+
+    final Cache<Object, CachedResponse> cache;
+
+    OperationCache(long msTtl, long maxSize) {
+      this.msTtl = msTtl;
+      this.maxSize = maxSize;
+      this.cache = CacheBuilder.newBuilder()
+          .expireAfterWrite(msTtl, TimeUnit.MILLISECONDS)
+          .maximumSize(maxSize)
+          .recordStats()
+          .build();
+    }
+  }
+
+  // key is microservice qualified name of operation
+  private final Map<String, OperationCache> caches = new ConcurrentHashMapEx<>();
+
+  // stats of caches that rebuilt after config changed
+  private CacheStats retiredStats = new CacheStats(0, 0, 0, 0, 0, 0);
+
+  private ResponseCacheManager() {
+  }
+
+  public Cache<Object, CachedResponse> getOrCreateCache(OperationMeta operationMeta) {
+    OperationConfig config = operationMeta.getConfig();
+    OperationCache operationCache = caches.get(operationMeta.getMicroserviceQualifiedName());
+    if (operationCache != null
+        && operationCache.msTtl == config.getMsResponseCacheTtl()
+        && operationCache.maxSize == config.getResponseCacheMaxSize()) {
+      return operationCache.cache;
+    }
+
+    return recreateCache(operationMeta.getMicroserviceQualifiedName(), config);
+  }
+
+  private synchronized Cache<Object, CachedResponse> recreateCache(String name, OperationConfig config) {
+    OperationCache operationCache = caches.get(name);
+    if (operationCache != null) {
+      if (operationCache.msTtl == config.getMsResponseCacheTtl()
+          && operationCache.maxSize == config.getResponseCacheMaxSize()) {
+        return operationCache.cache;
+      }
+      retiredStats = retiredStats.plus(operationCache.cache.stats());
+    }
+
+    operationCache = new OperationCache(config.getMsResponseCacheTtl(), config.getResponseCacheMaxSize());
+    caches.put(name, operationCache);
+    return operationCache.cache;
+  }
+
+  /**
+   * @param microserviceQualifiedName microserviceName.schemaId.operationId
+   */
+  public void invalidate(String microserviceQualifiedName) {
+    OperationCache operationCache = caches.get(microserviceQualifiedName);
+    if (operationCache != null) {
+      operationCache.cache.invalidateAll();
+    }
+  }
+
+  public void invalidateAll() {
+    caches.values().forEach(operationCache -> operationCache.cache.invalidateAll());
+  }
+
+  public synchronized CacheStats stats() {
+    CacheStats stats = retiredStats;
+    for (OperationCache operationCache : caches.values()) {
+      stats = stats.plus(operationCache.cache.stats());
+    }
+    return stats;
+  }
+
+  /**
+   * operations with context arguments, eg: HttpServletRequest or InvocationContext, can read anything
+   * from the request, so can not be keyed by swagger arguments
+   */
+  public static boolean isCacheable(OperationMeta operationMeta) {
+    Boolean cacheable = operationMeta.getExtData(EXT_CACHEABLE);
+    if (cacheable == null) {
+      cacheable = !hasContextArgument(operationMeta);
+      operationMeta.putExtData(EXT_CACHEABLE, cacheable);
+    }
+    return cacheable;
+  }
+
+  private static boolean hasContextArgument(OperationMeta operationMeta) {
+    SwaggerProducerOperation producerOperation = operationMeta.getSwaggerProducerOperation();
+    if (producerOperation == null || producerOperation.getProducerMethod() == null) {
+      return false;
+    }
+
+    for (Class<?> parameterType : producerOperation.getProducerMethod().getParameterTypes()) {
+      for (ProducerContextArgumentMapperFactory factory : SPIServiceUtils
+          .getOrLoadSortedService(ProducerContextArgumentMapperFactory.class)) {
+        if (factory.getContextClass().isAssignableFrom(parameterType)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * result of stream or file can only be read once
+   */
+  public static boolean isCacheable(Invocation invocation, Response response) {
+    Object result = response.getResult();
+    if (result instanceof Stream || result instanceof InputStream || result instanceof Part) {
+      return false;
+    }
+
+    JavaType responseType = invocation.findResponseType(response.getStatusCode());
+    return responseType == null || !Part.class.isAssignableFrom(responseType.getRawClass());
+  }
+
+  /**
+   * swagger arguments, invocation context and configured vary headers
+   */
+  public static Object createKey(Invocation invocation) {
+    List<String> varyHeaders = invocation.getOperationMeta().getConfig().getResponseCacheVaryHeaderList();
+    HttpServletRequestEx requestEx = invocation.getRequestEx();
+    Map<String, List<String>> headers = Collections.emptyMap();
+    if (requestEx != null && !varyHeaders.isEmpty()) {
+      headers = new TreeMap<>();
+      for (String name : varyHeaders) {
+        Enumeration<String> values = requestEx.getHeaders(name);
+        headers.put(name, values == null ? Collections.emptyList() : Collections.list(values));
+      }
+    }
+
+    return Arrays.asList(InvocationKeyUtils.normalizeArguments(invocation.getSwaggerArguments()),
+        InvocationKeyUtils.collectContexts(invocation),
+        headers);
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.filter.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nonnull;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.InvocationRuntimeType;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.exception.Exceptions;
+import org.apache.servicecomb.core.filter.ConsumerFilter;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.core.invocation.InvocationFactory;
+import org.apache.servicecomb.core.invocation.InvocationKeyUtils;
+import org.apache.servicecomb.core.provider.consumer.InvokerUtils;
+import org.apache.servicecomb.core.provider.consumer.ReferenceConfig;
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
+import org.apache.servicecomb.foundation.common.utils.AsyncUtils;
+import org.apache.servicecomb.foundation.vertx.SharedVertxFactory;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.google.common.annotations.VisibleForTesting;
+
+import io.swagger.models.parameters.Parameter;
+
+/**
+ * invocations of the same operation in a short window are packed into one invocation of its batch operation<br>
+ * only enabled when servicecomb.Consumer.batch.operation of the operation is configured, eg:
+ * <pre>
+ *   operation:       Price query(String sku)
+ *   batch operation: List&lt;Price&gt; batchQuery(List&lt;String&gt; skus)
+ * </pre>
+ * the operation must have only one parameter, batch operation must be in the same schema, has only one parameter
+ * which is the list of those arguments, and return results in the same order<br>
+ * a batch is sent when reach servicecomb.Consumer.batch.maxSize, or servicecomb.Consumer.batch.maxDelay
+ * milliseconds after its first invocation<br>
+ * only invocations with the same invocation context are packed together, and the context is sent with the batch
+ * invocation, context keys not affect result can be ignored by {@link InvocationKeyUtils#KEY_IGNORED_CONTEXTS}
+ */
+@Component
+public class BatchFilter implements ConsumerFilter {
+  public static final String NAME = "batch";
+
+  protected static class Batch {
+    final Object key;
+
+    final OperationMeta batchOperationMeta;
+
+    final String argumentName;
+
+    final JavaType responseType;
+
+    final String transport;
+
+    final String versionRule;
+
+    final boolean thirdParty;
+
+    final Map<String, String> contexts;
+
+    final List<Object> arguments = new ArrayList<>();
+
+    final List<CompletableFuture<Response>> futures = new ArrayList<>();
+
+    boolean closed;
+
+    Batch(Object key, Invocation invocation, OperationMeta batchOperationMeta, String argumentName,
+        Map<String, String> contexts) {
+      this.key = key;
+      this.batchOperationMeta = batchOperationMeta;
+      this.argumentName = argumentName;
+      this.responseType = TypeFactory.defaultInstance()
+          .constructCollectionType(List.class, invocation.findResponseType(200));
+      this.transport = invocation.getConfigTransportName();
+      this.versionRule = invocation.getMicroserviceVersionRule();
+      this.thirdParty = invocation.isThirdPartyInvocation();
+      this.contexts = contexts;
+    }
+
+    int add(Object argument, CompletableFuture<Response> future) {
+      arguments.add(argument);
+      futures.add(future);
+      return futures.size();
+    }
+  }
+
+  private final Map<Object, Batch> batches = new ConcurrentHashMapEx<>();
+
+  @Nonnull
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @VisibleForTesting
+  int getBatchCount() {
+    return batches.size();
+  }
+
+  @Override
+  public CompletableFuture<Response> onFilter(Invocation invocation, FilterNode nextNode) {
+    OperationConfig config = invocation.getOperationMeta().getConfig();
+    String batchOperationId = config.getConsumerBatchOperation();
+    if (StringUtils.isEmpty(batchOperationId)) {
+      return nextNode.onFilter(invocation);
+    }
+
+    Map<String, Object> swaggerArguments = invocation.getSwaggerArguments();
+    if (swaggerArguments == null || swaggerArguments.size() != 1) {
+      return AsyncUtils.completeExceptionally(Exceptions.genericConsumer(String.format(
+          "batch operation %s requires exactly one argument, operation=%s.",
+          batchOperationId, invocation.getMicroserviceQualifiedName())));
+    }
+
+    Map<String, String> contexts = InvocationKeyUtils.collectContexts(invocation);
+    Object key = Arrays.asList(invocation.getMicroserviceQualifiedName(), invocation.getConfigTransportName(),
+        invocation.getMicroserviceVersionRule(), contexts);
+    Object argument = swaggerArguments.values().iterator().next();
+    CompletableFuture<Response> future = new CompletableFuture<>();
+    for (; ; ) {
+      Batch batch = batches.get(key);
+      if (batch == null) {
+        Batch newBatch = createBatch(key, invocation, batchOperationId, contexts);
+        if (newBatch == null) {
+          return AsyncUtils.completeExceptionally(Exceptions.genericConsumer(String.format(
+              "batch operation %s must exist in the same schema and has only one parameter, operation=%s.",
+              batchOperationId, invocation.getMicroserviceQualifiedName())));
+        }
+        batch = batches.computeIfAbsent(key, k -> newBatch);
+      }
+
+      int size;
+      synchronized (batch) {
+        if (batch.closed) {
+          // already sent, use a new batch
+          continue;
+        }
+        size = batch.add(argument, future);
+      }
+
+      if (size >= config.getConsumerBatchMaxSize()) {
+        flush(batch);
+      } else if (size == 1) {
+        Batch scheduled = batch;
+        schedule(config.getMsConsumerBatchMaxDelay(), () -> flush(scheduled));
+      }
+      return future;
+    }
+  }
+
+  protected Batch createBatch(Object key, Invocation invocation, String batchOperationId,
+      Map<String, String> contexts) {
+    OperationMeta batchOperationMeta = invocation.getSchemaMeta().findOperation(batchOperationId);
+    if (batchOperationMeta == null) {
+      return null;
+    }
+
+    List<Parameter> parameters = batchOperationMeta.getSwaggerOperation().getParameters();
+    if (parameters == null || parameters.size() != 1) {
+      return null;
+    }
+
+    return new Batch(key, invocation, batchOperationMeta, parameters.get(0).getName(), contexts);
+  }
+
+  protected void schedule(long msDelay, Runnable task) {
+    SharedVertxFactory.getSharedVertx().setTimer(Math.max(1, msDelay), id -> task.run());
+  }
+
+  @VisibleForTesting
+  void flush(Batch batch) {
+    synchronized (batch) {
+      if (batch.closed) {
+        return;
+      }
+      batch.closed = true;
+      batches.remove(batch.key, batch);
+    }
+
+    CompletableFuture<Response> batchFuture;
+    try {
+      batchFuture = invoke(createBatchInvocation(batch));
+    } catch (Throwable e) {
+      batchFuture = AsyncUtils.completeExceptionally(e);
+    }
+    batchFuture.whenComplete((response, throwable) -> dispatch(batch, response, throwable));
+  }
+
+  protected Invocation createBatchInvocation(Batch batch) {
+    InvocationRuntimeType runtimeType = batch.batchOperationMeta.buildBaseConsumerRuntimeType();
+    runtimeType.setSuccessResponseType(batch.responseType);
+    ReferenceConfig referenceConfig = new ReferenceConfig(batch.transport, batch.versionRule)
+        .setThirdPartyService(batch.thirdParty);
+    Invocation invocation = InvocationFactory.forConsumer(referenceConfig, batch.batchOperationMeta, runtimeType,
+        Collections.singletonMap(batch.argumentName, batch.arguments));
+    invocation.addContext(batch.contexts);
+    return invocation;
+  }
+
+  /**
+   * batch invocation run through the whole consumer filter chain again, not batched because of different operation
+   */
+  protected CompletableFuture<Response> invoke(Invocation batchInvocation) {
+    return InvokerUtils.invoke(batchInvocation);
+  }
+
+  protected void dispatch(Batch batch, Response response, Throwable throwable) {
+    if (throwable != null) {
+      batch.futures.forEach(future -> future.completeExceptionally(throwable));
+      return;
+    }
+
+    Object result = response.getResult();
+    if (!(result instanceof List) || ((List<?>) result).size() != batch.futures.size()) {
+      Throwable mismatch = Exceptions.genericConsumer(String.format(
+          "result count of batch operation %s not match, expected=%d.",
+          batch.batchOperationMeta.getMicroserviceQualifiedName(), batch.futures.size()));
+      batch.futures.forEach(future -> future.completeExceptionally(mismatch));
+      return;
+    }
+
+    List<?> results = (List<?>) result;
+    for (int idx = 0; idx < results.size(); idx++) {
+      Response elementResponse = Response.status(response.getStatus()).entity(results.get(idx));
+      batch.futures.get(idx).complete(elementResponse);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.filter.impl;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import javax.annotation.Nonnull;
+import javax.servlet.http.Part;
+import javax.ws.rs.core.Response.Status;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.filter.ConsumerFilter;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.core.invocation.InvocationKeyUtils;
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
+import org.apache.servicecomb.foundation.common.utils.JsonUtils;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.google.common.annotations.VisibleForTesting;
+
+import io.vertx.core.MultiMap;
+
+/**
+ * concurrent invocations of the same operation with equal swagger arguments and invocation context share one
+ * outbound request, see {@link InvocationKeyUtils}<br>
+ * operations that return stream or file are never coalesced<br>
+ * only enabled when servicecomb.Consumer.coalesce.enabled of the operation is true, operation must be idempotent<br>
+ * the first invocation sends the request, others get a copy of the decoded response
+ */
+@Component
+public class CoalesceFilter implements ConsumerFilter {
+  public static final String NAME = "coalesce";
+
+  static final class CoalesceKey {
+    private final String operation;
+
+    private final Map<String, Object> arguments;
+
+    private final Map<String, String> contexts;
+
+    private final int hash;
+
+    CoalesceKey(String operation, Map<String, Object> arguments, Map<String, String> contexts) {
+      this.operation = operation;
+      this.arguments = arguments;
+      this.contexts = contexts;
+      this.hash = Objects.hash(operation, arguments, contexts);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof CoalesceKey)) {
+        return false;
+      }
+
+      CoalesceKey other = (CoalesceKey) obj;
+      return hash == other.hash && operation.equals(other.operation) && Objects.equals(arguments, other.arguments)
+          && Objects.equals(contexts, other.contexts);
+    }
+  }
+
+  private final Map<CoalesceKey, CompletableFuture<Response>> inflight = new ConcurrentHashMapEx<>();
+
+  @Nonnull
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @VisibleForTesting
+  int getInflightCount() {
+    return inflight.size();
+  }
+
+  @Override
+  public CompletableFuture<Response> onFilter(Invocation invocation, FilterNode nextNode) {
+    if (!invocation.getOperationMeta().getConfig().isConsumerCoalesceEnabled() || !isCoalesceable(invocation)) {
+      return nextNode.onFilter(invocation);
+    }
+
+    CoalesceKey key = new CoalesceKey(invocation.getOperationMeta().getMicroserviceQualifiedName(),
+        InvocationKeyUtils.normalizeArguments(invocation.getSwaggerArguments()),
+        InvocationKeyUtils.collectContexts(invocation));
+    CompletableFuture<Response> shared = new CompletableFuture<>();
+    CompletableFuture<Response> leader = inflight.putIfAbsent(key, shared);
+    if (leader != null) {
+      return leader.thenApply(response -> copyResponse(invocation, response));
+    }
+
+    try {
+      return nextNode.onFilter(invocation)
+          .whenComplete((response, throwable) -> {
+            inflight.remove(key, shared);
+            if (throwable != null) {
+              shared.completeExceptionally(throwable);
+              return;
+            }
+            shared.complete(response);
+          });
+    } catch (Throwable e) {
+      inflight.remove(key, shared);
+      shared.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * result of stream or file can only be read once, and can not be copied by json convert
+   */
+  protected boolean isCoalesceable(Invocation invocation) {
+    JavaType responseType = invocation.findResponseType(Status.OK.getStatusCode());
+    if (responseType == null) {
+      return true;
+    }
+
+    Class<?> rawClass = responseType.getRawClass();
+    return !Part.class.isAssignableFrom(rawClass)
+        && !InputStream.class.isAssignableFrom(rawClass)
+        && !Stream.class.isAssignableFrom(rawClass)
+        && !Resource.class.isAssignableFrom(rawClass)
+        && !File.class.isAssignableFrom(rawClass);
+  }
+
+  protected Response copyResponse(Invocation invocation, Response response) {
+    Response copy = Response.status(response.getStatus()).entity(copyResult(invocation, response));
+    if (response.getHeaders() != null) {
+      copy.setHeaders(MultiMap.caseInsensitiveMultiMap().addAll(response.getHeaders()));
+    }
+    return copy;
+  }
+
+  protected Object copyResult(Invocation invocation, Response response) {
+    Object result = response.getResult();
+    if (result == null || result instanceof String || result instanceof Number || result instanceof Boolean
+        || result instanceof Character || result instanceof Enum) {
+      return result;
+    }
+
+    JavaType type = invocation.findResponseType(response.getStatusCode());
+    return JsonUtils.OBJ_MAPPER.convertValue(result, type);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.filter.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nonnull;
+import javax.ws.rs.HttpMethod;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.core.filter.ProducerFilter;
+import org.apache.servicecomb.core.filter.cache.CachedResponse;
+import org.apache.servicecomb.core.filter.cache.ResponseCacheManager;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+
+/**
+ * cache success response of GET operations, keyed by swagger arguments, invocation context and
+ * servicecomb.Provider.responseCache.varyHeaders<br>
+ * only enabled when servicecomb.Provider.responseCache.ttl of the operation is greater than 0<br>
+ * operations with context arguments and responses of stream or file are never cached<br>
+ * must be placed after transport filters, so that swagger arguments are decoded, and transport
+ * can reuse the encoded body of {@link CachedResponse}<br>
+ * a hit skips all later filters, so authentication and authorization must be placed before this filter
+ */
+@Component
+public class ResponseCacheFilter implements ProducerFilter {
+  public static final String NAME = "response-cache";
+
+  @Nonnull
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public CompletableFuture<Response> onFilter(Invocation invocation, FilterNode nextNode) {
+    OperationMeta operationMeta = invocation.getOperationMeta();
+    if (operationMeta.getConfig().getMsResponseCacheTtl() <= 0
+        || !HttpMethod.GET.equalsIgnoreCase(operationMeta.getHttpMethod())
+        || !ResponseCacheManager.isCacheable(operationMeta)) {
+      return nextNode.onFilter(invocation);
+    }
+
+    Cache<Object, CachedResponse> cache = ResponseCacheManager.INSTANCE.getOrCreateCache(operationMeta);
+    Object key = ResponseCacheManager.createKey(invocation);
+    CachedResponse cachedResponse = cache.getIfPresent(key);
+    if (cachedResponse != null) {
+      invocation.addLocalContext(CachedResponse.LOCAL_CONTEXT_KEY, cachedResponse);
+      return CompletableFuture.completedFuture(cachedResponse.createResponse());
+    }
+
+    return nextNode.onFilter(invocation)
+        .thenApply(response -> {
+          if (response.isSucceed() && ResponseCacheManager.isCacheable(invocation, response)) {
+            CachedResponse newCachedResponse = new CachedResponse(response);
+            cache.put(key, newCachedResponse);
+            invocation.addLocalContext(CachedResponse.LOCAL_CONTEXT_KEY, newCachedResponse);
+          }
+          return response;
+        });
+  }
+}
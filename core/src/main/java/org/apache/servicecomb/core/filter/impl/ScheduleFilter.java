@@ -23,6 +23,7 @@ import javax.annotation.Nonnull;
 
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.exception.Exceptions;
+import org.apache.servicecomb.core.executor.PriorityTask;
 import org.apache.servicecomb.core.filter.FilterNode;
 import org.apache.servicecomb.core.filter.ProducerFilter;
 import org.apache.servicecomb.core.invocation.InvocationStageTrace;
@@ -44,7 +45,8 @@ public class ScheduleFilter implements ProducerFilter {
     invocation.getInvocationStageTrace().startSchedule();
     Executor executor = invocation.getOperationMeta().getExecutor();
     return CompletableFuture.completedFuture(null)
-        .thenComposeAsync(response -> runInExecutor(invocation, next), executor);
+        .thenComposeAsync(response -> runInExecutor(invocation, next),
+            command -> executor.execute(PriorityTask.wrap(executor, invocation, command)));
   }
 
   protected CompletableFuture<Response> runInExecutor(Invocation invocation, FilterNode next) {
@@ -32,6 +32,7 @@ import org.apache.servicecomb.core.filter.ConsumerFilter;
 import org.apache.servicecomb.core.filter.FilterNode;
 import org.apache.servicecomb.core.handler.impl.SimpleLoadBalanceHandler;
 import org.apache.servicecomb.core.registry.discovery.EndpointDiscoveryFilter;
+import org.apache.servicecomb.core.registry.discovery.InvocationDiscoveryReplayInput;
 import org.apache.servicecomb.foundation.common.cache.VersionedCache;
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.apache.servicecomb.registry.discovery.DiscoveryContext;
@@ -73,6 +74,7 @@ public class SimpleLoadBalanceFilter implements ConsumerFilter {
     public Endpoint selectEndpoint(Invocation invocation) {
       DiscoveryContext context = new DiscoveryContext();
       context.setInputParameters(invocation);
+      context.setReplayInput(new InvocationDiscoveryReplayInput(invocation));
       VersionedCache endpointsVersionedCache = discoveryTree.discovery(context,
           invocation.getAppId(),
           invocation.getMicroserviceName(),
@@ -26,6 +26,7 @@ import org.apache.servicecomb.core.Handler;
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.exception.ExceptionUtils;
 import org.apache.servicecomb.core.registry.discovery.EndpointDiscoveryFilter;
+import org.apache.servicecomb.core.registry.discovery.InvocationDiscoveryReplayInput;
 import org.apache.servicecomb.foundation.common.cache.VersionedCache;
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.apache.servicecomb.registry.discovery.DiscoveryContext;
@@ -61,6 +62,7 @@ public class SimpleLoadBalanceHandler implements Handler {
 
     DiscoveryContext context = new DiscoveryContext();
     context.setInputParameters(invocation);
+    context.setReplayInput(new InvocationDiscoveryReplayInput(invocation));
     VersionedCache endpointsVersionedCache = discoveryTree.discovery(context,
         invocation.getAppId(),
         invocation.getMicroserviceName(),
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.invocation;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.executor.PriorityTask;
+import org.apache.servicecomb.core.invocation.timeout.PassingTimeStrategy;
+import org.apache.servicecomb.core.invocation.timeout.ProcessingTimeStrategy;
+import org.apache.servicecomb.core.tracing.TraceIdGenerator;
+
+import com.netflix.config.DynamicPropertyFactory;
+import com.netflix.config.DynamicStringProperty;
+
+/**
+ * build keys of invocations that share result, eg: response cache, coalesce and batch<br>
+ * two invocations with equal keys must get the same result from the operation
+ */
+public final class InvocationKeyUtils {
+  /**
+   * comma separated invocation context keys which not affect result of operations,
+   * trace ids, chain time and schedule priority are always ignored
+   */
+  public static final String KEY_IGNORED_CONTEXTS = "servicecomb.invocation.key.ignoredContexts";
+
+  private static final String[] BUILTIN_IGNORED_CONTEXTS = {
+      PassingTimeStrategy.CHAIN_START_TIME,
+      ProcessingTimeStrategy.CHAIN_START_TIME,
+      ProcessingTimeStrategy.CHAIN_PROCESSING,
+      PriorityTask.CONTEXT_PRIORITY,
+      // zipkin b3 propagation
+      "X-B3-TraceId",
+      "X-B3-SpanId",
+      "X-B3-ParentSpanId",
+      "X-B3-Sampled",
+      "X-B3-Flags"
+  };
+
+  private static final DynamicStringProperty IGNORED_CONTEXTS_PROPERTY = DynamicPropertyFactory.getInstance()
+      .getStringProperty(KEY_IGNORED_CONTEXTS, null);
+
+  private static volatile Set<String> ignoredContexts = createIgnoredContexts();
+
+  static {
+    IGNORED_CONTEXTS_PROPERTY.addCallback(() -> ignoredContexts = createIgnoredContexts());
+  }
+
+  private InvocationKeyUtils() {
+  }
+
+  private static Set<String> createIgnoredContexts() {
+    Set<String> keys = new HashSet<>(Arrays.asList(BUILTIN_IGNORED_CONTEXTS));
+    for (TraceIdGenerator traceIdGenerator : Invocation.getTraceIdGenerators()) {
+      keys.add(traceIdGenerator.getTraceIdKeyName());
+    }
+
+    String configured = IGNORED_CONTEXTS_PROPERTY.get();
+    if (StringUtils.isNotEmpty(configured)) {
+      for (String key : configured.split(",")) {
+        if (StringUtils.isNotBlank(key)) {
+          keys.add(key.trim());
+        }
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * swagger arguments in name order, arrays are converted to list to make equals work
+   */
+  public static Map<String, Object> normalizeArguments(Map<String, Object> swaggerArguments) {
+    if (swaggerArguments == null || swaggerArguments.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<String, Object> key = new TreeMap<>();
+    for (Entry<String, Object> entry : swaggerArguments.entrySet()) {
+      key.put(entry.getKey(), normalizeValue(entry.getValue()));
+    }
+    return key;
+  }
+
+  private static Object normalizeValue(Object value) {
+    if (value == null || !value.getClass().isArray()) {
+      return value;
+    }
+
+    if (value instanceof Object[]) {
+      Object[] array = (Object[]) value;
+      Object[] normalized = new Object[array.length];
+      for (int idx = 0; idx < array.length; idx++) {
+        normalized[idx] = normalizeValue(array[idx]);
+      }
+      return Arrays.asList(normalized);
+    }
+
+    // primitive arrays
+    int length = Array.getLength(value);
+    Object[] boxed = new Object[length];
+    for (int idx = 0; idx < length; idx++) {
+      boxed[idx] = Array.get(value, idx);
+    }
+    return Arrays.asList(boxed);
+  }
+
+  /**
+   * invocation context in name order, without keys that not affect result
+   */
+  public static Map<String, String> collectContexts(Invocation invocation) {
+    Map<String, String> context = invocation.getContext();
+    if (context == null || context.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Set<String> ignored = ignoredContexts;
+    Map<String, String> key = new TreeMap<>();
+    for (Entry<String, String> entry : context.entrySet()) {
+      if (!ignored.contains(entry.getKey())) {
+        key.put(entry.getKey(), entry.getValue());
+      }
+    }
+    return key.isEmpty() ? Collections.emptyMap() : key;
+  }
+}
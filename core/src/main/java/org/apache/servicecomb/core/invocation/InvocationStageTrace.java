@@ -16,7 +16,10 @@
  */
 package org.apache.servicecomb.core.invocation;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationMeta;
 
 /**
  * <pre>
@@ -133,6 +136,9 @@ public class InvocationStageTrace {
   // only for producer
   private long finishBusiness;
 
+  // sampled invocation will be logged with full stage trace, even not slow
+  private boolean sampled;
+
   public InvocationStageTrace(Invocation invocation) {
     this.invocation = invocation;
   }
@@ -141,6 +147,21 @@ public class InvocationStageTrace {
     // remember the current time to start invocation
     this.startTimeMillis = System.currentTimeMillis();
     this.start = start;
+    this.sampled = sample();
+  }
+
+  private boolean sample() {
+    OperationMeta operationMeta = invocation.getOperationMeta();
+    if (operationMeta == null) {
+      return false;
+    }
+
+    double rate = operationMeta.getConfig().getStageTraceSampleRate();
+    return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+  }
+
+  public boolean isSampled() {
+    return sampled;
   }
 
   public long getStart() {
@@ -47,12 +47,28 @@ public class InvocationTimeoutBootListener {
 
   public static final String ENABLED = PREFIX + ".enabled";
 
+  // stage events can be disabled by operation config, but timeout check depends on them
+  private static volatile boolean timeoutCheckEnabled;
+
+  // null when timeout check is disabled
+  private static volatile InvocationTimeoutStrategy timeoutStrategy;
+
   private final InvocationTimeoutStrategy strategy;
 
+  public static boolean isTimeoutCheckEnabled() {
+    return timeoutCheckEnabled;
+  }
+
+  public static InvocationTimeoutStrategy getTimeoutStrategy() {
+    return timeoutStrategy;
+  }
+
   public InvocationTimeoutBootListener(EventBus eventBus, List<InvocationTimeoutStrategy> strategies,
       Environment environment) {
-    if (!environment.getProperty(ENABLED, boolean.class, false)) {
+    timeoutCheckEnabled = environment.getProperty(ENABLED, boolean.class, false);
+    if (!timeoutCheckEnabled) {
       strategy = null;
+      timeoutStrategy = null;
       return;
     }
 
@@ -62,6 +78,7 @@ public class InvocationTimeoutBootListener {
         .filter(invocationTimeoutStrategy -> strategyName.equals(invocationTimeoutStrategy.name()))
         .findFirst()
         .orElseThrow(() -> new IllegalStateException("can not find InvocationTimeoutStrategy, name=" + strategyName));
+    timeoutStrategy = strategy;
     eventBus.register(this);
   }
 
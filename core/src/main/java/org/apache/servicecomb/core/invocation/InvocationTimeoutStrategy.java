@@ -73,4 +73,16 @@ public interface InvocationTimeoutStrategy {
   }
 
   long calculateElapsedNanoTime(Invocation invocation);
+
+  /**
+   * @return Long.MAX_VALUE if invocation timeout not configured
+   */
+  default long calculateRemainingNanoTime(Invocation invocation) {
+    long nanoInvocationTimeout = invocation.getOperationMeta().getConfig().getNanoInvocationTimeout();
+    if (nanoInvocationTimeout <= 0) {
+      return Long.MAX_VALUE;
+    }
+
+    return nanoInvocationTimeout - calculateElapsedNanoTime(invocation);
+  }
 }
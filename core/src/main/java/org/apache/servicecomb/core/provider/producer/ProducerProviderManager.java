@@ -20,7 +20,11 @@ package org.apache.servicecomb.core.provider.producer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.servicecomb.core.ProducerProvider;
@@ -30,6 +34,7 @@ import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.definition.SchemaMeta;
 import org.apache.servicecomb.core.executor.ExecutorManager;
+import org.apache.servicecomb.foundation.common.utils.BeanUtils;
 import org.apache.servicecomb.foundation.common.utils.ClassLoaderScopeContext;
 import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
 import org.apache.servicecomb.registry.definition.DefinitionConst;
@@ -45,6 +50,8 @@ import io.swagger.models.Swagger;
 public class ProducerProviderManager {
   private static final Logger LOGGER = LoggerFactory.getLogger(ProducerProviderManager.class);
 
+  public static final String KEY_PARALLEL_ENABLED = "servicecomb.producer.schema.parallel.enabled";
+
   private List<ProducerProvider> producerProviderList = new ArrayList<>(
       SPIServiceUtils.getOrLoadSortedService(ProducerProvider.class));
 
@@ -52,6 +59,9 @@ public class ProducerProviderManager {
 
   private List<ProducerMeta> producerMetas = new ArrayList<>();
 
+  // null if not configured
+  private ProducerSwaggerCache swaggerCache;
+
   public ProducerProviderManager(SCBEngine scbEngine) {
     this.scbEngine = scbEngine;
   }
@@ -61,6 +71,7 @@ public class ProducerProviderManager {
   }
 
   public void init() {
+    swaggerCache = ProducerSwaggerCache.create();
     registerProducerMetas(producerMetas);
 
     for (ProducerProvider provider : producerProviderList) {
@@ -83,8 +94,52 @@ public class ProducerProviderManager {
   }
 
   private void registerProducerMetas(List<ProducerMeta> producerMetas) {
-    for (ProducerMeta producerMeta : producerMetas) {
-      registerSchema(producerMeta.getSchemaId(), producerMeta.getSchemaInterface(), producerMeta.getInstance());
+    if (producerMetas.size() <= 1 || !DynamicPropertyFactory.getInstance()
+        .getBooleanProperty(KEY_PARALLEL_ENABLED, false).get()) {
+      for (ProducerMeta producerMeta : producerMetas) {
+        registerSchema(producerMeta.getSchemaId(), producerMeta.getSchemaInterface(), producerMeta.getInstance());
+      }
+      return;
+    }
+
+    // schemas are independent, generate in parallel
+    // but register to microserviceMeta in original order
+    ForkJoinPool pool = createGeneratePool();
+    try {
+      List<CompletableFuture<SwaggerProducer>> futures = new ArrayList<>();
+      for (ProducerMeta producerMeta : producerMetas) {
+        futures.add(CompletableFuture.supplyAsync(() -> createSwaggerProducer(producerMeta.getSchemaId(),
+            producerMeta.getSchemaInterface(), producerMeta.getInstance()), pool));
+      }
+
+      for (int idx = 0; idx < producerMetas.size(); idx++) {
+        registerSchema(producerMetas.get(idx).getSchemaId(), joinProducer(futures.get(idx)));
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private ForkJoinPool createGeneratePool() {
+    // swagger generation depends on context classloader, eg: run in tomcat
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    AtomicInteger threadIdx = new AtomicInteger();
+    return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+      ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName("schema-generator-" + threadIdx.getAndIncrement());
+      thread.setContextClassLoader(classLoader);
+      return thread;
+    }, null, false);
+  }
+
+  private SwaggerProducer joinProducer(CompletableFuture<SwaggerProducer> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
     }
   }
 
@@ -93,14 +148,33 @@ public class ProducerProviderManager {
   }
 
   public SchemaMeta registerSchema(String schemaId, Class<?> schemaInterface, Object instance) {
+    return registerSchema(schemaId, createSwaggerProducer(schemaId, schemaInterface, instance));
+  }
+
+  private SwaggerProducer createSwaggerProducer(String schemaId, Class<?> schemaInterface, Object instance) {
     MicroserviceMeta producerMicroserviceMeta = scbEngine.getProducerMicroserviceMeta();
     Swagger swagger = scbEngine.getSwaggerLoader().loadLocalSwagger(
         producerMicroserviceMeta.getAppId(),
         producerMicroserviceMeta.getShortName(),
         schemaId);
+    if (swagger != null || swaggerCache == null) {
+      return scbEngine.getSwaggerEnvironment().createProducer(instance, schemaInterface, swagger);
+    }
+
+    Class<?> producerCls = schemaInterface != null && !Object.class.equals(schemaInterface) ?
+        schemaInterface : BeanUtils.getImplClassFromBean(instance);
+    swagger = swaggerCache.load(producerCls);
     SwaggerProducer swaggerProducer = scbEngine.getSwaggerEnvironment()
         .createProducer(instance, schemaInterface, swagger);
-    swagger = swaggerProducer.getSwagger();
+    if (swagger == null) {
+      swaggerCache.save(producerCls, swaggerProducer.getSwagger());
+    }
+    return swaggerProducer;
+  }
+
+  private SchemaMeta registerSchema(String schemaId, SwaggerProducer swaggerProducer) {
+    MicroserviceMeta producerMicroserviceMeta = scbEngine.getProducerMicroserviceMeta();
+    Swagger swagger = swaggerProducer.getSwagger();
     registerUrlPrefixToSwagger(swagger);
 
     SchemaMeta schemaMeta = producerMicroserviceMeta.registerSchemaMeta(schemaId, swagger);
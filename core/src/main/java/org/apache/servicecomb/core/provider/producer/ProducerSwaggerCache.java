@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.provider.producer;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.config.inject.PlaceholderResolver;
+import org.apache.servicecomb.swagger.SwaggerUtils;
+import org.apache.servicecomb.swagger.generator.SwaggerGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.netflix.config.DynamicPropertyFactory;
+
+import io.swagger.models.Swagger;
+
+/**
+ * on-disk cache of generated swagger, avoid to generate again when restart an unchanged deployment<br>
+ * <br>
+ * key is hash of generator version and bytecode of producer class, and all model classes reachable from its
+ * method signatures by generic arguments, super classes, fields and getters<br>
+ * paths in annotations maybe placeholders resolved from configuration, so resolved values of string constants with
+ * placeholder in these classes are part of the key too<br>
+ * cache is disabled if version of generator is unknown
+ */
+public class ProducerSwaggerCache {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ProducerSwaggerCache.class);
+
+  public static final String KEY_CACHE_DIR = "servicecomb.producer.schema.cache.dir";
+
+  // null when not run from a released jar, eg: run in IDE
+  private static final String GENERATOR_VERSION = SwaggerGenerator.class.getPackage().getImplementationVersion();
+
+  private final Path cacheDir;
+
+  private final String generatorVersion;
+
+  public ProducerSwaggerCache(Path cacheDir) {
+    this(cacheDir, GENERATOR_VERSION);
+  }
+
+  ProducerSwaggerCache(Path cacheDir, String generatorVersion) {
+    this.cacheDir = cacheDir;
+    this.generatorVersion = generatorVersion;
+  }
+
+  /**
+   * @return null if cache is not configured, or version of swagger generator is unknown
+   */
+  public static ProducerSwaggerCache create() {
+    String dir = DynamicPropertyFactory.getInstance().getStringProperty(KEY_CACHE_DIR, null).get();
+    if (StringUtils.isEmpty(dir)) {
+      return null;
+    }
+
+    if (GENERATOR_VERSION == null) {
+      LOGGER.warn("version of swagger generator is unknown, swagger cache is disabled, dir={}.", dir);
+      return null;
+    }
+
+    return new ProducerSwaggerCache(Paths.get(dir));
+  }
+
+  public Swagger load(Class<?> producerCls) {
+    Path file = findCacheFile(producerCls);
+    if (file == null || !Files.exists(file)) {
+      return null;
+    }
+
+    try {
+      return SwaggerUtils.parseSwagger(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    } catch (Throwable e) {
+      LOGGER.warn("failed to load cached swagger, file={}, cause={}.", file, e.getMessage());
+      return null;
+    }
+  }
+
+  public void save(Class<?> producerCls, Swagger swagger) {
+    Path file = findCacheFile(producerCls);
+    if (file == null) {
+      return;
+    }
+
+    try {
+      Files.createDirectories(cacheDir);
+      // same class maybe saved concurrently by different schemas, write to temp file and move
+      Path tmp = Files.createTempFile(cacheDir, file.getFileName().toString(), ".tmp");
+      Files.write(tmp, SwaggerUtils.swaggerToString(swagger).getBytes(StandardCharsets.UTF_8));
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (Throwable e) {
+      LOGGER.warn("failed to save swagger cache, file={}, cause={}.", file, e.getMessage());
+    }
+  }
+
+  Path findCacheFile(Class<?> producerCls) {
+    String hash = hash(producerCls);
+    return hash == null ? null : cacheDir.resolve(producerCls.getName() + "-" + hash + ".yaml");
+  }
+
+  /**
+   * @return null if bytecode of producer class not available, eg: generated by runtime,
+   * or any bytecode can not be parsed
+   */
+  String hash(Class<?> producerCls) {
+    Set<Class<?>> classes = new LinkedHashSet<>();
+    classes.add(producerCls);
+    for (Method method : producerCls.getMethods()) {
+      if (method.getDeclaringClass() == Object.class) {
+        continue;
+      }
+
+      // annotations of inherited methods are in bytecode of declaring class
+      classes.add(method.getDeclaringClass());
+      collectModelClasses(method.getGenericReturnType(), classes);
+      for (Type parameterType : method.getGenericParameterTypes()) {
+        collectModelClasses(parameterType, classes);
+      }
+    }
+
+    PlaceholderResolver placeholderResolver = new PlaceholderResolver();
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putString(generatorVersion, StandardCharsets.UTF_8);
+    for (Class<?> cls : classes) {
+      byte[] bytes = readBytecode(cls);
+      if (bytes == null) {
+        if (cls == producerCls) {
+          return null;
+        }
+        continue;
+      }
+      hasher.putString(cls.getName(), StandardCharsets.UTF_8).putBytes(bytes);
+
+      List<String> placeholders = collectPlaceholderConstants(bytes);
+      if (placeholders == null) {
+        LOGGER.warn("failed to parse bytecode of {}, swagger cache of {} is disabled.", cls.getName(),
+            producerCls.getName());
+        return null;
+      }
+      for (String placeholder : placeholders) {
+        hasher.putString(placeholderResolver.replaceFirst(placeholder), StandardCharsets.UTF_8);
+      }
+    }
+    return hasher.hash().toString();
+  }
+
+  /**
+   * string constants contain "${" in constant pool of the class file, include values of annotations
+   * @return null if failed to parse the class file
+   */
+  static List<String> collectPlaceholderConstants(byte[] bytecode) {
+    List<String> constants = new ArrayList<>();
+    try (DataInputStream is = new DataInputStream(new ByteArrayInputStream(bytecode))) {
+      // magic, minor_version, major_version
+      is.skipBytes(8);
+      int count = is.readUnsignedShort();
+      for (int idx = 1; idx < count; idx++) {
+        int tag = is.readUnsignedByte();
+        switch (tag) {
+          case 1:
+            // Utf8, same format with DataInput.readUTF
+            String value = is.readUTF();
+            if (value.contains("${")) {
+              constants.add(value);
+            }
+            break;
+          case 5:
+          case 6:
+            // Long and Double take two entries
+            is.skipBytes(8);
+            idx++;
+            break;
+          case 7:
+          case 8:
+          case 16:
+          case 19:
+          case 20:
+            // Class, String, MethodType, Module, Package
+            is.skipBytes(2);
+            break;
+          case 15:
+            // MethodHandle
+            is.skipBytes(3);
+            break;
+          case 3:
+          case 4:
+          case 9:
+          case 10:
+          case 11:
+          case 12:
+          case 17:
+          case 18:
+            // Integer, Float, Fieldref, Methodref, InterfaceMethodref, NameAndType, Dynamic, InvokeDynamic
+            is.skipBytes(4);
+            break;
+          default:
+            return null;
+        }
+      }
+    } catch (IOException e) {
+      return null;
+    }
+    return constants;
+  }
+
+  /**
+   * collect all classes that maybe part of swagger definitions of the type,
+   * include generic arguments, super classes, fields and getters, recursively
+   */
+  static void collectModelClasses(Type type, Set<Class<?>> classes) {
+    if (type instanceof ParameterizedType) {
+      collectModelClasses(((ParameterizedType) type).getRawType(), classes);
+      for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+        collectModelClasses(argument, classes);
+      }
+      return;
+    }
+
+    if (type instanceof GenericArrayType) {
+      collectModelClasses(((GenericArrayType) type).getGenericComponentType(), classes);
+      return;
+    }
+
+    if (type instanceof WildcardType) {
+      for (Type bound : ((WildcardType) type).getUpperBounds()) {
+        collectModelClasses(bound, classes);
+      }
+      for (Type bound : ((WildcardType) type).getLowerBounds()) {
+        collectModelClasses(bound, classes);
+      }
+      return;
+    }
+
+    if (type instanceof TypeVariable) {
+      for (Type bound : ((TypeVariable<?>) type).getBounds()) {
+        collectModelClasses(bound, classes);
+      }
+      return;
+    }
+
+    if (!(type instanceof Class)) {
+      return;
+    }
+
+    Class<?> cls = (Class<?>) type;
+    if (cls.isArray()) {
+      collectModelClasses(cls.getComponentType(), classes);
+      return;
+    }
+
+    // jdk classes are covered by generator version
+    if (cls.isPrimitive() || cls.getClassLoader() == null || !classes.add(cls)) {
+      return;
+    }
+
+    collectModelClasses(cls.getGenericSuperclass(), classes);
+    for (Field field : cls.getDeclaredFields()) {
+      if (!Modifier.isStatic(field.getModifiers())) {
+        collectModelClasses(field.getGenericType(), classes);
+      }
+    }
+    for (Method method : cls.getDeclaredMethods()) {
+      if (!Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0
+          && method.getReturnType() != void.class) {
+        collectModelClasses(method.getGenericReturnType(), classes);
+      }
+    }
+  }
+
+  private byte[] readBytecode(Class<?> cls) {
+    String resource = cls.getName().replace('.', '/') + ".class";
+    try (InputStream is = cls.getClassLoader().getResourceAsStream(resource)) {
+      return is == null ? null : IOUtils.toByteArray(is);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+}
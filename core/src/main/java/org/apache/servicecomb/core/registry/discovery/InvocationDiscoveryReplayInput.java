@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.registry.discovery;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.registry.discovery.DiscoveryReplayInput;
+
+/**
+ * discovery filters of invocation route by transport, microserviceName and operation
+ * so replay input only keep them, not keep the invocation
+ */
+public class InvocationDiscoveryReplayInput implements DiscoveryReplayInput {
+  private final Invocation invocation;
+
+  public InvocationDiscoveryReplayInput(Invocation invocation) {
+    this.invocation = invocation;
+  }
+
+  @Override
+  public String getReplayKey() {
+    OperationMeta operationMeta = invocation.getOperationMeta();
+    return invocation.getConfigTransportName() + "/" + invocation.getMicroserviceName() + "/"
+        + (operationMeta == null ? null : operationMeta.getMicroserviceQualifiedName());
+  }
+
+  @Override
+  public Object createReplayInputParameters() {
+    String transportName = invocation.getConfigTransportName();
+    String microserviceName = invocation.getMicroserviceName();
+    OperationMeta operationMeta = invocation.getOperationMeta();
+    return new Invocation() {
+      @Override
+      public String getConfigTransportName() {
+        return transportName;
+      }
+
+      @Override
+      public String getMicroserviceName() {
+        return microserviceName;
+      }
+
+      @Override
+      public OperationMeta getOperationMeta() {
+        return operationMeta;
+      }
+
+      @Override
+      public String getMicroserviceQualifiedName() {
+        return operationMeta.getMicroserviceQualifiedName();
+      }
+    };
+  }
+}
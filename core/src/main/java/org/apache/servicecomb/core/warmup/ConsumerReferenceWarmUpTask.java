@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.warmup;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.core.definition.ConsumerMicroserviceVersionsMeta;
+import org.apache.servicecomb.core.definition.CoreMetaUtils;
+import org.apache.servicecomb.core.provider.consumer.MicroserviceReferenceConfig;
+import org.apache.servicecomb.registry.DiscoveryManager;
+import org.apache.servicecomb.registry.consumer.MicroserviceVersions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.netflix.config.DynamicPropertyFactory;
+
+/**
+ * resolve microservices to be invoked, includes find instances and load swagger of latest version
+ */
+public class ConsumerReferenceWarmUpTask implements WarmUpTask {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConsumerReferenceWarmUpTask.class);
+
+  /**
+   * microservice names separated by comma, format is shortName, or appId:shortName when invoke cross app
+   */
+  public static final String KEY_MICROSERVICES = "servicecomb.warmup.consumer.microservices";
+
+  @Override
+  public int getOrder() {
+    return 100;
+  }
+
+  @Override
+  public boolean isDependOnDiscovery() {
+    return true;
+  }
+
+  @Override
+  public void warmUp(SCBEngine scbEngine) {
+    String names = DynamicPropertyFactory.getInstance().getStringProperty(KEY_MICROSERVICES, null).get();
+    if (StringUtils.isEmpty(names)) {
+      return;
+    }
+
+    for (String name : names.split(",")) {
+      String microserviceName = name.trim();
+      if (microserviceName.isEmpty()) {
+        continue;
+      }
+
+      try {
+        MicroserviceVersions microserviceVersions = DiscoveryManager.INSTANCE
+            .getOrCreateMicroserviceVersions(scbEngine.parseAppId(microserviceName), microserviceName);
+        ConsumerMicroserviceVersionsMeta microserviceVersionsMeta = CoreMetaUtils
+            .getMicroserviceVersionsMeta(microserviceVersions);
+        // create latest MicroserviceMeta
+        new MicroserviceReferenceConfig(microserviceVersionsMeta, null);
+      } catch (Throwable e) {
+        LOGGER.warn("failed to resolve microservice {}.", microserviceName, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.warmup;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.netflix.config.DynamicPropertyFactory;
+
+public class WarmUpManager {
+  private static final Logger LOGGER = LoggerFactory.getLogger(WarmUpManager.class);
+
+  public static final String KEY_ENABLED = "servicecomb.warmup.enabled";
+
+  /**
+   * milliseconds, total time limit of tasks before and after discovery, tasks not finished in time are skipped
+   */
+  public static final String KEY_TIMEOUT = "servicecomb.warmup.timeout";
+
+  public static final long DEFAULT_TIMEOUT = 30000;
+
+  private final List<WarmUpTask> tasks;
+
+  // task name -> milliseconds
+  private final Map<String, Long> taskTimes = new LinkedHashMap<>();
+
+  // -1 means not run
+  private long totalTime = -1;
+
+  // -1 means not started
+  private long deadline = -1;
+
+  public WarmUpManager() {
+    this(SPIServiceUtils.getSortedService(WarmUpTask.class));
+  }
+
+  public WarmUpManager(List<WarmUpTask> tasks) {
+    this.tasks = tasks;
+  }
+
+  public boolean isEnabled() {
+    return DynamicPropertyFactory.getInstance().getBooleanProperty(KEY_ENABLED, false).get();
+  }
+
+  public long getTimeout() {
+    return DynamicPropertyFactory.getInstance().getLongProperty(KEY_TIMEOUT, DEFAULT_TIMEOUT).get();
+  }
+
+  /**
+   * run tasks not depend on discovery, before register instance
+   */
+  public void warmUp(SCBEngine scbEngine) {
+    warmUp(scbEngine, false);
+  }
+
+  /**
+   * run tasks depend on discovery, after discovery started, and before instance status turns UP
+   */
+  public void warmUpAfterDiscovery(SCBEngine scbEngine) {
+    warmUp(scbEngine, true);
+  }
+
+  private void warmUp(SCBEngine scbEngine, boolean afterDiscovery) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    long start = System.currentTimeMillis();
+    if (deadline < 0) {
+      deadline = start + getTimeout();
+    }
+    for (WarmUpTask task : tasks) {
+      if (task.isDependOnDiscovery() != afterDiscovery) {
+        continue;
+      }
+
+      long taskStart = System.currentTimeMillis();
+      if (taskStart >= deadline) {
+        LOGGER.warn("warm up timeout, skip task={}.", task.getName());
+        continue;
+      }
+      runTask(scbEngine, task, deadline - taskStart);
+      taskTimes.put(task.getName(), System.currentTimeMillis() - taskStart);
+    }
+    long time = System.currentTimeMillis() - start;
+    totalTime = Math.max(totalTime, 0) + time;
+    LOGGER.info("warm up {} discovery finished, time={}ms.", afterDiscovery ? "after" : "before", time);
+  }
+
+  // run in another thread, so that a blocked task can not delay startup longer than the timeout
+  private void runTask(SCBEngine scbEngine, WarmUpTask task, long timeout) {
+    FutureTask<Void> future = new FutureTask<>(() -> {
+      task.warmUp(scbEngine);
+      return null;
+    });
+    Thread thread = new Thread(future, "warm-up-" + task.getName());
+    thread.setDaemon(true);
+    thread.start();
+    try {
+      future.get(timeout, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      LOGGER.warn("warm up timeout, task={}, remaining time={}ms.", task.getName(), timeout);
+    } catch (ExecutionException e) {
+      LOGGER.warn("failed to warm up, task={}.", task.getName(), e.getCause());
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      LOGGER.warn("warm up interrupted, task={}.", task.getName());
+    }
+  }
+
+  public Map<String, Long> getTaskTimes() {
+    return taskTimes;
+  }
+
+  public long getTotalTime() {
+    return totalTime;
+  }
+
+  /**
+   * @return null if not run
+   */
+  public String collectInfo() {
+    if (totalTime < 0) {
+      return null;
+    }
+
+    StringBuilder sb = new StringBuilder();
+    sb.append("Warm up time: ").append(totalTime).append("ms\n");
+    for (Entry<String, Long> entry : taskTimes.entrySet()) {
+      sb.append("  ").append(entry.getKey()).append(": ").append(entry.getValue()).append("ms\n");
+    }
+    return sb.toString();
+  }
+}
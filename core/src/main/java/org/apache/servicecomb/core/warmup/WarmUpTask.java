@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.warmup;
+
+import org.apache.servicecomb.core.SCBEngine;
+
+/**
+ * run after transports initialized, and before register instance<br>
+ * or run after discovery started and before instance status UP, if depend on discovery<br>
+ * so first invocations after instance UP will not be slowed by lazy initialization<br>
+ * <br>
+ * load by SPI, failure of a task only log a warning, will not break boot process
+ */
+public interface WarmUpTask {
+  default int getOrder() {
+    return 0;
+  }
+
+  /**
+   * eg: resolve consumer references need discovery to find instances
+   */
+  default boolean isDependOnDiscovery() {
+    return false;
+  }
+
+  default String getName() {
+    return getClass().getSimpleName();
+  }
+
+  void warmUp(SCBEngine scbEngine) throws Exception;
+}
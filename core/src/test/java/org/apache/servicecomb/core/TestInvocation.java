@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Map;
 
 import org.apache.servicecomb.core.definition.InvocationRuntimeType;
+import org.apache.servicecomb.core.definition.OperationConfig;
 import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.event.InvocationBaseEvent;
 import org.apache.servicecomb.core.event.InvocationBusinessMethodFinishEvent;
@@ -274,6 +275,33 @@ public class TestInvocation {
     Assert.assertEquals(nanoTime, invocation.getInvocationStageTrace().getStartBusinessMethod());
   }
 
+  @Test
+  public void onBusinessMethodStart_recordOnly(@Mocked OperationConfig operationConfig) {
+    new Expectations() {
+      {
+        operationMeta.getConfig();
+        result = operationConfig;
+        operationConfig.isStageRecordOnly();
+        result = true;
+      }
+    };
+    invocationBaseEvent = null;
+    Object listener = new Object() {
+      @Subscribe
+      public void onBusinessMethodStart(InvocationBusinessMethodStartEvent event) {
+        invocationBaseEvent = event;
+      }
+    };
+    EventManager.getEventBus().register(listener);
+    Invocation invocation = new Invocation(endpoint, operationMeta, arguments);
+    mockNonaTime();
+    invocation.onBusinessMethodStart();
+    EventManager.getEventBus().unregister(listener);
+
+    Assert.assertNull(invocationBaseEvent);
+    Assert.assertEquals(nanoTime, invocation.getInvocationStageTrace().getStartBusinessMethod());
+  }
+
   @Test
   public void onBusinessMethodFinish() {
     Object listener = new Object() {
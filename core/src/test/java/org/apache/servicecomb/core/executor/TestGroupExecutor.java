@@ -85,6 +85,18 @@ public class TestGroupExecutor {
     Assert.assertEquals(100, groupExecutor.maxQueueSize);
   }
 
+  @Test
+  public void queueType() {
+    groupExecutor.initConfig();
+    Assert.assertTrue(groupExecutor.createQueue() instanceof LinkedBlockingQueueEx);
+    Assert.assertFalse(groupExecutor.isPriorityQueue());
+
+    ArchaiusUtils.setProperty(GroupExecutor.KEY_QUEUE_TYPE, GroupExecutor.QUEUE_TYPE_PRIORITY);
+    groupExecutor.initConfig();
+    Assert.assertTrue(groupExecutor.createQueue() instanceof PriorityBlockingQueueEx);
+    Assert.assertTrue(groupExecutor.isPriorityQueue());
+  }
+
   @Test
   public void maxThreads() {
     groupExecutor.initConfig();
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestPriorityBlockingQueueEx {
+  static class NamedTask implements Runnable {
+    final String name;
+
+    NamedTask(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void run() {
+    }
+  }
+
+  private PriorityTask createTask(String name, int priority, long nanoDeadline) {
+    return new PriorityTask(new NamedTask(name), priority, nanoDeadline);
+  }
+
+  private List<Runnable> drain(PriorityBlockingQueueEx queue) {
+    List<Runnable> tasks = new ArrayList<>();
+    queue.drainTo(tasks);
+    return tasks;
+  }
+
+  @Test
+  public void should_order_by_priority_then_deadline_then_fifo() {
+    PriorityBlockingQueueEx queue = new PriorityBlockingQueueEx(10);
+    PriorityTask low = createTask("low", 0, 100);
+    PriorityTask highLate = createTask("highLate", 5, 200);
+    PriorityTask highEarly = createTask("highEarly", 5, 100);
+    PriorityTask highEarly2 = createTask("highEarly2", 5, 100);
+    Runnable plain = new NamedTask("plain");
+
+    queue.offer(plain);
+    queue.offer(low);
+    queue.offer(highLate);
+    queue.offer(highEarly);
+    queue.offer(highEarly2);
+
+    Assert.assertArrayEquals(new Object[] {highEarly, highEarly2, highLate, low, plain}, drain(queue).toArray());
+  }
+
+  @Test
+  public void should_reject_when_full() {
+    PriorityBlockingQueueEx queue = new PriorityBlockingQueueEx(1);
+
+    Assert.assertTrue(queue.offer(createTask("t1", 0, 0)));
+    Assert.assertFalse(queue.offer(createTask("t2", 0, 0)));
+    Assert.assertEquals(0, queue.remainingCapacity());
+  }
+
+  @Test
+  public void should_record_queue_wait_by_priority() {
+    long count = QueueWaitStatistics.of(3).getCount();
+
+    createTask("t1", 3, 0).run();
+
+    Assert.assertEquals(count + 1, QueueWaitStatistics.of(3).getCount());
+  }
+}
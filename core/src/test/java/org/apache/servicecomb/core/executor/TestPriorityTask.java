@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.executor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class TestPriorityTask {
+  private Invocation mockInvocation(OperationConfig config, String contextPriority) {
+    Invocation invocation = Mockito.mock(Invocation.class, Mockito.RETURNS_DEEP_STUBS);
+    Mockito.when(invocation.getOperationMeta().getConfig()).thenReturn(config);
+    Mockito.when(invocation.getContext(PriorityTask.CONTEXT_PRIORITY)).thenReturn(contextPriority);
+    return invocation;
+  }
+
+  @Test
+  public void should_ignore_context_priority_by_default() {
+    OperationConfig config = new OperationConfig();
+    config.setSchedulePriority(3);
+
+    Assert.assertEquals(3, PriorityTask.calcPriority(mockInvocation(config, "9")));
+  }
+
+  @Test
+  public void should_use_and_clamp_context_priority_when_enabled() {
+    OperationConfig config = new OperationConfig();
+    config.setSchedulePriority(3);
+    config.setScheduleContextPriorityEnabled(true);
+
+    Assert.assertEquals(5, PriorityTask.calcPriority(mockInvocation(config, "5")));
+    Assert.assertEquals(PriorityTask.MAX_PRIORITY, PriorityTask.calcPriority(mockInvocation(config, "100")));
+    Assert.assertEquals(PriorityTask.MIN_PRIORITY, PriorityTask.calcPriority(mockInvocation(config, "-1")));
+    Assert.assertEquals(3, PriorityTask.calcPriority(mockInvocation(config, null)));
+  }
+
+  @Test
+  public void should_not_wrap_when_executor_is_not_priority() {
+    Runnable task = () -> {
+    };
+    Executor executor = Runnable::run;
+
+    Assert.assertSame(task, PriorityTask.wrap(executor, null, task));
+
+    ThreadPoolExecutorEx fifoExecutor = new ThreadPoolExecutorEx(1, 1, 1, TimeUnit.SECONDS,
+        new LinkedBlockingQueueEx(1), Thread::new);
+    Assert.assertFalse(PriorityTask.isPriorityExecutor(fifoExecutor));
+    fifoExecutor.shutdown();
+
+    ThreadPoolExecutorEx priorityExecutor = new ThreadPoolExecutorEx(1, 1, 1, TimeUnit.SECONDS,
+        new PriorityBlockingQueueEx(1), Thread::new);
+    Assert.assertTrue(PriorityTask.isPriorityExecutor(priorityExecutor));
+    priorityExecutor.shutdown();
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.filter.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.definition.SchemaMeta;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import io.swagger.models.Operation;
+import io.swagger.models.parameters.BodyParameter;
+
+public class BatchFilterTest {
+  List<Runnable> scheduled = new ArrayList<>();
+
+  List<List<Object>> sentArguments = new ArrayList<>();
+
+  List<Map<String, String>> sentContexts = new ArrayList<>();
+
+  CompletableFuture<Response> remote = new CompletableFuture<>();
+
+  BatchFilter filter = new BatchFilter() {
+    @Override
+    protected void schedule(long msDelay, Runnable task) {
+      scheduled.add(task);
+    }
+
+    @Override
+    protected Invocation createBatchInvocation(Batch batch) {
+      sentArguments.add(batch.arguments);
+      sentContexts.add(batch.contexts);
+      return Mockito.mock(Invocation.class);
+    }
+
+    @Override
+    protected CompletableFuture<Response> invoke(Invocation batchInvocation) {
+      return remote;
+    }
+  };
+
+  OperationConfig config = new OperationConfig();
+
+  OperationMeta operationMeta = Mockito.mock(OperationMeta.class);
+
+  OperationMeta batchOperationMeta = Mockito.mock(OperationMeta.class);
+
+  SchemaMeta schemaMeta = Mockito.mock(SchemaMeta.class);
+
+  FilterNode nextNode = Mockito.mock(FilterNode.class);
+
+  @Before
+  public void setUp() {
+    config.setConsumerBatchOperation("batchQuery");
+    config.setConsumerBatchMaxSize(3);
+    Mockito.when(operationMeta.getConfig()).thenReturn(config);
+    Mockito.when(schemaMeta.findOperation("batchQuery")).thenReturn(batchOperationMeta);
+    Mockito.when(batchOperationMeta.getSwaggerOperation())
+        .thenReturn(new Operation().parameter(new BodyParameter().name("skus")));
+    Mockito.when(batchOperationMeta.getMicroserviceQualifiedName()).thenReturn("ms.schema.batchQuery");
+  }
+
+  private CompletableFuture<Response> query(String sku) {
+    return query(sku, Collections.emptyMap());
+  }
+
+  private CompletableFuture<Response> query(String sku, Map<String, String> context) {
+    Invocation invocation = Mockito.mock(Invocation.class);
+    Mockito.when(invocation.getContext()).thenReturn(context);
+    Mockito.when(invocation.getOperationMeta()).thenReturn(operationMeta);
+    Mockito.when(invocation.getSchemaMeta()).thenReturn(schemaMeta);
+    Mockito.when(invocation.getMicroserviceQualifiedName()).thenReturn("ms.schema.query");
+    Mockito.when(invocation.getConfigTransportName()).thenReturn("");
+    Mockito.when(invocation.getSwaggerArguments()).thenReturn(Collections.singletonMap("sku", sku));
+    Mockito.when(invocation.findResponseType(200))
+        .thenReturn(TypeFactory.defaultInstance().constructType(Integer.class));
+    return filter.onFilter(invocation, nextNode);
+  }
+
+  @Test
+  public void should_send_when_delay_expired() {
+    CompletableFuture<Response> first = query("a");
+    CompletableFuture<Response> second = query("b");
+    Assert.assertEquals(1, scheduled.size());
+    Assert.assertTrue(sentArguments.isEmpty());
+
+    scheduled.get(0).run();
+    Assert.assertEquals(Arrays.asList("a", "b"), sentArguments.get(0));
+    Assert.assertEquals(0, filter.getBatchCount());
+
+    remote.complete(Response.ok(Arrays.asList(1, 2)));
+    Assert.assertEquals(1, (int) first.join().getResult());
+    Assert.assertEquals(2, (int) second.join().getResult());
+    Mockito.verify(nextNode, Mockito.never()).onFilter(Mockito.any(Invocation.class));
+  }
+
+  @Test
+  public void should_send_when_reach_max_size() {
+    query("a");
+    query("b");
+    query("c");
+    CompletableFuture<Response> next = query("d");
+
+    Assert.assertEquals(Arrays.asList("a", "b", "c"), sentArguments.get(0));
+    Assert.assertEquals(2, scheduled.size());
+
+    // timer of the sent batch do nothing
+    scheduled.get(0).run();
+    Assert.assertEquals(1, sentArguments.size());
+
+    scheduled.get(1).run();
+    Assert.assertEquals(Collections.singletonList("d"), sentArguments.get(1));
+    Assert.assertFalse(next.isDone());
+  }
+
+  @Test
+  public void should_batch_by_context() {
+    query("a", Collections.singletonMap("tenant", "t1"));
+    query("b", Collections.singletonMap("tenant", "t2"));
+    query("c", Collections.singletonMap("tenant", "t1"));
+    Assert.assertEquals(2, filter.getBatchCount());
+
+    scheduled.forEach(Runnable::run);
+    Assert.assertEquals(Arrays.asList(Arrays.asList("a", "c"), Collections.singletonList("b")), sentArguments);
+    Assert.assertEquals(Arrays.asList(Collections.singletonMap("tenant", "t1"),
+        Collections.singletonMap("tenant", "t2")), sentContexts);
+  }
+
+  @Test
+  public void should_fail_all_when_batch_failed() {
+    CompletableFuture<Response> first = query("a");
+    CompletableFuture<Response> second = query("b");
+    scheduled.get(0).run();
+    remote.completeExceptionally(new IllegalStateException("failed"));
+
+    Assert.assertTrue(first.isCompletedExceptionally());
+    Assert.assertTrue(second.isCompletedExceptionally());
+  }
+
+  @Test
+  public void should_fail_all_when_result_count_not_match() {
+    CompletableFuture<Response> first = query("a");
+    CompletableFuture<Response> second = query("b");
+    scheduled.get(0).run();
+    remote.complete(Response.ok(Collections.singletonList(1)));
+
+    Assert.assertTrue(first.isCompletedExceptionally());
+    Assert.assertTrue(second.isCompletedExceptionally());
+  }
+
+  @Test
+  public void should_fail_when_batch_operation_not_exists() {
+    config.setConsumerBatchOperation("notExist");
+
+    Assert.assertTrue(query("a").isCompletedExceptionally());
+    Assert.assertEquals(0, filter.getBatchCount());
+  }
+
+  @Test
+  public void should_not_batch_when_not_configured() {
+    config.setConsumerBatchOperation(null);
+    query("a");
+
+    Mockito.verify(nextNode, Mockito.times(1)).onFilter(Mockito.any(Invocation.class));
+    Assert.assertTrue(scheduled.isEmpty());
+  }
+}
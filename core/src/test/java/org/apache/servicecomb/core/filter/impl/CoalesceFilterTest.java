@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.filter.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.Part;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+public class CoalesceFilterTest {
+  CoalesceFilter filter = new CoalesceFilter();
+
+  OperationConfig config = new OperationConfig();
+
+  OperationMeta operationMeta = Mockito.mock(OperationMeta.class);
+
+  FilterNode nextNode = Mockito.mock(FilterNode.class);
+
+  CompletableFuture<Response> remote = new CompletableFuture<>();
+
+  @Before
+  public void setUp() {
+    config.setConsumerCoalesceEnabled(true);
+    Mockito.when(operationMeta.getConfig()).thenReturn(config);
+    Mockito.when(operationMeta.getMicroserviceQualifiedName()).thenReturn("ms.schema.op");
+    Mockito.when(nextNode.onFilter(Mockito.any(Invocation.class))).thenReturn(remote);
+  }
+
+  private Invocation createInvocation(Object id) {
+    return createInvocation(id, new HashMap<>());
+  }
+
+  private Invocation createInvocation(Object id, Map<String, String> context) {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("id", id);
+
+    Invocation invocation = Mockito.mock(Invocation.class);
+    Mockito.when(invocation.getOperationMeta()).thenReturn(operationMeta);
+    Mockito.when(invocation.getSwaggerArguments()).thenReturn(arguments);
+    Mockito.when(invocation.getContext()).thenReturn(context);
+    Mockito.when(invocation.findResponseType(200))
+        .thenReturn(TypeFactory.defaultInstance().constructMapType(HashMap.class, String.class, String.class));
+    return invocation;
+  }
+
+  @Test
+  public void should_share_one_request_for_equal_arguments() {
+    CompletableFuture<Response> first = filter.onFilter(createInvocation("1"), nextNode);
+    CompletableFuture<Response> second = filter.onFilter(createInvocation("1"), nextNode);
+    Mockito.verify(nextNode, Mockito.times(1)).onFilter(Mockito.any(Invocation.class));
+    Assert.assertEquals(1, filter.getInflightCount());
+
+    Map<String, String> result = new HashMap<>();
+    result.put("k", "v");
+    remote.complete(Response.ok(result));
+
+    Assert.assertSame(result, first.join().getResult());
+    Assert.assertEquals(result, second.join().getResult());
+    Assert.assertNotSame(result, second.join().getResult());
+    Assert.assertEquals(0, filter.getInflightCount());
+  }
+
+  @Test
+  public void should_send_for_different_arguments() {
+    filter.onFilter(createInvocation("1"), nextNode);
+    filter.onFilter(createInvocation("2"), nextNode);
+
+    Mockito.verify(nextNode, Mockito.times(2)).onFilter(Mockito.any(Invocation.class));
+  }
+
+  @Test
+  public void should_share_exception() {
+    CompletableFuture<Response> first = filter.onFilter(createInvocation("1"), nextNode);
+    CompletableFuture<Response> second = filter.onFilter(createInvocation("1"), nextNode);
+    remote.completeExceptionally(new IllegalStateException("failed"));
+
+    Assert.assertTrue(first.isCompletedExceptionally());
+    Assert.assertTrue(second.isCompletedExceptionally());
+    Assert.assertEquals(0, filter.getInflightCount());
+  }
+
+  @Test
+  public void should_not_coalesce_when_disabled() {
+    config.setConsumerCoalesceEnabled(false);
+    filter.onFilter(createInvocation("1"), nextNode);
+    filter.onFilter(createInvocation("1"), nextNode);
+
+    Mockito.verify(nextNode, Mockito.times(2)).onFilter(Mockito.any(Invocation.class));
+    Assert.assertEquals(0, filter.getInflightCount());
+  }
+
+  @Test
+  public void should_share_one_request_for_equal_array_arguments() {
+    filter.onFilter(createInvocation(new String[] {"1", "2"}), nextNode);
+    filter.onFilter(createInvocation(new String[] {"1", "2"}), nextNode);
+
+    Mockito.verify(nextNode, Mockito.times(1)).onFilter(Mockito.any(Invocation.class));
+  }
+
+  @Test
+  public void should_send_for_different_context() {
+    filter.onFilter(createInvocation("1", Collections.singletonMap("tenant", "t1")), nextNode);
+    filter.onFilter(createInvocation("1", Collections.singletonMap("tenant", "t2")), nextNode);
+
+    Mockito.verify(nextNode, Mockito.times(2)).onFilter(Mockito.any(Invocation.class));
+  }
+
+  @Test
+  public void should_not_coalesce_part_response() {
+    Invocation first = createInvocation("1");
+    Invocation second = createInvocation("1");
+    Mockito.when(first.findResponseType(200)).thenReturn(TypeFactory.defaultInstance().constructType(Part.class));
+    Mockito.when(second.findResponseType(200)).thenReturn(TypeFactory.defaultInstance().constructType(Part.class));
+    filter.onFilter(first, nextNode);
+    filter.onFilter(second, nextNode);
+
+    Mockito.verify(nextNode, Mockito.times(2)).onFilter(Mockito.any(Invocation.class));
+    Assert.assertEquals(0, filter.getInflightCount());
+  }
+}
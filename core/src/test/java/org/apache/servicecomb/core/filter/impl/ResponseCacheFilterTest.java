@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.core.filter.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationConfig;
+import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.executor.PriorityTask;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.core.filter.cache.ResponseCacheManager;
+import org.apache.servicecomb.foundation.vertx.http.HttpServletRequestEx;
+import org.apache.servicecomb.swagger.engine.SwaggerProducerOperation;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.swagger.invocation.context.InvocationContext;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ResponseCacheFilterTest {
+  ResponseCacheFilter filter = new ResponseCacheFilter();
+
+  OperationConfig config = new OperationConfig();
+
+  OperationMeta operationMeta = Mockito.mock(OperationMeta.class);
+
+  Invocation invocation = Mockito.mock(Invocation.class);
+
+  FilterNode nextNode = Mockito.mock(FilterNode.class);
+
+  Map<String, Object> arguments = new HashMap<>();
+
+  @Before
+  public void setUp() {
+    config.setMsResponseCacheTtl(60000);
+    config.setResponseCacheMaxSize(10);
+    Mockito.when(operationMeta.getConfig()).thenReturn(config);
+    Mockito.when(operationMeta.getHttpMethod()).thenReturn("GET");
+    Mockito.when(operationMeta.getMicroserviceQualifiedName()).thenReturn("ms.schema.op");
+    Mockito.when(invocation.getOperationMeta()).thenReturn(operationMeta);
+    Mockito.when(invocation.getSwaggerArguments()).thenReturn(arguments);
+    Mockito.when(nextNode.onFilter(invocation))
+        .thenAnswer(answer -> CompletableFuture.completedFuture(Response.ok(arguments.get("id"))));
+  }
+
+  @After
+  public void tearDown() {
+    ResponseCacheManager.INSTANCE.invalidateAll();
+  }
+
+  @Test
+  public void should_invoke_once_for_same_arguments() {
+    arguments.put("id", "1");
+    Response first = filter.onFilter(invocation, nextNode).join();
+    Response second = filter.onFilter(invocation, nextNode).join();
+
+    Assert.assertNotSame(first, second);
+    Assert.assertEquals("1", second.getResult());
+    Mockito.verify(nextNode, Mockito.times(1)).onFilter(invocation);
+
+    arguments.put("id", "2");
+    Assert.assertEquals("2", filter.onFilter(invocation, nextNode).join().getResult());
+    Mockito.verify(nextNode, Mockito.times(2)).onFilter(invocation);
+  }
+
+  @Test
+  public void should_invoke_again_after_invalidate() {
+    arguments.put("id", "1");
+    filter.onFilter(invocation, nextNode).join();
+    ResponseCacheManager.INSTANCE.invalidate("ms.schema.op");
+    filter.onFilter(invocation, nextNode).join();
+
+    Mockito.verify(nextNode, Mockito.times(2)).onFilter(invocation);
+  }
+
+  @Test
+  public void should_not_cache_when_disabled_or_not_get() {
+    arguments.put("id", "1");
+    config.setMsResponseCacheTtl(0);
+    filter.onFilter(invocation, nextNode).join();
+    filter.onFilter(invocation, nextNode).join();
+
+    config.setMsResponseCacheTtl(60000);
+    Mockito.when(operationMeta.getHttpMethod()).thenReturn("POST");
+    filter.onFilter(invocation, nextNode).join();
+
+    Mockito.verify(nextNode, Mockito.times(3)).onFilter(invocation);
+  }
+
+  @Test
+  public void should_not_cache_failed_response() {
+    Mockito.when(nextNode.onFilter(invocation))
+        .thenAnswer(answer -> CompletableFuture.completedFuture(Response.producerFailResp(new RuntimeException())));
+    filter.onFilter(invocation, nextNode).join();
+    filter.onFilter(invocation, nextNode).join();
+
+    Mockito.verify(nextNode, Mockito.times(2)).onFilter(invocation);
+  }
+
+  @Test
+  public void should_create_new_response_for_every_hit() {
+    Mockito.when(nextNode.onFilter(invocation))
+        .thenAnswer(answer -> CompletableFuture.completedFuture(Response.ok("1").setHeader("h", "v")));
+    Response first = filter.onFilter(invocation, nextNode).join();
+    first.getHeaders().remove("h");
+
+    Response second = filter.onFilter(invocation, nextNode).join();
+    second.getHeaders().remove("h");
+    second.setResult("changed");
+
+    Response third = filter.onFilter(invocation, nextNode).join();
+    Assert.assertEquals("v", third.getHeader("h"));
+    Assert.assertEquals("1", third.getResult());
+    Mockito.verify(nextNode, Mockito.times(1)).onFilter(invocation);
+  }
+
+  @Test
+  public void should_key_by_context_and_vary_headers() {
+    Map<String, String> context = new HashMap<>();
+    Mockito.when(invocation.getContext()).thenReturn(context);
+    HttpServletRequestEx requestEx = Mockito.mock(HttpServletRequestEx.class);
+    Mockito.when(invocation.getRequestEx()).thenReturn(requestEx);
+    Mockito.when(requestEx.getHeaders("Authorization"))
+        .thenAnswer(answer -> Collections.enumeration(Collections.singletonList("token-1")));
+    config.setResponseCacheVaryHeaders("Authorization");
+
+    arguments.put("id", "1");
+    context.put(PriorityTask.CONTEXT_PRIORITY, "1");
+    filter.onFilter(invocation, nextNode).join();
+    // priority not affect result
+    context.put(PriorityTask.CONTEXT_PRIORITY, "2");
+    filter.onFilter(invocation, nextNode).join();
+    Mockito.verify(nextNode, Mockito.times(1)).onFilter(invocation);
+
+    context.put("tenant", "t1");
+    filter.onFilter(invocation, nextNode).join();
+    Mockito.verify(nextNode, Mockito.times(2)).onFilter(invocation);
+
+    Mockito.when(requestEx.getHeaders("Authorization"))
+        .thenAnswer(answer -> Collections.enumeration(Collections.singletonList("token-2")));
+    filter.onFilter(invocation, nextNode).join();
+    Mockito.verify(nextNode, Mockito.times(3)).onFilter(invocation);
+  }
+
+  @Test
+  public void should_not_cache_stream_result() {
+    Mockito.when(nextNode.onFilter(invocation))
+        .thenAnswer(answer -> CompletableFuture.completedFuture(Response.ok(Stream.of("1"))));
+    filter.onFilter(invocation, nextNode).join();
+    filter.onFilter(invocation, nextNode).join();
+
+    Mockito.verify(nextNode, Mockito.times(2)).onFilter(invocation);
+  }
+
+  public static class ContextArgumentSchema {
+    public String query(InvocationContext context) {
+      return null;
+    }
+  }
+
+  @Test
+  public void should_not_cache_operation_with_context_argument() throws NoSuchMethodException {
+    SwaggerProducerOperation producerOperation = new SwaggerProducerOperation();
+    producerOperation.setProducerMethod(ContextArgumentSchema.class.getMethod("query", InvocationContext.class));
+    Map<String, Object> extData = new HashMap<>();
+    Mockito.when(operationMeta.getSwaggerProducerOperation()).thenReturn(producerOperation);
+    Mockito.when(operationMeta.getExtData(Mockito.anyString()))
+        .thenAnswer(answer -> extData.get(answer.getArguments()[0]));
+    Mockito.doAnswer(answer -> extData.put((String) answer.getArguments()[0], answer.getArguments()[1]))
+        .when(operationMeta).putExtData(Mockito.anyString(), Mockito.any());
+
+    arguments.put("id", "1");
+    filter.onFilter(invocation, nextNode).join();
+    filter.onFilter(invocation, nextNode).join();
+
+    Mockito.verify(nextNode, Mockito.times(2)).onFilter(invocation);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.provider.producer;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.swagger.SwaggerUtils;
+import org.apache.servicecomb.swagger.generator.SwaggerGenerator;
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.swagger.annotations.SwaggerDefinition;
+import io.swagger.models.Swagger;
+
+public class TestProducerSwaggerCache {
+  public static class CacheSchema {
+    public String hello(String name) {
+      return name;
+    }
+  }
+
+  public static class Item {
+    public int value;
+  }
+
+  public static class Parent {
+    private Map<String, Item[]> items;
+
+    public Map<String, Item[]> getItems() {
+      return items;
+    }
+  }
+
+  public static class Child extends Parent {
+  }
+
+  @SwaggerDefinition(basePath = "/${test.swagger.cache.basePath}")
+  public static class PlaceholderSchema {
+    public String hello(String name) {
+      return name;
+    }
+  }
+
+  public static class ClosureSchema {
+    public List<? extends Child> query() {
+      return null;
+    }
+  }
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @After
+  public void teardown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  @Test
+  public void create_notConfigured() {
+    Assert.assertNull(ProducerSwaggerCache.create());
+  }
+
+  @Test
+  public void saveAndLoad() {
+    File dir = new File(folder.getRoot(), "cache");
+    ProducerSwaggerCache cache = new ProducerSwaggerCache(dir.toPath(), "1.0.0");
+
+    Assert.assertNull(cache.load(CacheSchema.class));
+
+    Swagger swagger = SwaggerGenerator.generate(CacheSchema.class);
+    cache.save(CacheSchema.class, swagger);
+
+    Path file = cache.findCacheFile(CacheSchema.class);
+    Assert.assertTrue(Files.exists(file));
+    Assert.assertEquals(1, dir.list().length);
+    Assert.assertEquals(SwaggerUtils.swaggerToString(swagger),
+        SwaggerUtils.swaggerToString(cache.load(CacheSchema.class)));
+  }
+
+  @Test
+  public void hash_stable() {
+    ProducerSwaggerCache cache = new ProducerSwaggerCache(folder.getRoot().toPath(), "1.0.0");
+
+    Assert.assertEquals(cache.hash(CacheSchema.class), cache.hash(CacheSchema.class));
+    Assert.assertNotEquals(cache.hash(CacheSchema.class), cache.hash(TestProducerSwaggerCache.class));
+    Assert.assertNotEquals(cache.hash(CacheSchema.class),
+        new ProducerSwaggerCache(folder.getRoot().toPath(), "1.0.1").hash(CacheSchema.class));
+  }
+
+  @Test
+  public void hash_placeholderResolved() {
+    ProducerSwaggerCache cache = new ProducerSwaggerCache(folder.getRoot().toPath(), "1.0.0");
+    ArchaiusUtils.setProperty("test.swagger.cache.basePath", "v1");
+    String hash = cache.hash(PlaceholderSchema.class);
+
+    Assert.assertEquals(hash, cache.hash(PlaceholderSchema.class));
+
+    ArchaiusUtils.setProperty("test.swagger.cache.basePath", "v2");
+    Assert.assertNotEquals(hash, cache.hash(PlaceholderSchema.class));
+  }
+
+  @Test
+  public void collectPlaceholderConstants() throws IOException {
+    byte[] bytecode = IOUtils.toByteArray(PlaceholderSchema.class.getResourceAsStream(
+        "/" + PlaceholderSchema.class.getName().replace('.', '/') + ".class"));
+
+    Assert.assertThat(ProducerSwaggerCache.collectPlaceholderConstants(bytecode),
+        Matchers.contains("/${test.swagger.cache.basePath}"));
+    Assert.assertNull(ProducerSwaggerCache.collectPlaceholderConstants(new byte[] {0, 1}));
+  }
+
+  @Test
+  public void collectModelClasses() {
+    Set<Class<?>> classes = new LinkedHashSet<>();
+    for (Method method : ClosureSchema.class.getDeclaredMethods()) {
+      ProducerSwaggerCache.collectModelClasses(method.getGenericReturnType(), classes);
+    }
+
+    Assert.assertThat(classes, Matchers.contains(Child.class, Parent.class, Item.class));
+  }
+}
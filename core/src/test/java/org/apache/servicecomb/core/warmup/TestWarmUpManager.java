@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.core.warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestWarmUpManager {
+  List<String> executed = new CopyOnWriteArrayList<>();
+
+  WarmUpTask ok = new WarmUpTask() {
+    @Override
+    public String getName() {
+      return "ok";
+    }
+
+    @Override
+    public void warmUp(SCBEngine scbEngine) {
+      executed.add("ok");
+    }
+  };
+
+  WarmUpTask failed = new WarmUpTask() {
+    @Override
+    public String getName() {
+      return "failed";
+    }
+
+    @Override
+    public void warmUp(SCBEngine scbEngine) {
+      executed.add("failed");
+      throw new IllegalStateException("mock failed");
+    }
+  };
+
+  WarmUpTask consumer = new WarmUpTask() {
+    @Override
+    public String getName() {
+      return "consumer";
+    }
+
+    @Override
+    public boolean isDependOnDiscovery() {
+      return true;
+    }
+
+    @Override
+    public void warmUp(SCBEngine scbEngine) {
+      executed.add("consumer");
+    }
+  };
+
+  WarmUpTask blocked = new WarmUpTask() {
+    @Override
+    public String getName() {
+      return "blocked";
+    }
+
+    @Override
+    public void warmUp(SCBEngine scbEngine) {
+      executed.add("blocked");
+      try {
+        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+      } catch (InterruptedException e) {
+        executed.add("interrupted");
+      }
+    }
+  };
+
+  @After
+  public void teardown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  @Test
+  public void disabled() {
+    WarmUpManager manager = new WarmUpManager(Arrays.asList(ok));
+    manager.warmUp(null);
+
+    Assert.assertTrue(executed.isEmpty());
+    Assert.assertNull(manager.collectInfo());
+  }
+
+  @Test
+  public void warmUp_failureNotBreak() {
+    ArchaiusUtils.setProperty(WarmUpManager.KEY_ENABLED, true);
+    WarmUpManager manager = new WarmUpManager(Arrays.asList(failed, ok));
+    manager.warmUp(null);
+
+    Assert.assertThat(executed, Matchers.contains("failed", "ok"));
+    Assert.assertThat(manager.getTaskTimes().keySet(), Matchers.contains("failed", "ok"));
+    Assert.assertThat(manager.collectInfo(), Matchers.startsWith("Warm up time: "));
+  }
+
+  @Test
+  public void warmUpAfterDiscovery() {
+    ArchaiusUtils.setProperty(WarmUpManager.KEY_ENABLED, true);
+    WarmUpManager manager = new WarmUpManager(Arrays.asList(consumer, ok));
+
+    manager.warmUp(null);
+    Assert.assertThat(executed, Matchers.contains("ok"));
+
+    manager.warmUpAfterDiscovery(null);
+    Assert.assertThat(executed, Matchers.contains("ok", "consumer"));
+    Assert.assertThat(manager.getTaskTimes().keySet(), Matchers.contains("ok", "consumer"));
+  }
+
+  @Test
+  public void warmUp_timeout() {
+    ArchaiusUtils.setProperty(WarmUpManager.KEY_ENABLED, true);
+    ArchaiusUtils.setProperty(WarmUpManager.KEY_TIMEOUT, 100);
+    WarmUpManager manager = new WarmUpManager(Arrays.asList(blocked, ok, consumer));
+
+    long start = System.currentTimeMillis();
+    manager.warmUp(null);
+    manager.warmUpAfterDiscovery(null);
+
+    Assert.assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(30));
+    Assert.assertEquals("blocked", executed.get(0));
+    Assert.assertFalse(executed.contains("ok"));
+    Assert.assertFalse(executed.contains("consumer"));
+    Assert.assertThat(manager.getTaskTimes().keySet(), Matchers.contains("blocked"));
+  }
+}
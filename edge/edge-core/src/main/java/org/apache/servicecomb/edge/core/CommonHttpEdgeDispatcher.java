@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.registry.discovery.InvocationDiscoveryReplayInput;
 import org.apache.servicecomb.foundation.common.cache.VersionedCache;
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.apache.servicecomb.foundation.common.net.URIEndpointObject;
@@ -159,29 +160,35 @@ public class CommonHttpEdgeDispatcher extends AbstractEdgeDispatcher {
     } else {
       httpClient = HttpClients.getClient(HttpTransportHttpClientOptionsSPI.CLIENT_NAME, false).getHttpClient();
     }
+    // clients are shared, connections to the same backend are pooled, and multiplexed for http2
     HttpClientRequest httpClientRequest = httpClient
-        .request(context.request().method(), requestOptions, httpClientResponse -> {
-          context.response().setStatusCode(httpClientResponse.statusCode());
-          httpClientResponse.headers().forEach((header) -> {
-            context.response().headers().set(header.getKey(), header.getValue());
-          });
-          httpClientResponse.handler(this.responseHandler(context, httpClientResponse));
-          httpClientResponse.endHandler((v) -> context.response().end());
-        });
-    context.request().headers().forEach((header) -> {
-      httpClientRequest.headers().set(header.getKey(), header.getValue());
-    });
-    context.request().handler(data -> httpClientRequest.write(data));
-    context.request().endHandler((v) -> httpClientRequest.end());
+        .request(context.request().method(), requestOptions,
+            EdgeHttpProxy.responseHandler(context.response(),
+                httpClientResponse -> this.responseHandler(context, httpClientResponse),
+                e -> onBackendResponseFailed(context, e)));
+    httpClientRequest.exceptionHandler(context::fail);
+    context.response().closeHandler(v -> httpClientRequest.reset());
+    EdgeHttpProxy.pumpRequest(context.request(), httpClientRequest);
   }
 
   protected Handler<Buffer> responseHandler(RoutingContext routingContext, HttpClientResponse httpClientResponse) {
     return data -> routingContext.response().write(data);
   }
 
+  protected void onBackendResponseFailed(RoutingContext routingContext, Throwable e) {
+    LOG.error("read response from backend failed, uri={}.", routingContext.request().uri(), e);
+    if (routingContext.response().headWritten()) {
+      // part of body already sent, can only break the connection
+      routingContext.response().close();
+      return;
+    }
+    routingContext.fail(e);
+  }
+
   protected LoadBalancer getOrCreateLoadBalancer(Invocation invocation, String microserviceName, String versionRule) {
     DiscoveryContext context = new DiscoveryContext();
     context.setInputParameters(invocation);
+    context.setReplayInput(new InvocationDiscoveryReplayInput(invocation));
     VersionedCache serversVersionedCache = discoveryTree.discovery(context,
         RegistrationManager.INSTANCE.getMicroservice().getAppId(),
         microserviceName,
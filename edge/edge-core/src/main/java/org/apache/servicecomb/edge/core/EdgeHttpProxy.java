@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.edge.core;
+
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.streams.Pump;
+
+/**
+ * forward http request/response between edge and backend with back pressure<br>
+ * <br>
+ * source stream is paused when target write queue is full, and resumed when drained,
+ * so large body will not be buffered in edge memory.<br>
+ * hop-by-hop headers are not forwarded.
+ */
+public final class EdgeHttpProxy {
+  // RFC 7230 section 6.1, and the non-standard proxy-connection
+  private static final String[] HOP_BY_HOP_HEADERS = {
+      "connection",
+      "keep-alive",
+      "proxy-authenticate",
+      "proxy-authorization",
+      "proxy-connection",
+      "te",
+      "trailer",
+      "transfer-encoding",
+      "upgrade"
+  };
+
+  private EdgeHttpProxy() {
+  }
+
+  public static boolean isHopByHopHeader(String name, String connectionHeader) {
+    for (String header : HOP_BY_HOP_HEADERS) {
+      if (header.equalsIgnoreCase(name)) {
+        return true;
+      }
+    }
+
+    if (connectionHeader == null) {
+      return false;
+    }
+
+    // headers listed in Connection are hop-by-hop too
+    for (String token : connectionHeader.split(",")) {
+      if (token.trim().equalsIgnoreCase(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public static void copyHeaders(MultiMap from, MultiMap to) {
+    String connectionHeader = from.get(HttpHeaders.CONNECTION);
+    for (Entry<String, String> header : from) {
+      if (!isHopByHopHeader(header.getKey(), connectionHeader)) {
+        to.add(header.getKey(), header.getValue());
+      }
+    }
+  }
+
+  /**
+   * body without content-length can only be sent in chunked mode for http/1.1
+   */
+  static boolean isChunked(MultiMap headers, HttpVersion version) {
+    if (headers.contains(HttpHeaders.CONTENT_LENGTH)) {
+      return false;
+    }
+
+    return headers.contains(HttpHeaders.TRANSFER_ENCODING) || version == HttpVersion.HTTP_2;
+  }
+
+  public static void pumpRequest(HttpServerRequest serverRequest, HttpClientRequest clientRequest) {
+    copyHeaders(serverRequest.headers(), clientRequest.headers());
+    if (isChunked(serverRequest.headers(), serverRequest.version())) {
+      clientRequest.setChunked(true);
+    }
+
+    Pump.pump(serverRequest, clientRequest).start();
+    serverRequest.endHandler(v -> clientRequest.end());
+  }
+
+  /**
+   * @param bodyHandlerFactory create handler to write response body data to serverResponse,
+   *     backend response is paused while serverResponse write queue is full
+   * @param exceptionHandler handle backend response failure after response head received
+   */
+  public static Handler<HttpClientResponse> responseHandler(HttpServerResponse serverResponse,
+      Function<HttpClientResponse, Handler<Buffer>> bodyHandlerFactory, Handler<Throwable> exceptionHandler) {
+    return clientResponse -> {
+      serverResponse.setStatusCode(clientResponse.statusCode());
+      serverResponse.setStatusMessage(clientResponse.statusMessage());
+      copyHeaders(clientResponse.headers(), serverResponse.headers());
+      if (isChunked(clientResponse.headers(), clientResponse.version())) {
+        serverResponse.setChunked(true);
+      }
+
+      Handler<Buffer> bodyHandler = bodyHandlerFactory.apply(clientResponse);
+      clientResponse.exceptionHandler(exceptionHandler);
+      clientResponse.handler(data -> {
+        bodyHandler.handle(data);
+        if (serverResponse.writeQueueFull()) {
+          clientResponse.pause();
+          serverResponse.drainHandler(v -> clientResponse.resume());
+        }
+      });
+      clientResponse.endHandler(v -> serverResponse.end());
+    };
+  }
+}
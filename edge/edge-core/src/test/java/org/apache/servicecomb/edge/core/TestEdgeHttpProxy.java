@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.edge.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import mockit.Expectations;
+import mockit.Mocked;
+import mockit.Verifications;
+
+public class TestEdgeHttpProxy {
+  @Test
+  public void copyHeaders_skipHopByHop() {
+    MultiMap from = MultiMap.caseInsensitiveMultiMap()
+        .add("Connection", "keep-alive, x-private")
+        .add("Keep-Alive", "timeout=5")
+        .add("Transfer-Encoding", "chunked")
+        .add("x-private", "v")
+        .add("x-biz", "v1")
+        .add("x-biz", "v2");
+    MultiMap to = MultiMap.caseInsensitiveMultiMap();
+
+    EdgeHttpProxy.copyHeaders(from, to);
+
+    Assert.assertThat(to.names(), Matchers.contains("x-biz"));
+    Assert.assertThat(to.getAll("x-biz"), Matchers.contains("v1", "v2"));
+  }
+
+  @Test
+  public void isChunked() {
+    Assert.assertFalse(EdgeHttpProxy.isChunked(MultiMap.caseInsensitiveMultiMap()
+        .add("Content-Length", "10"), HttpVersion.HTTP_2));
+    Assert.assertTrue(EdgeHttpProxy.isChunked(MultiMap.caseInsensitiveMultiMap()
+        .add("Transfer-Encoding", "chunked"), HttpVersion.HTTP_1_1));
+    Assert.assertTrue(EdgeHttpProxy.isChunked(MultiMap.caseInsensitiveMultiMap(), HttpVersion.HTTP_2));
+    Assert.assertFalse(EdgeHttpProxy.isChunked(MultiMap.caseInsensitiveMultiMap(), HttpVersion.HTTP_1_1));
+  }
+
+  @Test
+  public void responseHandler_pauseWhenWriteQueueFull(@Mocked HttpServerResponse serverResponse,
+      @Mocked HttpClientResponse clientResponse) {
+    List<Buffer> written = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    new Expectations() {
+      {
+        clientResponse.statusCode();
+        result = 200;
+        clientResponse.headers();
+        result = MultiMap.caseInsensitiveMultiMap().add("Content-Length", "1");
+        serverResponse.writeQueueFull();
+        result = true;
+      }
+    };
+
+    EdgeHttpProxy.responseHandler(serverResponse, response -> written::add, errors::add).handle(clientResponse);
+
+    List<Handler<Buffer>> dataHandlers = new ArrayList<>();
+    List<Handler<Throwable>> exceptionHandlers = new ArrayList<>();
+    new Verifications() {
+      {
+        clientResponse.handler(withCapture(dataHandlers));
+        clientResponse.exceptionHandler(withCapture(exceptionHandlers));
+      }
+    };
+    dataHandlers.get(0).handle(Buffer.buffer("a"));
+    exceptionHandlers.get(0).handle(new IllegalStateException("reset"));
+
+    Assert.assertEquals("a", written.get(0).toString());
+    Assert.assertEquals("reset", errors.get(0).getMessage());
+
+    List<Handler<Void>> drainHandlers = new ArrayList<>();
+    new Verifications() {
+      {
+        clientResponse.pause();
+        times = 1;
+        serverResponse.drainHandler(withCapture(drainHandlers));
+      }
+    };
+    drainHandlers.get(0).handle(null);
+    new Verifications() {
+      {
+        clientResponse.resume();
+        times = 1;
+      }
+    };
+  }
+}
@@ -18,9 +18,12 @@ package org.apache.servicecomb.foundation.common.event;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.apache.commons.lang3.reflect.MethodUtils;
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
@@ -29,13 +32,19 @@ import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 
 /**
- * for register/unregister rarely
+ * for register/unregister rarely<br>
+ * <br>
+ * dispatch table is copy on write:<br>
+ *   post only read the table, no lock and no computeIfAbsent<br>
+ *   register/unregister only rebuild entries affected by the subscriber, other entries keep unchanged<br>
  */
 public class SimpleEventBus extends EventBus {
+  private static final SimpleSubscriber[] EMPTY_SUBSCRIBERS = new SimpleSubscriber[0];
+
   private final Map<Object, List<SimpleSubscriber>> subscribersMap = new ConcurrentHashMapEx<>();
 
   // key is event class
-  private Map<Class<?>, List<SimpleSubscriber>> subscribersCache = new ConcurrentHashMapEx<>();
+  private volatile Map<Class<?>, SimpleSubscriber[]> dispatchTable = Collections.emptyMap();
 
   private List<SimpleSubscriber> collectSubscribers(Object instance) {
     List<SimpleSubscriber> subscribers = new ArrayList<>();
@@ -48,49 +57,83 @@ public class SimpleEventBus extends EventBus {
   }
 
   @Override
-  public void register(Object instance) {
-    subscribersMap.computeIfAbsent(instance, this::collectSubscribers);
-    // even ignored cause of duplicate register
-    // still reset cache
-    // this makes logic simpler
-    subscribersCache = new ConcurrentHashMapEx<>();
+  public synchronized void register(Object instance) {
+    if (subscribersMap.containsKey(instance)) {
+      return;
+    }
+
+    List<SimpleSubscriber> subscribers = collectSubscribers(instance);
+    subscribersMap.put(instance, subscribers);
+    rebuildDispatchTable(subscribers);
   }
 
   @Override
-  public void unregister(Object instance) {
-    if (subscribersMap.remove(instance) != null) {
-      subscribersCache = new ConcurrentHashMapEx<>();
+  public synchronized void unregister(Object instance) {
+    List<SimpleSubscriber> subscribers = subscribersMap.remove(instance);
+    if (subscribers != null) {
+      rebuildDispatchTable(subscribers);
+    }
+  }
+
+  /**
+   * only rebuild entries that changedSubscribers can accept
+   */
+  private void rebuildDispatchTable(List<SimpleSubscriber> changedSubscribers) {
+    Map<Class<?>, SimpleSubscriber[]> newTable = new HashMap<>(dispatchTable);
+    for (Class<?> eventClass : dispatchTable.keySet()) {
+      if (changedSubscribers.stream().anyMatch(accept(eventClass))) {
+        newTable.put(eventClass, collectSubscriberForEvent(eventClass));
+      }
     }
+    dispatchTable = newTable;
+  }
+
+  private synchronized SimpleSubscriber[] addDispatchEntry(Class<?> eventClass) {
+    SimpleSubscriber[] subscribers = dispatchTable.get(eventClass);
+    if (subscribers != null) {
+      return subscribers;
+    }
+
+    subscribers = collectSubscriberForEvent(eventClass);
+    Map<Class<?>, SimpleSubscriber[]> newTable = new HashMap<>(dispatchTable);
+    newTable.put(eventClass, subscribers);
+    dispatchTable = newTable;
+    return subscribers;
   }
 
   @Override
   public void post(Object event) {
-    // cache always reset after register/unregister
-    // so cache always match latest subscribersMap at last
-    // the worst scenes is invoke collectSubscriberForEvent multiple times, no problem
-    List<SimpleSubscriber> subscribers = subscribersCache
-        .computeIfAbsent(event.getClass(), this::collectSubscriberForEvent);
+    SimpleSubscriber[] subscribers = dispatchTable.get(event.getClass());
+    if (subscribers == null) {
+      subscribers = addDispatchEntry(event.getClass());
+    }
+
     for (SimpleSubscriber subscriber : subscribers) {
       subscriber.dispatchEvent(event);
     }
   }
 
+  private static Predicate<SimpleSubscriber> accept(Class<?> eventClass) {
+    return subscriber -> subscriber.getMethod().getParameterTypes()[0].isAssignableFrom(eventClass);
+  }
+
   /**
    * subscribersMap almost stable<br>
    * so we not care for performance of collectSubscriberForEvent
    * @param eventClass
    */
-  private List<SimpleSubscriber> collectSubscriberForEvent(Class<?> eventClass) {
+  private SimpleSubscriber[] collectSubscriberForEvent(Class<?> eventClass) {
+    Predicate<SimpleSubscriber> accept = accept(eventClass);
     List<SimpleSubscriber> subscribersForEvent = new ArrayList<>();
     for (List<SimpleSubscriber> subscribers : subscribersMap.values()) {
       for (SimpleSubscriber subscriber : subscribers) {
-        if (subscriber.getMethod().getParameterTypes()[0].isAssignableFrom(eventClass)) {
+        if (accept.test(subscriber)) {
           subscribersForEvent.add(subscriber);
         }
       }
     }
 
     subscribersForEvent.sort(Comparator.comparingInt(SimpleSubscriber::getOrder));
-    return subscribersForEvent;
+    return subscribersForEvent.toArray(EMPTY_SUBSCRIBERS);
   }
 }
@@ -18,6 +18,7 @@
 package org.apache.servicecomb.foundation.common.utils;
 
 import java.io.IOException;
+import java.lang.reflect.AccessibleObject;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser.Feature;
@@ -46,6 +47,25 @@ public class RestObjectMapper extends AbstractRestObjectMapper {
 
   private static final JavaType STRING_JAVA_TYPE = TypeFactory.defaultInstance().constructType(String.class);
 
+  // enum without any annotation is serialized to name() by jackson, unless changed by features or mixins
+  private static final ClassValue<Boolean> PLAIN_ENUMS = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return type.getDeclaredAnnotations().length == 0
+          && !hasAnnotation(type.getDeclaredFields())
+          && !hasAnnotation(type.getDeclaredMethods());
+    }
+  };
+
+  private static boolean hasAnnotation(AccessibleObject[] members) {
+    for (AccessibleObject member : members) {
+      if (member.getDeclaredAnnotations().length != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public RestObjectMapper() {
     getFactory().disable(Feature.AUTO_CLOSE_SOURCE);
     // Enable features that can tolerance errors and not enable those make more constraints for compatible reasons.
@@ -67,9 +87,25 @@ public class RestObjectMapper extends AbstractRestObjectMapper {
 
   @Override
   public String convertToString(Object value) throws Exception {
+    // path/query/header values are mostly simple types, no need to walk through jackson for them
+    if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+        || value instanceof Boolean) {
+      return value.toString();
+    }
+    if (value instanceof Enum && isPlainEnum((Enum<?>) value)) {
+      return ((Enum<?>) value).name();
+    }
     return convertValue(value, STRING_JAVA_TYPE);
   }
 
+  private boolean isPlainEnum(Enum<?> value) {
+    Class<?> enumType = value.getDeclaringClass();
+    return PLAIN_ENUMS.get(enumType)
+        && !isEnabled(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
+        && !isEnabled(SerializationFeature.WRITE_ENUMS_USING_INDEX)
+        && findMixInClassFor(enumType) == null;
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public <T> T convertValue(Object fromValue, JavaType toValueType) throws IllegalArgumentException {
@@ -126,4 +126,13 @@ public class TestEventBus {
     eventBus.post("str");
     Assert.assertThat(events, Matchers.contains(1, "str"));
   }
+
+  @Test
+  public void registerAfterPost() {
+    eventBus.post("str");
+
+    eventBus.register(new SubscriberForTest(events));
+    eventBus.post("str");
+    Assert.assertThat(events, Matchers.contains("str"));
+  }
 }
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.registry.consumer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.servicecomb.registry.api.registry.DataCenterInfo;
+import org.apache.servicecomb.registry.api.registry.HealthCheck;
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
+
+/**
+ * difference between two instance lists of the same microservice
+ * <pre>
+ *   added:   instanceId only exists in new list
+ *   removed: instanceId only exists in old list
+ *   changed: instanceId exists in both list, but any field changed
+ * </pre>
+ */
+public class MicroserviceInstancesDiff {
+  public static final MicroserviceInstancesDiff EMPTY = new MicroserviceInstancesDiff(Collections.emptyList(),
+      Collections.emptyList(), Collections.emptyList());
+
+  private final List<MicroserviceInstance> added;
+
+  private final List<MicroserviceInstance> removed;
+
+  private final List<MicroserviceInstance> changed;
+
+  public MicroserviceInstancesDiff(List<MicroserviceInstance> added, List<MicroserviceInstance> removed,
+      List<MicroserviceInstance> changed) {
+    this.added = added;
+    this.removed = removed;
+    this.changed = changed;
+  }
+
+  public static MicroserviceInstancesDiff compute(Collection<MicroserviceInstance> oldInstances,
+      Collection<MicroserviceInstance> newInstances) {
+    Map<String, MicroserviceInstance> oldMap = new HashMap<>();
+    if (oldInstances != null) {
+      oldInstances.forEach(instance -> oldMap.put(instance.getInstanceId(), instance));
+    }
+
+    List<MicroserviceInstance> added = new ArrayList<>();
+    List<MicroserviceInstance> changed = new ArrayList<>();
+    if (newInstances != null) {
+      for (MicroserviceInstance instance : newInstances) {
+        MicroserviceInstance old = oldMap.remove(instance.getInstanceId());
+        if (old == null) {
+          added.add(instance);
+          continue;
+        }
+
+        if (isChanged(old, instance)) {
+          changed.add(instance);
+        }
+      }
+    }
+
+    if (added.isEmpty() && changed.isEmpty() && oldMap.isEmpty()) {
+      return EMPTY;
+    }
+    return new MicroserviceInstancesDiff(added, new ArrayList<>(oldMap.values()), changed);
+  }
+
+  // MicroserviceInstance.equals only compare instanceId
+  // compare all fields explicitly, so that new hostName/dataCenterInfo/healthCheck and so on will not be dropped
+  // not compare by json tree, that's too expensive for services with many instances on every pull
+  @SuppressWarnings("deprecation")
+  static boolean isChanged(MicroserviceInstance oldInstance, MicroserviceInstance newInstance) {
+    if (oldInstance == newInstance) {
+      return false;
+    }
+
+    return !Objects.equals(oldInstance.getServiceId(), newInstance.getServiceId())
+        || !Objects.equals(oldInstance.getEndpoints(), newInstance.getEndpoints())
+        || !Objects.equals(oldInstance.getHostName(), newInstance.getHostName())
+        || oldInstance.getStatus() != newInstance.getStatus()
+        || !Objects.equals(oldInstance.getProperties(), newInstance.getProperties())
+        || !Objects.equals(oldInstance.getEnvironment(), newInstance.getEnvironment())
+        || !Objects.equals(oldInstance.getStage(), newInstance.getStage())
+        || !Objects.equals(oldInstance.getTimestamp(), newInstance.getTimestamp())
+        || isChanged(oldInstance.getHealthCheck(), newInstance.getHealthCheck())
+        || isChanged(oldInstance.getDataCenterInfo(), newInstance.getDataCenterInfo());
+  }
+
+  private static boolean isChanged(HealthCheck oldHealthCheck, HealthCheck newHealthCheck) {
+    if (oldHealthCheck == null || newHealthCheck == null) {
+      return oldHealthCheck != newHealthCheck;
+    }
+
+    return oldHealthCheck.getMode() != newHealthCheck.getMode()
+        || oldHealthCheck.getPort() != newHealthCheck.getPort()
+        || oldHealthCheck.getInterval() != newHealthCheck.getInterval()
+        || oldHealthCheck.getTimes() != newHealthCheck.getTimes();
+  }
+
+  private static boolean isChanged(DataCenterInfo oldInfo, DataCenterInfo newInfo) {
+    if (oldInfo == null || newInfo == null) {
+      return oldInfo != newInfo;
+    }
+
+    return !Objects.equals(oldInfo.getName(), newInfo.getName())
+        || !Objects.equals(oldInfo.getRegion(), newInfo.getRegion())
+        || !Objects.equals(oldInfo.getAvailableZone(), newInfo.getAvailableZone());
+  }
+
+  public List<MicroserviceInstance> getAdded() {
+    return added;
+  }
+
+  public List<MicroserviceInstance> getRemoved() {
+    return removed;
+  }
+
+  public List<MicroserviceInstance> getChanged() {
+    return changed;
+  }
+
+  public boolean isEmpty() {
+    return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return "added=" + added.size() + ", removed=" + removed.size() + ", changed=" + changed.size();
+  }
+}
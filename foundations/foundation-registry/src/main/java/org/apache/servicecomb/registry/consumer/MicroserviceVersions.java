@@ -225,6 +225,16 @@ public class MicroserviceVersions {
   private void setInstances(List<MicroserviceInstance> pulledInstances, String rev) {
     synchronized (lock) {
       MergedInstances mergedInstances = mergeInstances(pulledInstances, instances);
+      MicroserviceInstancesDiff diff = MicroserviceInstancesDiff.compute(instances,
+          mergedInstances.instanceIdMap.values());
+      if (instances != null && diff.isEmpty()) {
+        // revision changed but instances are the same, keep versionRules untouched
+        // so that their cache version not changed, and discovery tree need not to rebuild
+        revision = rev;
+        return;
+      }
+
+      LOGGER.info("instances changed, appId={}, microserviceName={}, {}.", appId, microserviceName, diff);
       instances = mergedInstances.instanceIdMap.values();
       // clear cache
       versions.entrySet().forEach(versionEntry -> versionEntry.getValue().setInstances(new ArrayList<>()));
@@ -26,6 +26,9 @@ public class DiscoveryContext {
 
   private Map<String, Object> contextParameters = new HashMap<>();
 
+  // used by DiscoveryTree background rebuild, null means not replay
+  private DiscoveryReplayInput replayInput;
+
   // some filter support rerun logic, eg:ZoneAware
   // instances grouping to self zone, other zone, and so on
   // first try self zone, after other filter(Isolation Filter), no instances are available
@@ -43,6 +46,14 @@ public class DiscoveryContext {
     this.inputParameters = inputParameters;
   }
 
+  public DiscoveryReplayInput getReplayInput() {
+    return replayInput;
+  }
+
+  public void setReplayInput(DiscoveryReplayInput replayInput) {
+    this.replayInput = replayInput;
+  }
+
   @SuppressWarnings("unchecked")
   public <T> T getContextParameter(String name) {
     return (T) contextParameters.get(name);
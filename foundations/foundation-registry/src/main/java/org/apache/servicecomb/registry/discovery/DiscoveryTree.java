@@ -21,14 +21,24 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import org.apache.servicecomb.foundation.common.cache.VersionedCache;
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.apache.servicecomb.foundation.common.exceptions.ServiceCombException;
 import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
 import org.apache.servicecomb.registry.DiscoveryManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.netflix.config.DynamicBooleanProperty;
+import com.netflix.config.DynamicIntProperty;
+import com.netflix.config.DynamicPropertyFactory;
+
 /**
  * <a href="https://servicecomb.atlassian.net/browse/JAV-479">help to understand DiscoveryTree</a>
  * <pre>
@@ -71,6 +81,14 @@ import org.slf4j.LoggerFactory;
  *
  *     // result is endpoints or something else, which is depends on your filter set
  *     List&lt;Endpoint&gt; endpoints = endpointsVersionedCache.data();
+ *
+ * background rebuild(servicecomb.loadbalance.discoveryTree.backgroundRebuild.enabled=true):
+ *   every inputCache(app/microserviceName/versionRule) owns a standalone sub tree,
+ *   when instances of one microservice changed, only the related sub tree is rebuilt,
+ *   and the rebuild is done in background by replaying inputs that ever reached the sub tree,
+ *   old sub tree is still used until the new one is ready.
+ *   only DiscoveryContext.getReplayInput are replayed, and at most
+ *   servicecomb.loadbalance.discoveryTree.backgroundRebuild.maxReplayInputs of them for each sub tree.
  *</pre>
  */
 public class DiscoveryTree {
@@ -82,6 +100,30 @@ public class DiscoveryTree {
 
   private List<DiscoveryFilter> filters = new ArrayList<>();
 
+  public static final String BACKGROUND_REBUILD_ENABLED = "servicecomb.loadbalance.discoveryTree.backgroundRebuild.enabled";
+
+  public static final String MAX_REPLAY_INPUTS = "servicecomb.loadbalance.discoveryTree.backgroundRebuild.maxReplayInputs";
+
+  private static final Executor REBUILD_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+    Thread thread = new Thread(r, "discovery-tree-rebuild");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  // key is inputCache name
+  private final Map<String, DiscoveryTreeNode> subTrees = new ConcurrentHashMapEx<>();
+
+  // key is inputCache name, value is: key is replay key, value is immutable replay input
+  private final Map<String, Map<String, Object>> replayInputs = new ConcurrentHashMapEx<>();
+
+  private final DynamicBooleanProperty backgroundRebuildEnabled = DynamicPropertyFactory.getInstance()
+      .getBooleanProperty(BACKGROUND_REBUILD_ENABLED, false);
+
+  private final DynamicIntProperty maxReplayInputs = DynamicPropertyFactory.getInstance()
+      .getIntProperty(MAX_REPLAY_INPUTS, 128);
+
+  private final Set<String> rebuildingSubTrees = ConcurrentHashMap.newKeySet();
+
   public void loadFromSPI(Class<? extends DiscoveryFilter> cls) {
     filters.addAll(SPIServiceUtils.getSortedService(cls));
   }
@@ -123,6 +165,10 @@ public class DiscoveryTree {
   }
 
   public DiscoveryTreeNode discovery(DiscoveryContext context, VersionedCache inputCache) {
+    if (isBackgroundRebuildEnabled()) {
+      return backgroundRebuildDiscovery(context, inputCache);
+    }
+
     DiscoveryTreeNode tmpRoot = getOrCreateRoot(inputCache);
     DiscoveryTreeNode parent = tmpRoot.children()
         .computeIfAbsent(inputCache.name(), name -> new DiscoveryTreeNode().fromCache(inputCache));
@@ -157,6 +203,80 @@ public class DiscoveryTree {
     return new DiscoveryTreeNode().cacheVersion(inputCache.cacheVersion());
   }
 
+  protected boolean isBackgroundRebuildEnabled() {
+    return backgroundRebuildEnabled.get();
+  }
+
+  protected DiscoveryTreeNode backgroundRebuildDiscovery(DiscoveryContext context, VersionedCache inputCache) {
+    DiscoveryTreeNode subTree = subTrees.get(inputCache.name());
+    if (subTree == null) {
+      // first time, nothing to serve, must build in current thread
+      subTree = subTrees.computeIfAbsent(inputCache.name(), name -> new DiscoveryTreeNode().fromCache(inputCache));
+    } else if (isExpired(subTree, inputCache)) {
+      // go on with the old sub tree, it will be replaced after rebuild finished
+      scheduleRebuild(inputCache);
+    } else if (!subTree.isSameVersion(inputCache)) {
+      // sub tree newer than inputCache, see getOrCreateRoot, just use a temporary sub tree
+      subTree = new DiscoveryTreeNode().fromCache(inputCache);
+    }
+
+    DiscoveryTreeNode leaf = doDiscovery(context, subTree);
+    recordReplayInput(inputCache.name(), context);
+    return leaf;
+  }
+
+  protected void recordReplayInput(String subTreeName, DiscoveryContext context) {
+    DiscoveryReplayInput replayInput = context.getReplayInput();
+    if (replayInput == null) {
+      return;
+    }
+
+    Map<String, Object> inputs = replayInputs.get(subTreeName);
+    if (inputs == null) {
+      inputs = replayInputs.computeIfAbsent(subTreeName, name -> new ConcurrentHashMapEx<>());
+    }
+    String replayKey = replayInput.getReplayKey();
+    if (inputs.containsKey(replayKey) || inputs.size() >= maxReplayInputs.get()) {
+      return;
+    }
+    inputs.putIfAbsent(replayKey, replayInput.createReplayInputParameters());
+  }
+
+  protected void scheduleRebuild(VersionedCache inputCache) {
+    if (!rebuildingSubTrees.add(inputCache.name())) {
+      return;
+    }
+
+    REBUILD_EXECUTOR.execute(() -> {
+      try {
+        rebuildSubTree(inputCache);
+      } catch (Throwable e) {
+        // can not rebuild, drop the old sub tree, next invocation will build it in invocation thread
+        LOGGER.error("failed to rebuild discovery tree, name={}.", inputCache.name(), e);
+        subTrees.remove(inputCache.name());
+      } finally {
+        rebuildingSubTrees.remove(inputCache.name());
+      }
+    });
+  }
+
+  protected void rebuildSubTree(VersionedCache inputCache) {
+    DiscoveryTreeNode newSubTree = new DiscoveryTreeNode().fromCache(inputCache);
+    Map<String, Object> inputs = replayInputs.get(inputCache.name());
+    if (inputs != null) {
+      for (Object inputParameters : inputs.values()) {
+        DiscoveryContext context = new DiscoveryContext();
+        context.setInputParameters(inputParameters);
+        doDiscovery(context, newSubTree);
+      }
+    }
+
+    subTrees.compute(inputCache.name(),
+        (name, oldSubTree) -> isExpired(oldSubTree, newSubTree) ? newSubTree : oldSubTree);
+    LOGGER.info("discovery tree rebuilt, name={}, version={}, replayed={}.",
+        inputCache.name(), inputCache.cacheVersion(), inputs == null ? 0 : inputs.size());
+  }
+
   protected DiscoveryTreeNode doDiscovery(DiscoveryContext context, DiscoveryTreeNode parent) {
     for (int idx = 0; idx < filters.size(); ) {
       DiscoveryFilter filter = filters.get(idx);
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.registry.consumer;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.servicecomb.registry.api.registry.DataCenterInfo;
+import org.apache.servicecomb.registry.api.registry.HealthCheck;
+import org.apache.servicecomb.registry.api.registry.HealthCheckMode;
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstanceStatus;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestMicroserviceInstancesDiff {
+  private MicroserviceInstance createInstance(String instanceId, String endpoint) {
+    MicroserviceInstance instance = new MicroserviceInstance();
+    instance.setInstanceId(instanceId);
+    instance.setEndpoints(Collections.singletonList(endpoint));
+    return instance;
+  }
+
+  @Test
+  public void compute_noChange() {
+    MicroserviceInstancesDiff diff = MicroserviceInstancesDiff.compute(
+        Arrays.asList(createInstance("i1", "rest://a:1")),
+        Arrays.asList(createInstance("i1", "rest://a:1")));
+
+    Assert.assertTrue(diff.isEmpty());
+    Assert.assertSame(MicroserviceInstancesDiff.EMPTY, diff);
+  }
+
+  @Test
+  public void compute_fromNull() {
+    MicroserviceInstance i1 = createInstance("i1", "rest://a:1");
+    MicroserviceInstancesDiff diff = MicroserviceInstancesDiff.compute(null, Arrays.asList(i1));
+
+    Assert.assertThat(diff.getAdded(), Matchers.contains(i1));
+    Assert.assertTrue(diff.getRemoved().isEmpty());
+    Assert.assertTrue(diff.getChanged().isEmpty());
+  }
+
+  @Test
+  public void compute_addedRemovedChanged() {
+    MicroserviceInstance i1 = createInstance("i1", "rest://a:1");
+    MicroserviceInstance i2 = createInstance("i2", "rest://a:2");
+    MicroserviceInstance i3 = createInstance("i3", "rest://a:3");
+    MicroserviceInstance newI2 = createInstance("i2", "rest://a:2");
+    newI2.setStatus(MicroserviceInstanceStatus.DOWN);
+    MicroserviceInstance i4 = createInstance("i4", "rest://a:4");
+
+    MicroserviceInstancesDiff diff = MicroserviceInstancesDiff.compute(
+        Arrays.asList(i1, i2, i3),
+        Arrays.asList(i1, newI2, i4));
+
+    Assert.assertFalse(diff.isEmpty());
+    Assert.assertThat(diff.getAdded(), Matchers.contains(i4));
+    Assert.assertThat(diff.getRemoved(), Matchers.contains(i3));
+    Assert.assertThat(diff.getChanged(), Matchers.contains(newI2));
+    Assert.assertEquals("added=1, removed=1, changed=1", diff.toString());
+  }
+
+  @Test
+  public void compute_otherFieldsChanged() {
+    MicroserviceInstance i1 = createInstance("i1", "rest://a:1");
+    MicroserviceInstance newI1 = createInstance("i1", "rest://a:1");
+    newI1.setHostName("host");
+    Assert.assertThat(MicroserviceInstancesDiff.compute(Arrays.asList(i1), Arrays.asList(newI1)).getChanged(),
+        Matchers.contains(newI1));
+
+    DataCenterInfo dataCenterInfo = new DataCenterInfo();
+    dataCenterInfo.setRegion("r1");
+    dataCenterInfo.setAvailableZone("z1");
+    newI1 = createInstance("i1", "rest://a:1");
+    newI1.setDataCenterInfo(dataCenterInfo);
+    Assert.assertThat(MicroserviceInstancesDiff.compute(Arrays.asList(i1), Arrays.asList(newI1)).getChanged(),
+        Matchers.contains(newI1));
+
+    newI1 = createInstance("i1", "rest://a:1");
+    newI1.getProperties().put("k", "v");
+    Assert.assertThat(MicroserviceInstancesDiff.compute(Arrays.asList(i1), Arrays.asList(newI1)).getChanged(),
+        Matchers.contains(newI1));
+
+    HealthCheck healthCheck = new HealthCheck();
+    healthCheck.setMode(HealthCheckMode.HEARTBEAT);
+    newI1 = createInstance("i1", "rest://a:1");
+    newI1.setHealthCheck(healthCheck);
+    Assert.assertThat(MicroserviceInstancesDiff.compute(Arrays.asList(i1), Arrays.asList(newI1)).getChanged(),
+        Matchers.contains(newI1));
+  }
+}
@@ -19,6 +19,7 @@ package org.apache.servicecomb.registry.discovery;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.servicecomb.config.ConfigUtil;
 import org.apache.servicecomb.foundation.common.cache.VersionedCache;
@@ -299,4 +300,65 @@ public class TestDiscoveryTree {
     Assert.assertEquals(inputCache.cacheVersion(), root.cacheVersion());
     Assert.assertNotSame(Deencapsulation.getField(discoveryTree, "root"), root);
   }
+
+  private DiscoveryReplayInput createReplayInput(String replayKey) {
+    return new DiscoveryReplayInput() {
+      @Override
+      public String getReplayKey() {
+        return replayKey;
+      }
+
+      @Override
+      public Object createReplayInputParameters() {
+        return "replay";
+      }
+    };
+  }
+
+  @Test
+  public void backgroundRebuild_serveOldUntilSwap() throws InterruptedException {
+    ArchaiusUtils.setProperty(DiscoveryTree.BACKGROUND_REBUILD_ENABLED, true);
+    discoveryTree.addFilter(new DiscoveryFilterForTest("g1") {
+      @Override
+      public DiscoveryTreeNode discovery(DiscoveryContext context, DiscoveryTreeNode parent) {
+        return parent.children().computeIfAbsent(groupName,
+            name -> new DiscoveryTreeNode().subName(parent, groupName).data(parent.data()));
+      }
+    });
+
+    VersionedCache v1 = new VersionedCache().cacheVersion(1).name("input").data("v1");
+    context.setInputParameters("invocation");
+    context.setReplayInput(createReplayInput("k1"));
+    Assert.assertEquals("v1", discoveryTree.discovery(context, v1).data());
+
+    Map<String, Map<String, Object>> replayInputs = Deencapsulation.getField(discoveryTree, "replayInputs");
+    Assert.assertEquals("replay", replayInputs.get("input").get("k1"));
+
+    // new version arrived, still use old tree, and rebuild in background
+    VersionedCache v2 = new VersionedCache().cacheVersion(2).name("input").data("v2");
+    Assert.assertEquals("v1", discoveryTree.discovery(new DiscoveryContext(), v2).data());
+
+    Map<String, DiscoveryTreeNode> subTrees = Deencapsulation.getField(discoveryTree, "subTrees");
+    for (int idx = 0; idx < 100 && subTrees.get("input").cacheVersion() != 2; idx++) {
+      Thread.sleep(10);
+    }
+    Assert.assertEquals("v2", subTrees.get("input").child("g1").data());
+    Assert.assertEquals("v2", discoveryTree.discovery(new DiscoveryContext(), v2).data());
+  }
+
+  @Test
+  public void backgroundRebuild_replayInputsBounded() {
+    ArchaiusUtils.setProperty(DiscoveryTree.MAX_REPLAY_INPUTS, 2);
+    for (int idx = 0; idx < 3; idx++) {
+      DiscoveryContext discoveryContext = new DiscoveryContext();
+      discoveryContext.setReplayInput(createReplayInput("k" + idx));
+      discoveryTree.recordReplayInput("input", discoveryContext);
+    }
+    // without replay key, not recorded
+    discoveryTree.recordReplayInput("other", new DiscoveryContext());
+
+    Map<String, Map<String, Object>> replayInputs = Deencapsulation.getField(discoveryTree, "replayInputs");
+    Assert.assertThat(replayInputs.get("input").keySet(), Matchers.containsInAnyOrder("k0", "k1"));
+    Assert.assertNull(replayInputs.get("other"));
+  }
 }
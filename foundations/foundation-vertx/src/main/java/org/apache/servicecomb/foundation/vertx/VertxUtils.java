@@ -47,8 +47,10 @@ import io.vertx.core.VertxOptions;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.impl.FileResolver;
 import io.vertx.core.impl.VertxImpl;
+import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.impl.VertxThreadFactory;
 import io.vertx.core.logging.SLF4JLogDelegateFactory;
+import io.vertx.core.net.impl.transport.Transport;
 
 /**
  * VertxUtils
@@ -66,6 +68,8 @@ public final class VertxUtils {
 
   private static final long BLOCKED_THREAD_CHECK_INTERVAL = Long.MAX_VALUE / 2;
 
+  public static final String PREFER_NATIVE_TRANSPORT = "servicecomb.vertx.preferNativeTransport";
+
   // key为vertx实例名称，以支撑vertx功能分组
   private static Map<String, Vertx> vertxMap = new ConcurrentHashMapEx<>();
 
@@ -134,11 +138,40 @@ public final class VertxUtils {
     }
 
     configureVertxFileCaching(vertxOptions);
+    configureNativeTransport(vertxOptions);
     Vertx vertx = Vertx.vertx(vertxOptions);
+    if (vertxOptions.getPreferNativeTransport() && !vertx.isNativeTransportEnabled()) {
+      Transport nativeTransport = Transport.nativeTransport();
+      LOGGER.warn("native transport is not available, fallback to nio, vertx={}, cause={}.", name,
+          nativeTransport == null ? "netty native jar not found" : nativeTransport.unavailabilityCause());
+    }
     enhanceVertx(name, vertx);
     return vertx;
   }
 
+  /**
+   * epoll/kqueue need netty native jar in classpath, eg: netty-transport-native-epoll with linux-x86_64 classifier
+   * if not available, vertx will fallback to nio
+   */
+  protected static void configureNativeTransport(VertxOptions vertxOptions) {
+    if (DynamicPropertyFactory.getInstance().getBooleanProperty(PREFER_NATIVE_TRANSPORT, false).get()) {
+      vertxOptions.setPreferNativeTransport(true);
+    }
+  }
+
+  /**
+   * @return nio, epoll or kqueue
+   */
+  public static String getTransportName(Vertx vertx) {
+    Transport transport = ((VertxInternal) vertx).transport();
+    if (transport == Transport.JDK) {
+      return "nio";
+    }
+
+    String name = transport.getClass().getSimpleName();
+    return name.endsWith("Transport") ? name.substring(0, name.length() - "Transport".length()).toLowerCase() : name;
+  }
+
   private static void enhanceVertx(String name, Vertx vertx) {
     if (StringUtils.isEmpty(name)) {
       return;
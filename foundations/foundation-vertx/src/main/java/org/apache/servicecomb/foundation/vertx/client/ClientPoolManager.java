@@ -21,6 +21,10 @@ import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.netflix.config.DynamicBooleanProperty;
+import com.netflix.config.DynamicPropertyFactory;
 
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
@@ -37,8 +41,23 @@ import io.vertx.core.Vertx;
  * 3.async and in eventloop, use clientPool in self thread
  *
  * sync/async is not about net operation, just about consumer invoke mode.
+ *
+ * when context affinity is enabled, invocations started by a producer eventloop will carry that context
+ * as targetContext, both sync and async invoke will use clientPool in that context.
  */
 public class ClientPoolManager<CLIENT_POOL> {
+  public static final String KEY_CONTEXT_AFFINITY = "servicecomb.vertx.client.contextAffinity";
+
+  // read for every provider invocation, avoid lookup property each time
+  private static final DynamicBooleanProperty CONTEXT_AFFINITY = DynamicPropertyFactory.getInstance()
+      .getBooleanProperty(KEY_CONTEXT_AFFINITY, false);
+
+  // caller thread is the thread of the selected clientPool
+  private static final LongAdder SAME_CONTEXT_COUNT = new LongAdder();
+
+  // caller thread is not the thread of the selected clientPool, need to switch thread
+  private static final LongAdder CROSS_CONTEXT_COUNT = new LongAdder();
+
   private Vertx vertx;
 
   private String id = UUID.randomUUID().toString();
@@ -71,13 +90,45 @@ public class ClientPoolManager<CLIENT_POOL> {
     return findClientPool(sync, null);
   }
 
+  public static boolean isContextAffinityEnabled() {
+    return CONTEXT_AFFINITY.get();
+  }
+
+  public static long getSameContextCount() {
+    return SAME_CONTEXT_COUNT.sum();
+  }
+
+  public static long getCrossContextCount() {
+    return CROSS_CONTEXT_COUNT.sum();
+  }
+
   public CLIENT_POOL findClientPool(boolean sync, Context targetContext) {
-    if (sync) {
-      return findThreadBindClientPool();
+    CLIENT_POOL pool;
+    if (sync && !isOwnEventLoop(targetContext)) {
+      pool = findThreadBindClientPool();
+    } else {
+      // reactive mode, or sync mode with affinity context
+      pool = findByContext(targetContext);
     }
 
-    // reactive mode
-    return findByContext(targetContext);
+    countContextSwitch(pool);
+    return pool;
+  }
+
+  private boolean isOwnEventLoop(Context context) {
+    return context != null
+        && context.owner() == vertx
+        && context.isEventLoopContext();
+  }
+
+  private void countContextSwitch(CLIENT_POOL pool) {
+    Context currentContext = Vertx.currentContext();
+    if (currentContext != null && currentContext.get(id) == pool) {
+      SAME_CONTEXT_COUNT.increment();
+      return;
+    }
+
+    CROSS_CONTEXT_COUNT.increment();
   }
 
   protected CLIENT_POOL findByContext() {
@@ -86,9 +137,7 @@ public class ClientPoolManager<CLIENT_POOL> {
 
   protected CLIENT_POOL findByContext(Context targetContext) {
     Context currentContext = targetContext != null ? targetContext : Vertx.currentContext();
-    if (currentContext != null
-        && currentContext.owner() == vertx
-        && currentContext.isEventLoopContext()) {
+    if (isOwnEventLoop(currentContext)) {
       // standard reactive mode
       CLIENT_POOL clientPool = currentContext.get(id);
       if (clientPool != null) {
@@ -106,6 +155,13 @@ public class ClientPoolManager<CLIENT_POOL> {
     // 3.other vertx thread
     // select a existing context
     assertPoolsInitialized();
+    return selectClientPool(pools);
+  }
+
+  /**
+   * select a pool for caller not running in any eventloop of this manager, default to round robin
+   */
+  protected CLIENT_POOL selectClientPool(List<CLIENT_POOL> pools) {
     int idx = reactiveNextIndex.getAndIncrement() % pools.size();
     if (idx < 0) {
       idx = -idx;
@@ -115,6 +171,13 @@ public class ClientPoolManager<CLIENT_POOL> {
 
   public CLIENT_POOL findThreadBindClientPool() {
     assertPoolsInitialized();
+    return selectThreadBindClientPool(pools);
+  }
+
+  /**
+   * select a pool for sync caller, default to bind by thread id
+   */
+  protected CLIENT_POOL selectThreadBindClientPool(List<CLIENT_POOL> pools) {
     int idx = (int) (Thread.currentThread().getId() % pools.size());
     return pools.get(idx);
   }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.foundation.vertx.client.http;
+
+import java.util.List;
+
+import org.apache.servicecomb.foundation.vertx.client.ClientPoolFactory;
+import org.apache.servicecomb.foundation.vertx.client.ClientPoolManager;
+
+import io.vertx.core.Vertx;
+
+/**
+ * http2 client multiplexes many streams on few connections of each pool, vertx opens more connections for a pool
+ * when streams of its connections reach the multiplexing limit, and closes them after idle timeout.
+ *
+ * when caller is not running in eventloop of this manager, both sync and reactive, select the pool with least active
+ * streams, round robin between pools with the same load.
+ */
+public class Http2ClientPoolManager extends ClientPoolManager<HttpClientWithContext> {
+  public Http2ClientPoolManager(Vertx vertx, ClientPoolFactory<HttpClientWithContext> factory) {
+    super(vertx, factory);
+  }
+
+  @Override
+  protected HttpClientWithContext selectClientPool(List<HttpClientWithContext> pools) {
+    HttpClientWithContext selected = super.selectClientPool(pools);
+    for (HttpClientWithContext pool : pools) {
+      if (pool.getActiveStreams() < selected.getActiveStreams()) {
+        selected = pool;
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * streams of sync caller are multiplexed too, binding them to a pool by thread id makes no sense
+   */
+  @Override
+  protected HttpClientWithContext selectThreadBindClientPool(List<HttpClientWithContext> pools) {
+    return selectClientPool(pools);
+  }
+}
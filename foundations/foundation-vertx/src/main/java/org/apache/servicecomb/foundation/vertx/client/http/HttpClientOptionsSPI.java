@@ -79,6 +79,19 @@ public interface HttpClientOptionsSPI {
 
   int getKeepAliveTimeout();
 
+  /*****************  socket settings, only available for native transport ***************************/
+  default boolean isTcpFastOpen() {
+    return false;
+  }
+
+  default boolean isTcpQuickAck() {
+    return false;
+  }
+
+  default boolean isTcpCork() {
+    return false;
+  }
+
   /***************** http 2 settings ****************************/
   int getHttp2MultiplexingLimit();
 
@@ -111,6 +124,9 @@ public interface HttpClientOptionsSPI {
     httpClientOptions.setKeepAlive(spi.isKeepAlive());
     httpClientOptions.setMaxHeaderSize(spi.getMaxHeaderSize());
     httpClientOptions.setKeepAliveTimeout(spi.getKeepAliveTimeout());
+    httpClientOptions.setTcpFastOpen(spi.isTcpFastOpen());
+    httpClientOptions.setTcpQuickAck(spi.isTcpQuickAck());
+    httpClientOptions.setTcpCork(spi.isTcpCork());
 
     if (spi.isProxyEnable()) {
       ProxyOptions proxy = new ProxyOptions();
@@ -17,6 +17,8 @@
 
 package org.apache.servicecomb.foundation.vertx.client.http;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import io.vertx.core.Context;
 import io.vertx.core.http.HttpClient;
 
@@ -29,6 +31,9 @@ public class HttpClientWithContext {
 
   private Context context;
 
+  // requests sent but not finished yet, for http2 they are streams multiplexed on connections of this client
+  private final AtomicInteger activeStreams = new AtomicInteger();
+
   public HttpClientWithContext(HttpClient httpClient, Context context) {
     this.httpClient = httpClient;
     this.context = context;
@@ -47,4 +52,16 @@ public class HttpClientWithContext {
   public Context context() {
     return context;
   }
+
+  public void beginStream() {
+    activeStreams.incrementAndGet();
+  }
+
+  public void endStream() {
+    activeStreams.decrementAndGet();
+  }
+
+  public int getActiveStreams() {
+    return activeStreams.get();
+  }
 }
@@ -37,6 +37,7 @@ import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.dns.AddressResolverOptions;
+import io.vertx.core.http.HttpVersion;
 
 /**
  *  load and manages a set of HttpClient at boot up.
@@ -82,8 +83,9 @@ public class HttpClients {
 
   private static ClientPoolManager<HttpClientWithContext> createClientPoolManager(HttpClientOptionsSPI option) {
     Vertx vertx = getOrCreateVertx(option);
-    ClientPoolManager<HttpClientWithContext> clientPoolManager = new ClientPoolManager<>(vertx,
-        new HttpClientPoolFactory(HttpClientOptionsSPI.createHttpClientOptions(option)));
+    HttpClientPoolFactory factory = new HttpClientPoolFactory(HttpClientOptionsSPI.createHttpClientOptions(option));
+    ClientPoolManager<HttpClientWithContext> clientPoolManager = HttpVersion.HTTP_2 == option.getHttpVersion() ?
+        new Http2ClientPoolManager(vertx, factory) : new ClientPoolManager<>(vertx, factory);
 
     DeploymentOptions deployOptions = VertxUtils.createClientDeployOptions(clientPoolManager,
         option.getInstanceCount())
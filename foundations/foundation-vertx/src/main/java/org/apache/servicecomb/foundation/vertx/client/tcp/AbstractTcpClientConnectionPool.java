@@ -17,6 +17,8 @@
 
 package org.apache.servicecomb.foundation.vertx.client.tcp;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -30,8 +32,8 @@ public abstract class AbstractTcpClientConnectionPool<T extends TcpClientConnect
 
   protected NetClientWrapper netClientWrapper;
 
-  // key为address
-  protected Map<String, T> tcpClientMap = new ConcurrentHashMapEx<>();
+  // key为address, value is connections to the address, count is decided by TcpClientConfig.connectionsPerEndpoint
+  protected Map<String, List<T>> tcpClientMap = new ConcurrentHashMapEx<>();
 
   public AbstractTcpClientConnectionPool(Context context,
       NetClientWrapper netClientWrapper) {
@@ -46,13 +48,46 @@ public abstract class AbstractTcpClientConnectionPool<T extends TcpClientConnect
   }
 
   private void onCheckTimeout(Long event) {
-    for (TcpClientConnection client : tcpClientMap.values()) {
-      client.checkTimeout();
+    for (List<T> clients : tcpClientMap.values()) {
+      for (TcpClientConnection client : clients) {
+        client.checkTimeout();
+      }
     }
   }
 
   public T findOrCreateClient(String endpoint) {
-    return tcpClientMap.computeIfAbsent(endpoint, this::create);
+    List<T> clients = tcpClientMap.computeIfAbsent(endpoint, this::createClients);
+    if (clients.size() == 1) {
+      return clients.get(0);
+    }
+
+    return chooseLeastPending(clients);
+  }
+
+  protected T chooseLeastPending(List<T> clients) {
+    T chosen = clients.get(0);
+    int minPending = chosen.getPendingCount();
+    for (int idx = 1; idx < clients.size() && minPending > 0; idx++) {
+      T client = clients.get(idx);
+      int pending = client.getPendingCount();
+      if (pending < minPending) {
+        chosen = client;
+        minPending = pending;
+      }
+    }
+    return chosen;
+  }
+
+  protected List<T> createClients(String endpoint) {
+    T first = create(endpoint);
+    int count = Math.max(first.getClientConfig().getConnectionsPerEndpoint(), 1);
+
+    List<T> clients = new ArrayList<>(count);
+    clients.add(first);
+    for (int idx = 1; idx < count; idx++) {
+      clients.add(create(endpoint));
+    }
+    return clients;
   }
 
   protected abstract T create(String endpoint);
@@ -24,10 +24,31 @@ public class TcpClientConfig extends NetClientOptions {
 
   private long msLoginTimeout;
 
+  private int connectionsPerEndpoint = 1;
+
+  // 0 means no limit
+  private int maxInflightPerConnection;
+
   public TcpClientConfig() {
     msLoginTimeout = DEFAULT_LOGIN_TIMEOUT;
   }
 
+  public int getConnectionsPerEndpoint() {
+    return connectionsPerEndpoint;
+  }
+
+  public void setConnectionsPerEndpoint(int connectionsPerEndpoint) {
+    this.connectionsPerEndpoint = connectionsPerEndpoint;
+  }
+
+  public int getMaxInflightPerConnection() {
+    return maxInflightPerConnection;
+  }
+
+  public void setMaxInflightPerConnection(int maxInflightPerConnection) {
+    this.maxInflightPerConnection = maxInflightPerConnection;
+  }
+
   public long getMsLoginTimeout() {
     return msLoginTimeout;
   }
@@ -26,8 +26,11 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.servicecomb.foundation.common.net.URIEndpointObject;
+import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultClientEndpointMetric;
+import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultTcpSocketMetric;
 import org.apache.servicecomb.foundation.vertx.server.TcpParser;
 import org.apache.servicecomb.foundation.vertx.tcp.TcpConnection;
 import org.apache.servicecomb.foundation.vertx.tcp.TcpConst;
@@ -74,6 +77,74 @@ public class TcpClientConnection extends TcpConnection {
 
   private volatile Map<Long, TcpRequest> requestMap = new ConcurrentHashMap<>();
 
+  // only used when maxInflightPerConnection is bigger than 0
+  private final Queue<InflightPackage> waitingQueue = new ConcurrentLinkedQueue<>();
+
+  private final AtomicInteger inflight = new AtomicInteger();
+
+  // available after connected
+  private volatile DefaultClientEndpointMetric endpointMetric;
+
+  class InflightPackage implements TcpResponseCallback {
+    static final int WAITING = 0;
+
+    static final int SENT = 1;
+
+    static final int FINISHED = 2;
+
+    final AbstractTcpClientPackage tcpClientPackage;
+
+    final TcpResponseCallback callback;
+
+    final long nanoEnqueue = System.nanoTime();
+
+    final AtomicInteger state = new AtomicInteger(WAITING);
+
+    // metric of enqueue, make sure enqueue/dequeue/pending are counted in the same metric
+    DefaultClientEndpointMetric metric = endpointMetric;
+
+    InflightPackage(AbstractTcpClientPackage tcpClientPackage, TcpResponseCallback callback) {
+      this.tcpClientPackage = tcpClientPackage;
+      this.callback = callback;
+    }
+
+    void onDequeue() {
+      if (metric != null) {
+        metric.dequeueRequest();
+        metric.addQueueTime(System.nanoTime() - nanoEnqueue);
+      }
+    }
+
+    boolean acquire() {
+      if (!state.compareAndSet(WAITING, SENT)) {
+        return false;
+      }
+
+      if (metric != null) {
+        metric.incPending();
+      }
+      return true;
+    }
+
+    @Override
+    public void handle(AsyncResult<TcpData> asyncResult) {
+      int oldState = state.getAndSet(FINISHED);
+      if (oldState == SENT) {
+        if (metric != null) {
+          metric.decPending();
+        }
+        inflight.decrementAndGet();
+        sendWaiting();
+      } else if (oldState == WAITING && waitingQueue.remove(this)) {
+        // timeout or disconnected when waiting, remove from queue at once to keep queue count correct
+        // if sendWaiting polled it concurrently, remove failed and sendWaiting will do the dequeue
+        onDequeue();
+      }
+
+      callback.handle(asyncResult);
+    }
+  }
+
   public TcpClientConnection(Context context, NetClientWrapper netClientWrapper, String strEndpoint) {
     this.setContext(context);
 
@@ -116,9 +187,61 @@ public class TcpClientConnection extends TcpConnection {
     return future;
   }
 
+  /**
+   * requests waiting for response, include requests queued by maxInflightPerConnection
+   */
+  public int getPendingCount() {
+    return requestMap.size();
+  }
+
   public void send(AbstractTcpClientPackage tcpClientPackage, TcpResponseCallback callback) {
-    requestMap.put(tcpClientPackage.getMsgId(), new TcpRequest(tcpClientPackage.getMsRequestTimeout(), callback));
+    if (clientConfig.getMaxInflightPerConnection() <= 0) {
+      requestMap.put(tcpClientPackage.getMsgId(), new TcpRequest(tcpClientPackage.getMsRequestTimeout(), callback));
+      doSend(tcpClientPackage);
+      return;
+    }
+
+    // timeout and disconnect of queued requests are handled by requestMap too
+    InflightPackage inflightPackage = new InflightPackage(tcpClientPackage, callback);
+    requestMap.put(tcpClientPackage.getMsgId(),
+        new TcpRequest(tcpClientPackage.getMsRequestTimeout(), inflightPackage));
+    waitingQueue.add(inflightPackage);
+    if (endpointMetric != null) {
+      endpointMetric.enqueueRequest();
+    }
+    sendWaiting();
+  }
 
+  // waiting request is added before check inflight, and inflight is released before check waiting
+  // so there is no lost wakeup
+  private void sendWaiting() {
+    int maxInflight = clientConfig.getMaxInflightPerConnection();
+    while (!waitingQueue.isEmpty()) {
+      int current = inflight.get();
+      if (current >= maxInflight) {
+        return;
+      }
+      if (!inflight.compareAndSet(current, current + 1)) {
+        continue;
+      }
+
+      InflightPackage inflightPackage = waitingQueue.poll();
+      if (inflightPackage == null) {
+        inflight.decrementAndGet();
+        continue;
+      }
+
+      inflightPackage.onDequeue();
+      if (!inflightPackage.acquire()) {
+        // already timeout or disconnected when waiting
+        inflight.decrementAndGet();
+        continue;
+      }
+      doSend(inflightPackage.tcpClientPackage);
+    }
+  }
+
+  private void doSend(AbstractTcpClientPackage tcpClientPackage) {
     if (writeToBufferQueue(tcpClientPackage)) {
       return;
     }
@@ -167,9 +290,9 @@ public class TcpClientConnection extends TcpConnection {
         break;
       }
 
+      // merged with other frames in super.writeInContext
       try (TcpOutputStream os = pkg.createStream()) {
-        Buffer buf = os.getBuffer();
-        netSocket.write(buf);
+        enqueue(os.getByteBuf());
         pkg.finishWriteToBuffer();
       }
     }
@@ -199,6 +322,10 @@ public class TcpClientConnection extends TcpConnection {
         Thread.currentThread().getName());
     // currently, socket always be NetSocketImpl
     this.initNetSocket((NetSocketImpl) socket);
+    Object socketMetric = ((NetSocketImpl) socket).metric();
+    if (socketMetric instanceof DefaultTcpSocketMetric) {
+      endpointMetric = ((DefaultTcpSocketMetric) socketMetric).getEndpointMetric();
+    }
     socket.handler(new TcpParser(this::onReply));
 
     socket.exceptionHandler(this::onException);
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.foundation.vertx.compress;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CompressionStatistics {
+  private final LongAdder compressCount = new LongAdder();
+
+  private final LongAdder compressInputBytes = new LongAdder();
+
+  private final LongAdder compressOutputBytes = new LongAdder();
+
+  private final LongAdder compressNanos = new LongAdder();
+
+  private final LongAdder decompressCount = new LongAdder();
+
+  private final LongAdder decompressNanos = new LongAdder();
+
+  public void onCompress(int inputBytes, int outputBytes, long nanos) {
+    compressCount.increment();
+    compressInputBytes.add(inputBytes);
+    compressOutputBytes.add(outputBytes);
+    compressNanos.add(nanos);
+  }
+
+  public void onDecompress(long nanos) {
+    decompressCount.increment();
+    decompressNanos.add(nanos);
+  }
+
+  public long getCompressCount() {
+    return compressCount.sum();
+  }
+
+  public long getCompressInputBytes() {
+    return compressInputBytes.sum();
+  }
+
+  public long getCompressOutputBytes() {
+    return compressOutputBytes.sum();
+  }
+
+  public long getCompressNanos() {
+    return compressNanos.sum();
+  }
+
+  public long getDecompressCount() {
+    return decompressCount.sum();
+  }
+
+  public long getDecompressNanos() {
+    return decompressNanos.sum();
+  }
+
+  /**
+   * compressed size / original size, 1 means no data or no gain
+   */
+  public double getRatio() {
+    long input = getCompressInputBytes();
+    if (input == 0) {
+      return 1;
+    }
+    return (double) getCompressOutputBytes() / input;
+  }
+}
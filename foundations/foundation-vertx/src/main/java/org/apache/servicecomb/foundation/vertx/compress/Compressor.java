@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.foundation.vertx.compress;
+
+import java.io.IOException;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * payload codec used by tcp transports, loaded by SPI
+ * <pre>
+ *   name: negotiated in login handshake
+ *   id:   written to the flags of message header, must be in [1, 255] and unique
+ * </pre>
+ */
+public interface Compressor {
+  default int getOrder() {
+    return 0;
+  }
+
+  String getName();
+
+  int getId();
+
+  /**
+   * some codecs depend on optional jars, return false to skip them
+   */
+  default boolean isAvailable() {
+    return true;
+  }
+
+  byte[] compress(byte[] data) throws IOException;
+
+  /**
+   * @param maxLength decompressed data longer than this is rejected, to protect against compression bombs
+   */
+  Buffer decompress(Buffer data, int maxLength) throws IOException;
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.foundation.vertx.compress;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.servicecomb.foundation.common.utils.SPIServiceUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.core.buffer.Buffer;
+
+public final class CompressorManager {
+  private static final Logger LOGGER = LoggerFactory.getLogger(CompressorManager.class);
+
+  public static final CompressorManager INSTANCE = new CompressorManager();
+
+  private final Map<String, Compressor> nameMap = new LinkedHashMap<>();
+
+  private final Compressor[] idTable = new Compressor[256];
+
+  private final Map<String, CompressionStatistics> statisticsMap = new LinkedHashMap<>();
+
+  private CompressorManager() {
+    for (Compressor compressor : SPIServiceUtils.getSortedService(Compressor.class)) {
+      register(compressor);
+    }
+  }
+
+  private void register(Compressor compressor) {
+    if (!compressor.isAvailable()) {
+      LOGGER.info("compressor {} is not available, ignore it.", compressor.getName());
+      return;
+    }
+    if (compressor.getId() <= 0 || compressor.getId() >= idTable.length) {
+      throw new IllegalStateException(
+          String.format("invalid compressor id %d, name=%s.", compressor.getId(), compressor.getName()));
+    }
+    Compressor exists = idTable[compressor.getId()];
+    if (exists != null) {
+      throw new IllegalStateException(String.format("duplicated compressor id %d, name=%s and %s.",
+          compressor.getId(), exists.getName(), compressor.getName()));
+    }
+
+    idTable[compressor.getId()] = compressor;
+    nameMap.put(compressor.getName(), compressor);
+    statisticsMap.put(compressor.getName(), new CompressionStatistics());
+  }
+
+  public Collection<Compressor> getCompressors() {
+    return Collections.unmodifiableCollection(nameMap.values());
+  }
+
+  public Map<String, CompressionStatistics> getStatisticsMap() {
+    return Collections.unmodifiableMap(statisticsMap);
+  }
+
+  public Compressor findCompressor(String name) {
+    if (name == null) {
+      return null;
+    }
+    return nameMap.get(name);
+  }
+
+  public Compressor findCompressor(int id) {
+    if (id <= 0 || id >= idTable.length) {
+      return null;
+    }
+    return idTable[id];
+  }
+
+  /**
+   * @param offered names separated by comma, in preference order of the peer
+   * @return first offered name that supported locally, or null
+   */
+  public String negotiate(String offered) {
+    if (StringUtils.isEmpty(offered)) {
+      return null;
+    }
+
+    for (String name : offered.split(",")) {
+      Compressor compressor = nameMap.get(name.trim());
+      if (compressor != null) {
+        return compressor.getName();
+      }
+    }
+    return null;
+  }
+
+  public byte[] compress(Compressor compressor, byte[] data) throws IOException {
+    long start = System.nanoTime();
+    byte[] result = compressor.compress(data);
+    statisticsMap.get(compressor.getName()).onCompress(data.length, result.length, System.nanoTime() - start);
+    return result;
+  }
+
+  public Buffer decompress(Compressor compressor, Buffer data, int maxLength) throws IOException {
+    long start = System.nanoTime();
+    Buffer result = compressor.decompress(data, maxLength);
+    statisticsMap.get(compressor.getName()).onDecompress(System.nanoTime() - start);
+    return result;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.foundation.vertx.compress;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.servicecomb.foundation.vertx.stream.BufferInputStream;
+import org.apache.servicecomb.foundation.vertx.stream.BufferOutputStream;
+
+import io.vertx.core.buffer.Buffer;
+
+public class GzipCompressor implements Compressor {
+  public static final String NAME = "gzip";
+
+  public static final int ID = 1;
+
+  private static final int BLOCK_SIZE = 4096;
+
+  @Override
+  public int getOrder() {
+    return 100;
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public int getId() {
+    return ID;
+  }
+
+  @Override
+  public byte[] compress(byte[] data) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(data.length / 2, 64));
+    try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+      gzip.write(data);
+    }
+    return output.toByteArray();
+  }
+
+  @Override
+  public Buffer decompress(Buffer data, int maxLength) throws IOException {
+    // read from the received ByteBuf and write to a ByteBuf directly, no intermediate byte[] of the whole payload
+    BufferOutputStream output = new BufferOutputStream(
+        Buffer.buffer((int) Math.min((long) data.length() * 4, maxLength)).getByteBuf());
+    byte[] block = new byte[BLOCK_SIZE];
+    try (GZIPInputStream gzip = new GZIPInputStream(new BufferInputStream(data.getByteBuf().duplicate()))) {
+      for (int len = gzip.read(block); len != -1; len = gzip.read(block)) {
+        if (len > maxLength - output.length()) {
+          throw new IOException(String.format("decompressed data exceeds the limit %d.", maxLength));
+        }
+        output.write(block, 0, len);
+      }
+    }
+    return output.getBuffer();
+  }
+}
@@ -16,7 +16,13 @@
  */
 package org.apache.servicecomb.foundation.vertx.http;
 
+import java.io.File;
 import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 
 import javax.servlet.http.Part;
 
@@ -33,6 +39,51 @@ import io.vertx.core.http.HttpHeaders;
 public final class DownloadUtils {
   private static final Logger LOGGER = LoggerFactory.getLogger(DownloadUtils.class);
 
+  public static final String RANGE = "Range";
+
+  public static final String IF_RANGE = "If-Range";
+
+  public static final String ACCEPT_RANGES = "Accept-Ranges";
+
+  public static final String CONTENT_RANGE = "Content-Range";
+
+  public static final String BYTES_UNIT = "bytes";
+
+  private static final String BYTES_PREFIX = BYTES_UNIT + "=";
+
+  /**
+   * byte range of a file, both first and last are included
+   */
+  public static class ByteRange {
+    // range not satisfiable, should answer 416
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private final long first;
+
+    private final long last;
+
+    public ByteRange(long first, long last) {
+      this.first = first;
+      this.last = last;
+    }
+
+    public long getFirst() {
+      return first;
+    }
+
+    public long getLast() {
+      return last;
+    }
+
+    public long getLength() {
+      return last - first + 1;
+    }
+
+    public String toContentRange(long totalLength) {
+      return BYTES_UNIT + " " + first + "-" + last + "/" + totalLength;
+    }
+  }
+
   private DownloadUtils() {
   }
 
@@ -41,6 +92,13 @@ public final class DownloadUtils {
       responseEx.setChunked(true);
     }
 
+    prepareDownloadFileHeader(responseEx, part);
+  }
+
+  /**
+   * for parts that can be sent by sendfile, content length is decided by the file and range
+   */
+  public static void prepareDownloadFileHeader(HttpServletResponseEx responseEx, Part part) {
     if (responseEx.getHeader(HttpHeaders.CONTENT_TYPE.toString()) == null) {
       responseEx.setHeader(HttpHeaders.CONTENT_TYPE.toString(), part.getContentType());
     }
@@ -54,6 +112,89 @@ public final class DownloadUtils {
     }
   }
 
+  /**
+   * @return local file of the part, null if the part is not a local file
+   */
+  public static File findLocalFile(Part part) {
+    if (!(part instanceof FilePartForSend)) {
+      return null;
+    }
+
+    String absolutePath = ((FilePartForSend) part).getAbsolutePath();
+    if (absolutePath == null) {
+      return null;
+    }
+
+    File file = new File(absolutePath);
+    return file.isFile() ? file : null;
+  }
+
+  public static String formatHttpDate(long millis) {
+    return DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis),
+        ZoneOffset.UTC));
+  }
+
+  /**
+   * only support single range, multiple ranges and invalid ranges are ignored, so the whole file will be sent
+   *
+   * @return null means send the whole file, {@link ByteRange#UNSATISFIABLE} means answer 416
+   */
+  public static ByteRange resolveRange(String range, String ifRange, long totalLength, long lastModified) {
+    if (range == null || !isIfRangeMatch(ifRange, lastModified)) {
+      return null;
+    }
+
+    range = range.trim();
+    if (!range.startsWith(BYTES_PREFIX) || range.indexOf(',') >= 0) {
+      return null;
+    }
+
+    String spec = range.substring(BYTES_PREFIX.length()).trim();
+    int idx = spec.indexOf('-');
+    if (idx < 0) {
+      return null;
+    }
+
+    try {
+      String strFirst = spec.substring(0, idx).trim();
+      String strLast = spec.substring(idx + 1).trim();
+      if (strFirst.isEmpty()) {
+        // suffix range: last N bytes
+        long suffixLength = Long.parseLong(strLast);
+        if (suffixLength <= 0 || totalLength == 0) {
+          return ByteRange.UNSATISFIABLE;
+        }
+        return new ByteRange(Math.max(totalLength - suffixLength, 0), totalLength - 1);
+      }
+
+      long first = Long.parseLong(strFirst);
+      long last = strLast.isEmpty() ? totalLength - 1 : Math.min(Long.parseLong(strLast), totalLength - 1);
+      if (first < 0 || (!strLast.isEmpty() && Long.parseLong(strLast) < first)) {
+        return null;
+      }
+      if (first >= totalLength) {
+        return ByteRange.UNSATISFIABLE;
+      }
+      return new ByteRange(first, last);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  // only support date validator, because there is no etag for files
+  static boolean isIfRangeMatch(String ifRange, long lastModified) {
+    if (ifRange == null) {
+      return true;
+    }
+
+    try {
+      ZonedDateTime date = ZonedDateTime.parse(ifRange.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+      return date.toInstant().equals(Instant.ofEpochMilli(lastModified).truncatedTo(ChronoUnit.SECONDS));
+    } catch (Throwable e) {
+      return false;
+    }
+  }
+
   public static void clearPartResource(Part part) {
     if (part instanceof FilePartForSend && ((FilePartForSend) part).isDeleteAfterFinished()) {
       try {
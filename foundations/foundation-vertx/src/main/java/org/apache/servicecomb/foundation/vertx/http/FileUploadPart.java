@@ -19,12 +19,16 @@ package org.apache.servicecomb.foundation.vertx.http;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.servicecomb.foundation.common.part.AbstractPart;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.vertx.ext.web.FileUpload;
 
 public class FileUploadPart extends AbstractPart {
@@ -36,6 +40,9 @@ public class FileUploadPart extends AbstractPart {
 
   @Override
   public InputStream getInputStream() throws IOException {
+    if (isInMemory()) {
+      return new ByteBufInputStream(((HybridFileUpload) fileUpload).getContent());
+    }
     return new FileInputStream(fileUpload.uploadedFileName());
   }
 
@@ -61,6 +68,18 @@ public class FileUploadPart extends AbstractPart {
 
   @Override
   public void write(String fileName) throws IOException {
+    if (isInMemory()) {
+      ByteBuf content = ((HybridFileUpload) fileUpload).getContent();
+      try (OutputStream os = new FileOutputStream(fileName)) {
+        content.readBytes(os, content.readableBytes());
+      }
+      return;
+    }
+
     FileUtils.copyFile(new File(fileUpload.uploadedFileName()), new File(fileName));
   }
+
+  private boolean isInMemory() {
+    return fileUpload instanceof HybridFileUpload && ((HybridFileUpload) fileUpload).isInMemory();
+  }
 }
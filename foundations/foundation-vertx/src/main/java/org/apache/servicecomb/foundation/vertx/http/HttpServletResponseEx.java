@@ -17,12 +17,16 @@
 
 package org.apache.servicecomb.foundation.vertx.http;
 
+import java.io.InputStream;
 import java.util.concurrent.CompletableFuture;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.Part;
 import javax.ws.rs.core.Response.StatusType;
 
+import org.apache.commons.io.IOUtils;
+
 import io.vertx.core.http.HttpHeaders;
 
 public interface HttpServletResponseEx extends HttpServletResponse, BodyBufferSupport {
@@ -34,7 +38,36 @@ public interface HttpServletResponseEx extends HttpServletResponse, BodyBufferSu
 
   CompletableFuture<Void> sendPart(Part body);
 
+  /**
+   * same as {@link #sendPart(Part)}, but allowed to answer "Range" and "If-Range" of the request
+   * @param request can be null
+   */
+  default CompletableFuture<Void> sendPart(Part body, HttpServletRequest request) {
+    return sendPart(body);
+  }
+
+  /**
+   * send body of unknown length, eg: elements of a stream encoded one by one<br>
+   * body will be closed after sent
+   */
+  default CompletableFuture<Void> sendStream(InputStream body) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    try (InputStream input = body) {
+      IOUtils.copyLarge(input, getOutputStream());
+      future.complete(null);
+    } catch (Throwable e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
   default void setChunked(boolean chunked) {
     setHeader(HttpHeaders.TRANSFER_ENCODING.toString(), HttpHeaders.CHUNKED.toString());
   }
+
+  /**
+   * ask http server not to compress this response, only take effect when server compression is enabled
+   */
+  default void disableCompression() {
+  }
 }
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.foundation.vertx.http;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerFileUpload;
+import io.vertx.ext.web.FileUpload;
+
+/**
+ * upload that kept in a pooled memory buffer until spilled to file system
+ * <pre>
+ *   in memory: uploadedFileName is null
+ *   spilled:   content in memory is released, uploadedFileName is the file
+ * </pre>
+ */
+public class HybridFileUpload implements FileUpload {
+  private final HttpServerFileUpload upload;
+
+  private ByteBuf buffer;
+
+  private String uploadedFileName;
+
+  private boolean released;
+
+  public HybridFileUpload(HttpServerFileUpload upload) {
+    this.upload = upload;
+  }
+
+  public synchronized boolean isInMemory() {
+    return uploadedFileName == null;
+  }
+
+  public synchronized int getMemorySize() {
+    return buffer == null ? 0 : buffer.readableBytes();
+  }
+
+  public synchronized void append(Buffer data, int maxCapacity) {
+    if (buffer == null) {
+      buffer = PooledByteBufAllocator.DEFAULT.heapBuffer(Math.min(data.length(), maxCapacity), maxCapacity);
+    }
+    buffer.writeBytes(data.getByteBuf());
+  }
+
+  /**
+   * @return a readonly view of the content, caller should not release it
+   * @throws IllegalStateException if the content already released
+   */
+  public synchronized ByteBuf getContent() {
+    if (released) {
+      throw new IllegalStateException("content of upload " + upload.filename() + " is already released.");
+    }
+    return buffer == null ? Unpooled.EMPTY_BUFFER : buffer.duplicate();
+  }
+
+  /**
+   * switch to file mode, caller should write content to the file before {@link #release()}
+   */
+  public synchronized void spillTo(String uploadedFileName) {
+    this.uploadedFileName = uploadedFileName;
+  }
+
+  /**
+   * @return released memory size
+   */
+  public synchronized int release() {
+    released = true;
+    if (buffer == null) {
+      return 0;
+    }
+
+    int size = buffer.readableBytes();
+    buffer.release();
+    buffer = null;
+    return size;
+  }
+
+  @Override
+  public String name() {
+    return upload.name();
+  }
+
+  @Override
+  public synchronized String uploadedFileName() {
+    return uploadedFileName;
+  }
+
+  @Override
+  public String fileName() {
+    return upload.filename();
+  }
+
+  @Override
+  public long size() {
+    return upload.size();
+  }
+
+  @Override
+  public String contentType() {
+    return upload.contentType();
+  }
+
+  @Override
+  public String contentTransferEncoding() {
+    return upload.contentTransferEncoding();
+  }
+
+  @Override
+  public String charSet() {
+    return upload.charset();
+  }
+}
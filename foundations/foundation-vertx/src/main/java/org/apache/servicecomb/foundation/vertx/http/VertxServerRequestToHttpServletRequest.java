@@ -108,6 +108,14 @@ public class VertxServerRequestToHttpServletRequest extends AbstractHttpServletR
     return cookies;
   }
 
+  /**
+   * read cookie from vertx directly, no need to build the servlet cookies
+   */
+  public String getCookieValue(String name) {
+    io.vertx.core.http.Cookie cookie = context.cookieMap().get(name);
+    return cookie == null ? null : cookie.getValue();
+  }
+
   @Override
   public String getParameter(String name) {
     if (parameterMap != null) {
@@ -202,6 +210,13 @@ public class VertxServerRequestToHttpServletRequest extends AbstractHttpServletR
     return Collections.enumeration(this.vertxRequest.headers().getAll(name));
   }
 
+  /**
+   * read headers from vertx directly, no need to wrap to Enumeration
+   */
+  public List<String> getHeaderList(String name) {
+    return this.vertxRequest.headers().getAll(name);
+  }
+
   @Override
   public Enumeration<String> getHeaderNames() {
     return Collections.enumeration(vertxRequest.headers().names());
@@ -17,17 +17,23 @@
 
 package org.apache.servicecomb.foundation.vertx.http;
 
+import java.io.File;
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.Part;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response.StatusType;
 
 import org.apache.servicecomb.foundation.common.http.HttpStatus;
+import org.apache.servicecomb.foundation.common.part.InputStreamPart;
+import org.apache.servicecomb.foundation.vertx.http.DownloadUtils.ByteRange;
 import org.apache.servicecomb.foundation.vertx.stream.PumpFromPart;
 
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerResponse;
@@ -76,6 +82,12 @@ public class VertxServerResponseToHttpServletResponse extends AbstractHttpServle
     serverResponse.headers().set(name, value);
   }
 
+  @Override
+  public void disableCompression() {
+    // vertx will remove this header and skip compression
+    serverResponse.headers().set(HttpHeaders.CONTENT_ENCODING, HttpHeaderValues.IDENTITY);
+  }
+
   @Override
   public int getStatus() {
     return serverResponse.getStatusCode();
@@ -112,6 +124,11 @@ public class VertxServerResponseToHttpServletResponse extends AbstractHttpServle
   }
 
   public void internalFlushBuffer() {
+    if (serverResponse.ended()) {
+      // already ended by sendfile
+      return;
+    }
+
     if (bodyBuffer == null) {
       serverResponse.end();
       return;
@@ -127,6 +144,75 @@ public class VertxServerResponseToHttpServletResponse extends AbstractHttpServle
     return new PumpFromPart(context, part).toWriteStream(serverResponse, null);
   }
 
+  @Override
+  public CompletableFuture<Void> sendPart(Part part, HttpServletRequest request) {
+    File file = DownloadUtils.findLocalFile(part);
+    if (file == null) {
+      return sendPart(part);
+    }
+
+    // local file, send by sendfile, no need to copy file content to user space
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    if (context == Vertx.currentContext()) {
+      sendFile(part, file, request, future);
+      return future;
+    }
+
+    context.runOnContext(V -> sendFile(part, file, request, future));
+    return future;
+  }
+
+  protected void sendFile(Part part, File file, HttpServletRequest request, CompletableFuture<Void> future) {
+    try {
+      DownloadUtils.prepareDownloadFileHeader(this, part);
+
+      long totalLength = file.length();
+      long lastModified = file.lastModified();
+      serverResponse.headers().set(DownloadUtils.ACCEPT_RANGES, DownloadUtils.BYTES_UNIT);
+      serverResponse.headers().set(HttpHeaders.LAST_MODIFIED, DownloadUtils.formatHttpDate(lastModified));
+
+      ByteRange range = request == null ? null : DownloadUtils.resolveRange(request.getHeader(DownloadUtils.RANGE),
+          request.getHeader(DownloadUtils.IF_RANGE), totalLength, lastModified);
+      if (range == ByteRange.UNSATISFIABLE) {
+        DownloadUtils.clearPartResource(part);
+        serverResponse.setStatusCode(416);
+        serverResponse.headers().set(DownloadUtils.CONTENT_RANGE, DownloadUtils.BYTES_UNIT + " */" + totalLength);
+        serverResponse.end();
+        future.complete(null);
+        return;
+      }
+
+      long offset = 0;
+      long length = totalLength;
+      if (range != null) {
+        offset = range.getFirst();
+        length = range.getLength();
+        serverResponse.setStatusCode(206);
+        serverResponse.headers().set(DownloadUtils.CONTENT_RANGE, range.toContentRange(totalLength));
+      }
+
+      serverResponse.sendFile(file.getAbsolutePath(), offset, length, ar -> {
+        DownloadUtils.clearPartResource(part);
+        if (ar.succeeded()) {
+          future.complete(null);
+          return;
+        }
+        future.completeExceptionally(ar.cause());
+      });
+    } catch (Throwable e) {
+      DownloadUtils.clearPartResource(part);
+      future.completeExceptionally(e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> sendStream(InputStream body) {
+    setChunked(true);
+
+    // InputStreamToReadStream read body in worker thread, and pause when write queue is full
+    return new PumpFromPart(context, new InputStreamPart(null, body)).toWriteStream(serverResponse, null);
+  }
+
   @Override
   public void setChunked(boolean chunked) {
     serverResponse.setChunked(chunked);
@@ -24,6 +24,14 @@ import java.util.concurrent.atomic.LongAdder;
 public class DefaultClientEndpointMetric extends DefaultEndpointMetric {
   private LongAdder queue = new LongAdder();
 
+  // sum of the time that dequeued requests waited in queue
+  private LongAdder queueTime = new LongAdder();
+
+  private LongAdder dequeueCount = new LongAdder();
+
+  // requests sent and waiting for response, only counted by tcp client with inflight limit
+  private LongAdder pending = new LongAdder();
+
   // control if the metric instance will be expired
   // all invoker about incRefCount/isExpired, must lock: DefaultClientEndpointMetricManager
   // decRefCount no need to lock, because that only cause to be expired later.
@@ -55,6 +63,31 @@ public class DefaultClientEndpointMetric extends DefaultEndpointMetric {
     queue.decrement();
   }
 
+  public void addQueueTime(long nanoTime) {
+    dequeueCount.increment();
+    queueTime.add(nanoTime);
+  }
+
+  public long getDequeueCount() {
+    return dequeueCount.longValue();
+  }
+
+  public long getQueueTime() {
+    return queueTime.longValue();
+  }
+
+  public long getPendingCount() {
+    return pending.longValue();
+  }
+
+  public void incPending() {
+    pending.increment();
+  }
+
+  public void decPending() {
+    pending.decrement();
+  }
+
   public boolean isExpired(long nsTimeout) {
     return getCurrentConnectionCount() == 0
         && (System.nanoTime() - lastNanoTime) > nsTimeout;
@@ -57,11 +57,11 @@ public class TcpServer {
         sslOption = factory.createSSLOption();
       }
       SSLCustom sslCustom = SSLCustom.createSSLCustom(sslOption.getSslCustomClass());
-      NetServerOptions serverOptions = new NetServerOptions();
+      NetServerOptions serverOptions = createNetServerOptions();
       VertxTLSBuilder.buildNetServerOptions(sslOption, sslCustom, serverOptions);
       netServer = vertx.createNetServer(serverOptions);
     } else {
-      netServer = vertx.createNetServer();
+      netServer = vertx.createNetServer(createNetServerOptions());
     }
 
     netServer.connectHandler(netSocket -> {
@@ -94,6 +94,10 @@ public class TcpServer {
     });
   }
 
+  protected NetServerOptions createNetServerOptions() {
+    return new NetServerOptions();
+  }
+
   protected int getConnectionLimit() {
     return Integer.MAX_VALUE;
   }
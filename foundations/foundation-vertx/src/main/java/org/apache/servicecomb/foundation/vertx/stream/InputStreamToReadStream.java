@@ -37,6 +37,9 @@ public class InputStreamToReadStream implements ReadStream<Buffer> {
 
   public static final int DEFAULT_READ_BUFFER_SIZE = 1024 * 1024;
 
+  // vertx buffer can not be released to a pool, so avoid allocate a full readBufferSize for small streams
+  public static final int MIN_READ_BUFFER_SIZE = 64 * 1024;
+
   private Context context;
 
   private InputStream inputStream;
@@ -100,9 +103,10 @@ public class InputStreamToReadStream implements ReadStream<Buffer> {
   class ReadResult {
     int readed;
 
-    byte[] bytes = new byte[readBufferSize];
+    byte[] bytes;
 
     void doRead() throws IOException {
+      bytes = new byte[calcChunkSize()];
       readed = inputStream.read(bytes);
     }
 
@@ -111,6 +115,11 @@ public class InputStreamToReadStream implements ReadStream<Buffer> {
     }
   }
 
+  private int calcChunkSize() throws IOException {
+    int available = inputStream.available();
+    return Math.min(readBufferSize, Math.max(available, MIN_READ_BUFFER_SIZE));
+  }
+
   private synchronized void doRead() {
     if (!readInProgress) {
       readInProgress = true;
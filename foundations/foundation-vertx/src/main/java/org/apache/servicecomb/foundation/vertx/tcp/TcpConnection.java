@@ -20,6 +20,8 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.netflix.config.DynamicPropertyFactory;
+
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.CompositeByteBuf;
@@ -29,6 +31,10 @@ import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.impl.NetSocketImpl;
 
 public class TcpConnection {
+  public static final String KEY_WRITE_BATCH_MAX_BYTES = "servicecomb.tcp.write.batch.maxBytes";
+
+  public static final String KEY_WRITE_BATCH_MAX_COMPONENTS = "servicecomb.tcp.write.batch.maxComponents";
+
   protected String protocol;
 
   // 压缩算法名字
@@ -53,6 +59,14 @@ public class TcpConnection {
 
   private AtomicLong writeQueueSize = new AtomicLong();
 
+  // frames drained in one eventloop task are merged to one gathering write
+  // flush early when reach the limits, to avoid too big write and too many iovecs(IOV_MAX is 1024 in linux)
+  private final int writeBatchMaxBytes = DynamicPropertyFactory.getInstance()
+      .getIntProperty(KEY_WRITE_BATCH_MAX_BYTES, 256 * 1024).get();
+
+  private final int writeBatchMaxComponents = DynamicPropertyFactory.getInstance()
+      .getIntProperty(KEY_WRITE_BATCH_MAX_COMPONENTS, 1024).get();
+
   public String getProtocol() {
     return protocol;
   }
@@ -84,13 +98,18 @@ public class TcpConnection {
   }
 
   public void write(ByteBuf buf) {
-    writeQueue.add(buf);
-    long oldSize = writeQueueSize.getAndIncrement();
-    if (oldSize == 0) {
+    if (enqueue(buf) == 0) {
       scheduleWrite();
     }
   }
 
+  // only add to write queue, caller must make sure writeInContext will be invoked
+  // return queue size before add
+  protected long enqueue(ByteBuf buf) {
+    writeQueue.add(buf);
+    return writeQueueSize.getAndIncrement();
+  }
+
   // notify context thread to write
   protected void scheduleWrite() {
     context.runOnContext(v -> {
@@ -99,22 +118,39 @@ public class TcpConnection {
   }
 
   protected void writeInContext() {
-    CompositeByteBuf cbb = ByteBufAllocator.DEFAULT.compositeBuffer();
+    ByteBuf first = null;
+    CompositeByteBuf cbb = null;
     for (; ; ) {
       ByteBuf buf = writeQueue.poll();
       if (buf == null) {
         break;
       }
-
       writeQueueSize.decrementAndGet();
+
+      // most times there is only one frame, no need to create composite buffer
+      if (first == null && cbb == null) {
+        first = buf;
+        continue;
+      }
+
+      if (cbb == null) {
+        cbb = ByteBufAllocator.DEFAULT.compositeBuffer(writeBatchMaxComponents);
+        cbb.addComponent(true, first);
+        first = null;
+      }
       cbb.addComponent(true, buf);
 
-      if (cbb.numComponents() == cbb.maxNumComponents()) {
+      if (cbb.numComponents() >= writeBatchMaxComponents || cbb.readableBytes() >= writeBatchMaxBytes) {
         netSocket.write(Buffer.buffer(cbb));
-        cbb = ByteBufAllocator.DEFAULT.compositeBuffer();
+        cbb = null;
       }
     }
-    if (cbb.isReadable()) {
+
+    if (first != null) {
+      netSocket.write(Buffer.buffer(first));
+      return;
+    }
+    if (cbb != null) {
       netSocket.write(Buffer.buffer(cbb));
     }
   }
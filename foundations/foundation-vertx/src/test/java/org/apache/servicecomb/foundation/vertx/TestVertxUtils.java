@@ -81,6 +81,26 @@ public class TestVertxUtils {
     ArchaiusUtils.resetConfig();
   }
 
+  @Test
+  public void testPreferNativeTransport() {
+    ArchaiusUtils.resetConfig();
+    VertxOptions vertxOptions = new VertxOptions();
+    VertxUtils.configureNativeTransport(vertxOptions);
+    Assert.assertFalse(vertxOptions.getPreferNativeTransport());
+
+    ArchaiusUtils.setProperty(VertxUtils.PREFER_NATIVE_TRANSPORT, true);
+    VertxUtils.configureNativeTransport(vertxOptions);
+    Assert.assertTrue(vertxOptions.getPreferNativeTransport());
+
+    // netty native jar is not in classpath, fallback to nio
+    Vertx vertx = VertxUtils.init(vertxOptions);
+    Assert.assertFalse(vertx.isNativeTransportEnabled());
+    Assert.assertEquals("nio", VertxUtils.getTransportName(vertx));
+    VertxUtils.blockCloseVertx(vertx);
+
+    ArchaiusUtils.resetConfig();
+  }
+
   @Test
   public void testVertxUtilsInitNullOptions() {
     Vertx vertx = VertxUtils.init(null);
@@ -112,6 +112,41 @@ public class TestClientPoolManager {
     Assert.assertSame(pool2, poolMgr.findClientPool(false));
   }
 
+  @Test
+  public void findClientPool_syncWithAffinityContext(@Mocked HttpClientWithContext threadBindPool) {
+    pools.add(threadBindPool);
+    HttpClientWithContext contextPool = new HttpClientWithContext(null, null);
+    new Expectations() {
+      {
+        factory.createClientPool(context);
+        result = contextPool;
+        Vertx.currentContext();
+        result = null;
+      }
+    };
+
+    long crossCount = ClientPoolManager.getCrossContextCount();
+    Assert.assertSame(contextPool, poolMgr.findClientPool(true, context));
+    Assert.assertEquals(crossCount + 1, ClientPoolManager.getCrossContextCount());
+  }
+
+  @Test
+  public void findClientPool_sameContext() {
+    HttpClientWithContext contextPool = new HttpClientWithContext(null, null);
+    new Expectations() {
+      {
+        factory.createClientPool(context);
+        result = contextPool;
+        Vertx.currentContext();
+        result = context;
+      }
+    };
+
+    long sameCount = ClientPoolManager.getSameContextCount();
+    Assert.assertSame(contextPool, poolMgr.findClientPool(false, null));
+    Assert.assertEquals(sameCount + 1, ClientPoolManager.getSameContextCount());
+  }
+
   @Test
   public void findThreadBindClientPool(@Mocked HttpClientWithContext pool1, @Mocked HttpClientWithContext pool2) {
     pools.add(pool1);
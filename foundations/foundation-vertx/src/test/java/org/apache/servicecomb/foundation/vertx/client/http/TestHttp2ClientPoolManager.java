@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.foundation.vertx.client.http;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestHttp2ClientPoolManager {
+  HttpClientWithContext pool1 = new HttpClientWithContext(null, null);
+
+  HttpClientWithContext pool2 = new HttpClientWithContext(null, null);
+
+  List<HttpClientWithContext> pools = Arrays.asList(pool1, pool2);
+
+  Http2ClientPoolManager poolMgr = new Http2ClientPoolManager(null, null);
+
+  @Test
+  public void selectClientPool_sameLoad() {
+    Assert.assertSame(pool1, poolMgr.selectClientPool(pools));
+    Assert.assertSame(pool2, poolMgr.selectClientPool(pools));
+    Assert.assertSame(pool1, poolMgr.selectClientPool(pools));
+  }
+
+  @Test
+  public void selectClientPool_leastActiveStreams() {
+    pool1.beginStream();
+    pool1.beginStream();
+    pool2.beginStream();
+
+    Assert.assertSame(pool2, poolMgr.selectClientPool(pools));
+    Assert.assertSame(pool2, poolMgr.selectClientPool(pools));
+
+    pool1.endStream();
+    pool1.endStream();
+    Assert.assertEquals(0, pool1.getActiveStreams());
+    Assert.assertSame(pool1, poolMgr.selectClientPool(pools));
+  }
+
+  @Test
+  public void selectThreadBindClientPool_leastActiveStreams() {
+    pool1.beginStream();
+
+    Assert.assertSame(pool2, poolMgr.selectThreadBindClientPool(pools));
+    Assert.assertSame(pool2, poolMgr.selectThreadBindClientPool(pools));
+  }
+}
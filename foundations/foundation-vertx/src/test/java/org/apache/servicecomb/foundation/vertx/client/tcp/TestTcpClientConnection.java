@@ -16,12 +16,14 @@
  */
 package org.apache.servicecomb.foundation.vertx.client.tcp;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.servicecomb.foundation.test.scaffolding.exception.RuntimeExceptionWithoutStackTrace;
 import org.apache.servicecomb.foundation.vertx.client.tcp.TcpClientConnection.Status;
+import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultClientEndpointMetric;
 import org.apache.servicecomb.foundation.vertx.tcp.TcpOutputStream;
 import org.junit.Assert;
 import org.junit.Before;
@@ -115,6 +117,76 @@ public class TestTcpClientConnection {
     Assert.assertEquals(Status.WORKING, Deencapsulation.getField(tcpClientConnection, "status"));
   }
 
+  private AbstractTcpClientPackage createPackage() {
+    return new AbstractTcpClientPackage() {
+      @Override
+      public TcpOutputStream createStream() {
+        return new TcpOutputStream(getMsgId());
+      }
+    };
+  }
+
+  @Test
+  public void send_inflightLimited() {
+    TcpClientConfig clientConfig = new TcpClientConfig();
+    clientConfig.setMaxInflightPerConnection(1);
+    Deencapsulation.setField(tcpClientConnection, "clientConfig", clientConfig);
+    Deencapsulation.setField(tcpClientConnection, "status", Status.WORKING);
+    new MockUp<Context>(context) {
+      @Mock
+      void runOnContext(Handler<Void> action) {
+      }
+    };
+
+    AbstractTcpClientPackage p1 = createPackage();
+    AbstractTcpClientPackage p2 = createPackage();
+    AtomicInteger replied = new AtomicInteger();
+    tcpClientConnection.send(p1, ar -> replied.incrementAndGet());
+    tcpClientConnection.send(p2, ar -> replied.incrementAndGet());
+
+    // p2 is queued
+    Assert.assertEquals(2, tcpClientConnection.getPendingCount());
+    Assert.assertNotNull(writeQueue.poll());
+    Assert.assertNull(writeQueue.poll());
+
+    // p1 replied, p2 is sent
+    tcpClientConnection.onReply(p1.getMsgId(), null, null);
+    Assert.assertEquals(1, replied.get());
+    Assert.assertEquals(1, tcpClientConnection.getPendingCount());
+    Assert.assertNotNull(writeQueue.poll());
+    Assert.assertNull(writeQueue.poll());
+  }
+
+  @Test
+  public void send_inflightLimited_disconnected() {
+    TcpClientConfig clientConfig = new TcpClientConfig();
+    clientConfig.setMaxInflightPerConnection(1);
+    Deencapsulation.setField(tcpClientConnection, "clientConfig", clientConfig);
+    Deencapsulation.setField(tcpClientConnection, "status", Status.WORKING);
+    DefaultClientEndpointMetric endpointMetric = new DefaultClientEndpointMetric("address");
+    Deencapsulation.setField(tcpClientConnection, "endpointMetric", endpointMetric);
+    new MockUp<Context>(context) {
+      @Mock
+      void runOnContext(Handler<Void> action) {
+      }
+    };
+
+    AbstractTcpClientPackage p1 = createPackage();
+    AbstractTcpClientPackage p2 = createPackage();
+    AtomicInteger failed = new AtomicInteger();
+    tcpClientConnection.send(p1, ar -> failed.incrementAndGet());
+    tcpClientConnection.send(p2, ar -> failed.incrementAndGet());
+    Assert.assertEquals(1, endpointMetric.getQueueCount());
+    Assert.assertEquals(1, endpointMetric.getPendingCount());
+
+    tcpClientConnection.clearCachedRequest(new IOException("socket closed"));
+
+    Assert.assertEquals(2, failed.get());
+    Assert.assertEquals(0, endpointMetric.getQueueCount());
+    Assert.assertEquals(0, endpointMetric.getPendingCount());
+    Assert.assertTrue(((Queue<?>) Deencapsulation.getField(tcpClientConnection, "waitingQueue")).isEmpty());
+  }
+
   @Test
   public void send_inDisconnectedStatus(@Mocked AbstractTcpClientPackage tcpClientPackage,
       @Mocked TcpOutputStream tcpOutputStream) {
@@ -16,12 +16,16 @@
  */
 package org.apache.servicecomb.foundation.vertx.client.tcp;
 
+import java.util.List;
+
 import org.hamcrest.Matchers;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import io.vertx.core.impl.ContextInternal;
+import mockit.Deencapsulation;
+import mockit.Expectations;
 import mockit.Mocked;
 
 public class TestTcpClientConnectionPool {
@@ -42,4 +46,27 @@ public class TestTcpClientConnectionPool {
   public void create() {
     Assert.assertThat(pool.create("rest://localhost:8765"), Matchers.instanceOf(TcpClientConnection.class));
   }
+
+  @Test
+  public void findOrCreateClient_leastPending() {
+    TcpClientConfig clientConfig = new TcpClientConfig();
+    clientConfig.setConnectionsPerEndpoint(2);
+    new Expectations() {
+      {
+        netClientWrapper.getClientConfig(anyBoolean);
+        result = clientConfig;
+      }
+    };
+
+    String endpoint = "rest://localhost:8765";
+    TcpClientConnection first = pool.findOrCreateClient(endpoint);
+    List<TcpClientConnection> clients = pool.tcpClientMap.get(endpoint);
+    Assert.assertEquals(2, clients.size());
+    Assert.assertSame(clients.get(0), first);
+
+    Deencapsulation.<java.util.Map<Long, TcpRequest>>getField(first, "requestMap")
+        .put(1L, new TcpRequest(1000, ar -> {
+        }));
+    Assert.assertSame(clients.get(1), pool.findOrCreateClient(endpoint));
+  }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.foundation.vertx.compress;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.vertx.core.buffer.Buffer;
+
+public class TestCompressorManager {
+  CompressorManager manager = CompressorManager.INSTANCE;
+
+  @Test
+  public void find() {
+    Compressor gzip = manager.findCompressor(GzipCompressor.NAME);
+
+    Assert.assertTrue(gzip instanceof GzipCompressor);
+    Assert.assertSame(gzip, manager.findCompressor(GzipCompressor.ID));
+    Assert.assertNull(manager.findCompressor(0));
+    Assert.assertNull(manager.findCompressor(256));
+    Assert.assertNull(manager.findCompressor((String) null));
+  }
+
+  @Test
+  public void negotiate() {
+    Assert.assertNull(manager.negotiate(null));
+    Assert.assertNull(manager.negotiate(""));
+    Assert.assertNull(manager.negotiate("zstd"));
+    Assert.assertEquals(GzipCompressor.NAME, manager.negotiate("zstd, gzip"));
+  }
+
+  @Test
+  public void compressAndDecompress() throws Exception {
+    Compressor gzip = manager.findCompressor(GzipCompressor.NAME);
+    CompressionStatistics statistics = manager.getStatisticsMap().get(GzipCompressor.NAME);
+    long compressCount = statistics.getCompressCount();
+    long decompressCount = statistics.getDecompressCount();
+
+    byte[] data = StringUtils.repeat("servicecomb", 1000).getBytes(StandardCharsets.UTF_8);
+    byte[] compressed = manager.compress(gzip, data);
+    Buffer decompressed = manager.decompress(gzip, Buffer.buffer(compressed), data.length);
+
+    Assert.assertTrue(compressed.length < data.length);
+    Assert.assertArrayEquals(data, decompressed.getBytes());
+    Assert.assertEquals(compressCount + 1, statistics.getCompressCount());
+    Assert.assertEquals(decompressCount + 1, statistics.getDecompressCount());
+    Assert.assertTrue(statistics.getRatio() < 1);
+  }
+
+  @Test
+  public void decompressExceedLimit() throws Exception {
+    Compressor gzip = manager.findCompressor(GzipCompressor.NAME);
+    byte[] compressed = gzip.compress(new byte[10000]);
+
+    try {
+      gzip.decompress(Buffer.buffer(compressed), 9999);
+      Assert.fail("must throw exception");
+    } catch (IOException e) {
+      Assert.assertEquals("decompressed data exceeds the limit 9999.", e.getMessage());
+    }
+  }
+}
@@ -30,6 +30,8 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerFileUpload;
 import io.vertx.ext.web.FileUpload;
 import mockit.Expectations;
 import mockit.Mocked;
@@ -135,4 +137,56 @@ public class TestFileUploadPart {
     part.write(targetFile.getAbsolutePath());
     Assert.assertEquals(content, FileUtils.readFileToString(targetFile, StandardCharsets.UTF_8));
   }
+
+  @Test
+  public void inMemory(@Mocked HttpServerFileUpload upload) throws IOException {
+    HybridFileUpload hybridFileUpload = new HybridFileUpload(upload);
+    hybridFileUpload.append(Buffer.buffer("file"), 100);
+    hybridFileUpload.append(Buffer.buffer("Content"), 100);
+    part = new FileUploadPart(hybridFileUpload);
+
+    Assert.assertTrue(hybridFileUpload.isInMemory());
+    Assert.assertEquals(content.length(), hybridFileUpload.getMemorySize());
+    // can read more than once
+    for (int idx = 0; idx < 2; idx++) {
+      try (InputStream is = part.getInputStream()) {
+        Assert.assertEquals(content, IOUtils.toString(is, StandardCharsets.UTF_8));
+      }
+    }
+
+    File targetFile = new File(UUID.randomUUID().toString());
+    targetFile.deleteOnExit();
+    part.write(targetFile.getAbsolutePath());
+    Assert.assertEquals(content, FileUtils.readFileToString(targetFile, StandardCharsets.UTF_8));
+
+    Assert.assertEquals(content.length(), hybridFileUpload.release());
+    Assert.assertEquals(0, hybridFileUpload.release());
+
+    new Expectations() {
+      {
+        upload.filename();
+        result = "fileName";
+      }
+    };
+    try {
+      hybridFileUpload.getContent();
+      Assert.fail("must throw exception");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("content of upload fileName is already released.", e.getMessage());
+    }
+  }
+
+  @Test
+  public void spilled(@Mocked HttpServerFileUpload upload) throws IOException {
+    HybridFileUpload hybridFileUpload = new HybridFileUpload(upload);
+    hybridFileUpload.append(Buffer.buffer("file"), 100);
+    hybridFileUpload.spillTo(file.getAbsolutePath());
+    hybridFileUpload.release();
+    part = new FileUploadPart(hybridFileUpload);
+
+    Assert.assertFalse(hybridFileUpload.isInMemory());
+    try (InputStream is = part.getInputStream()) {
+      Assert.assertEquals(content, IOUtils.toString(is, StandardCharsets.UTF_8));
+    }
+  }
 }
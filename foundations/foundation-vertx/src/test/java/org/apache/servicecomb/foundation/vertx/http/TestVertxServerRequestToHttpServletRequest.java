@@ -136,6 +136,21 @@ public class TestVertxServerRequestToHttpServletRequest {
     Assert.assertSame(cookies, request.getCookies());
   }
 
+  @Test
+  public void testGetCookieValue() {
+    Map<String, io.vertx.core.http.Cookie> vertxCookies = new LinkedHashMap<>();
+    vertxCookies.put("c1", io.vertx.core.http.Cookie.cookie("c1", "c1v"));
+    new Expectations() {
+      {
+        context.cookieMap();
+        result = vertxCookies;
+      }
+    };
+
+    Assert.assertEquals("c1v", request.getCookieValue("c1"));
+    Assert.assertNull(request.getCookieValue("c2"));
+  }
+
   @Test
   public void testGetParameter() {
     new Expectations() {
@@ -299,6 +314,21 @@ public class TestVertxServerRequestToHttpServletRequest {
     Assert.assertThat(Collections.list(request.getHeaders("name")), Matchers.contains("value"));
   }
 
+  @Test
+  public void testGetHeaderList() {
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+    headers.add("name", "v1");
+    headers.add("Name", "v2");
+    new Expectations() {
+      {
+        vertxRequest.headers();
+        result = headers;
+      }
+    };
+
+    Assert.assertThat(request.getHeaderList("name"), Matchers.contains("v1", "v2"));
+  }
+
   @Test
   public void testGetHeaderNames() {
     MultiMap headers = MultiMap.caseInsensitiveMultiMap();
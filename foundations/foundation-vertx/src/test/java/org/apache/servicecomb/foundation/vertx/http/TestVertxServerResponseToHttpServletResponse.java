@@ -25,6 +25,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.Part;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response.StatusType;
@@ -32,6 +33,7 @@ import javax.ws.rs.core.Response.StatusType;
 import org.apache.commons.io.FileUtils;
 import org.apache.servicecomb.foundation.common.http.HttpStatus;
 import org.apache.servicecomb.foundation.common.part.FilePart;
+import org.apache.servicecomb.foundation.vertx.http.DownloadUtils.ByteRange;
 import org.apache.servicecomb.foundation.vertx.stream.PumpFromPart;
 import org.hamcrest.Matchers;
 import org.junit.Assert;
@@ -42,6 +44,7 @@ import org.junit.rules.ExpectedException;
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
@@ -80,6 +83,12 @@ public class TestVertxServerResponseToHttpServletResponse {
 
   boolean chunked;
 
+  boolean ended;
+
+  long sendFileOffset = -1;
+
+  long sendFileLength = -1;
+
   @Before
   public void setup() {
     serverResponse = new MockUp<HttpServerResponse>() {
@@ -136,6 +145,21 @@ public class TestVertxServerResponseToHttpServletResponse {
       boolean isChunked() {
         return chunked;
       }
+
+      @Mock
+      boolean ended() {
+        return ended;
+      }
+
+      @Mock
+      HttpServerResponse sendFile(String filename, long offset, long length,
+          Handler<AsyncResult<Void>> resultHandler) {
+        ended = true;
+        sendFileOffset = offset;
+        sendFileLength = length;
+        resultHandler.handle(Future.succeededFuture());
+        return serverResponse;
+      }
     }.getMockInstance();
 
     new Expectations() {
@@ -397,6 +421,121 @@ public class TestVertxServerResponseToHttpServletResponse {
     Assert.assertNull(future.get());
   }
 
+  @Test
+  public void sendStream_succ(@Mocked InputStream inputStream)
+      throws IOException, InterruptedException, ExecutionException {
+    new Expectations() {
+      {
+        inputStream.read((byte[]) any);
+        result = -1;
+      }
+    };
+
+    CompletableFuture<Void> future = response.sendStream(inputStream);
+
+    Assert.assertNull(future.get());
+    Assert.assertTrue(chunked);
+    Assert.assertNull(headers.get(HttpHeaders.CONTENT_DISPOSITION));
+  }
+
+  private File createDownloadFile() throws IOException {
+    File file = new File("target", UUID.randomUUID().toString() + ".txt");
+    FileUtils.write(file, "0123456789", StandardCharsets.UTF_8);
+    file.deleteOnExit();
+    return file;
+  }
+
+  @Test
+  public void sendPart_sendFile(@Mocked HttpServletRequest request)
+      throws IOException, InterruptedException, ExecutionException {
+    FilePart part = new FilePart(null, createDownloadFile());
+
+    CompletableFuture<Void> future = response.sendPart(part, request);
+
+    Assert.assertNull(future.get());
+    Assert.assertEquals(0, sendFileOffset);
+    Assert.assertEquals(10, sendFileLength);
+    Assert.assertEquals(DownloadUtils.BYTES_UNIT, headers.get(DownloadUtils.ACCEPT_RANGES));
+    Assert.assertNull(headers.get(DownloadUtils.CONTENT_RANGE));
+    Assert.assertFalse(serverResponse.isChunked());
+
+    // already ended by sendfile, flush should not end it again
+    flushWithBody = true;
+    response.internalFlushBuffer();
+    Assert.assertTrue(flushWithBody);
+  }
+
+  @Test
+  public void sendPart_sendFileRange(@Mocked HttpServletRequest request)
+      throws IOException, InterruptedException, ExecutionException {
+    FilePart part = new FilePart(null, createDownloadFile());
+    new Expectations() {
+      {
+        request.getHeader(DownloadUtils.RANGE);
+        result = "bytes=2-5";
+        request.getHeader(DownloadUtils.IF_RANGE);
+        result = null;
+      }
+    };
+
+    Assert.assertNull(response.sendPart(part, request).get());
+    Assert.assertEquals(206, httpStatus.getStatusCode());
+    Assert.assertEquals(2, sendFileOffset);
+    Assert.assertEquals(4, sendFileLength);
+    Assert.assertEquals("bytes 2-5/10", headers.get(DownloadUtils.CONTENT_RANGE));
+  }
+
+  @Test
+  public void sendPart_sendFileRangeNotSatisfiable(@Mocked HttpServletRequest request)
+      throws IOException, InterruptedException, ExecutionException {
+    FilePart part = new FilePart(null, createDownloadFile());
+    new Expectations() {
+      {
+        request.getHeader(DownloadUtils.RANGE);
+        result = "bytes=20-";
+        request.getHeader(DownloadUtils.IF_RANGE);
+        result = null;
+      }
+    };
+
+    Assert.assertNull(response.sendPart(part, request).get());
+    Assert.assertEquals(416, httpStatus.getStatusCode());
+    Assert.assertEquals(-1, sendFileLength);
+    Assert.assertEquals("bytes */10", headers.get(DownloadUtils.CONTENT_RANGE));
+  }
+
+  @Test
+  public void resolveRange() {
+    Assert.assertNull(DownloadUtils.resolveRange(null, null, 10, 0));
+    Assert.assertNull(DownloadUtils.resolveRange("bytes=0-1,3-4", null, 10, 0));
+    Assert.assertNull(DownloadUtils.resolveRange("items=0-1", null, 10, 0));
+    Assert.assertNull(DownloadUtils.resolveRange("bytes=5-1", null, 10, 0));
+    Assert.assertNull(DownloadUtils.resolveRange("bytes=a-1", null, 10, 0));
+    Assert.assertSame(ByteRange.UNSATISFIABLE, DownloadUtils.resolveRange("bytes=10-", null, 10, 0));
+    Assert.assertSame(ByteRange.UNSATISFIABLE, DownloadUtils.resolveRange("bytes=-0", null, 10, 0));
+
+    ByteRange range = DownloadUtils.resolveRange("bytes=3-", null, 10, 0);
+    Assert.assertEquals(3, range.getFirst());
+    Assert.assertEquals(9, range.getLast());
+
+    range = DownloadUtils.resolveRange("bytes=3-100", null, 10, 0);
+    Assert.assertEquals(9, range.getLast());
+
+    range = DownloadUtils.resolveRange("bytes=-4", null, 10, 0);
+    Assert.assertEquals(6, range.getFirst());
+    Assert.assertEquals(4, range.getLength());
+  }
+
+  @Test
+  public void resolveRange_ifRange() {
+    long lastModified = 1600000000123L;
+    String date = DownloadUtils.formatHttpDate(lastModified);
+
+    Assert.assertNotNull(DownloadUtils.resolveRange("bytes=0-1", date, 10, lastModified));
+    Assert.assertNull(DownloadUtils.resolveRange("bytes=0-1", date, 10, lastModified + 1000));
+    Assert.assertNull(DownloadUtils.resolveRange("bytes=0-1", "\"etag\"", 10, lastModified));
+  }
+
   @Test
   public void clearPartResource_deleteFile() throws IOException {
     File file = new File("target", UUID.randomUUID().toString() + ".txt");
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.foundation.vertx.tcp;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetSocket;
+import mockit.Mocked;
+import mockit.Verifications;
+
+public class TestTcpConnection {
+  @Mocked
+  NetSocket netSocket;
+
+  TcpConnection connection = new TcpConnection();
+
+  @Before
+  public void setup() {
+    connection.netSocket = netSocket;
+  }
+
+  @After
+  public void teardown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  private List<Buffer> captureWrites() {
+    List<Buffer> buffers = new ArrayList<>();
+    new Verifications() {
+      {
+        netSocket.write(withCapture(buffers));
+      }
+    };
+    return buffers;
+  }
+
+  @Test
+  public void should_write_single_frame_directly() {
+    connection.enqueue(Unpooled.wrappedBuffer(new byte[] {1}));
+    connection.writeInContext();
+
+    List<Buffer> buffers = captureWrites();
+    Assert.assertEquals(1, buffers.size());
+    Assert.assertEquals(1, buffers.get(0).length());
+  }
+
+  @Test
+  public void should_merge_frames_to_one_write() {
+    for (int idx = 0; idx < 10; idx++) {
+      connection.enqueue(Unpooled.wrappedBuffer(new byte[] {(byte) idx}));
+    }
+    connection.writeInContext();
+
+    List<Buffer> buffers = captureWrites();
+    Assert.assertEquals(1, buffers.size());
+    Assert.assertArrayEquals(new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, buffers.get(0).getBytes());
+  }
+
+  @Test
+  public void should_flush_when_reach_max_bytes() {
+    ArchaiusUtils.setProperty(TcpConnection.KEY_WRITE_BATCH_MAX_BYTES, 4);
+    connection = new TcpConnection();
+    connection.netSocket = netSocket;
+    for (int idx = 0; idx < 5; idx++) {
+      connection.enqueue(Unpooled.wrappedBuffer(new byte[] {(byte) idx, (byte) idx}));
+    }
+    connection.writeInContext();
+
+    List<Buffer> buffers = captureWrites();
+    Assert.assertEquals(3, buffers.size());
+    Assert.assertEquals(4, buffers.get(0).length());
+    Assert.assertEquals(4, buffers.get(1).length());
+    Assert.assertEquals(2, buffers.get(2).length());
+  }
+}
@@ -21,7 +21,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.netflix.config.DynamicBooleanProperty;
+import com.netflix.config.DynamicIntProperty;
 import com.netflix.config.DynamicPropertyFactory;
+import com.netflix.config.DynamicStringProperty;
 
 public final class Config {
   private static final Logger LOGGER = LoggerFactory.getLogger(Config.class);
@@ -54,6 +56,20 @@ public final class Config {
 
   public static final String PROVIDER_ENABLED = "servicecomb.flowcontrol.Provider.qps.enabled";
 
+  public static final String PROVIDER_ADAPTIVE_ENABLED = "servicecomb.flowcontrol.Provider.adaptive.enabled";
+
+  // operation or schema
+  public static final String PROVIDER_ADAPTIVE_SCOPE = "servicecomb.flowcontrol.Provider.adaptive.scope";
+
+  public static final String PROVIDER_ADAPTIVE_INITIAL_LIMIT =
+      "servicecomb.flowcontrol.Provider.adaptive.initialLimit";
+
+  public static final String PROVIDER_ADAPTIVE_MIN_LIMIT = "servicecomb.flowcontrol.Provider.adaptive.minLimit";
+
+  public static final String PROVIDER_ADAPTIVE_MAX_LIMIT = "servicecomb.flowcontrol.Provider.adaptive.maxLimit";
+
+  public static final String ADAPTIVE_SCOPE_SCHEMA = "schema";
+
   public static Config INSTANCE = new Config();
 
   private final DynamicBooleanProperty consumerEnabled =
@@ -62,6 +78,21 @@ public final class Config {
   private final DynamicBooleanProperty providerEnabled =
       DynamicPropertyFactory.getInstance().getBooleanProperty(PROVIDER_ENABLED, true);
 
+  private final DynamicBooleanProperty providerAdaptiveEnabled =
+      DynamicPropertyFactory.getInstance().getBooleanProperty(PROVIDER_ADAPTIVE_ENABLED, false);
+
+  private final DynamicStringProperty providerAdaptiveScope =
+      DynamicPropertyFactory.getInstance().getStringProperty(PROVIDER_ADAPTIVE_SCOPE, "operation");
+
+  private final DynamicIntProperty providerAdaptiveInitialLimit =
+      DynamicPropertyFactory.getInstance().getIntProperty(PROVIDER_ADAPTIVE_INITIAL_LIMIT, 20);
+
+  private final DynamicIntProperty providerAdaptiveMinLimit =
+      DynamicPropertyFactory.getInstance().getIntProperty(PROVIDER_ADAPTIVE_MIN_LIMIT, 1);
+
+  private final DynamicIntProperty providerAdaptiveMaxLimit =
+      DynamicPropertyFactory.getInstance().getIntProperty(PROVIDER_ADAPTIVE_MAX_LIMIT, 1000);
+
   public Config() {
     consumerEnabled.addCallback(() -> {
       boolean newValue = consumerEnabled.get();
@@ -81,4 +112,24 @@ public final class Config {
   public boolean isProviderEnabled() {
     return providerEnabled.get();
   }
+
+  public boolean isProviderAdaptiveEnabled() {
+    return providerAdaptiveEnabled.get();
+  }
+
+  public String getProviderAdaptiveScope() {
+    return providerAdaptiveScope.get();
+  }
+
+  public int getProviderAdaptiveInitialLimit() {
+    return providerAdaptiveInitialLimit.get();
+  }
+
+  public int getProviderAdaptiveMinLimit() {
+    return providerAdaptiveMinLimit.get();
+  }
+
+  public int getProviderAdaptiveMaxLimit() {
+    return providerAdaptiveMaxLimit.get();
+  }
 }
@@ -20,6 +20,7 @@ package org.apache.servicecomb.qps;
 import org.apache.servicecomb.core.Const;
 import org.apache.servicecomb.core.Handler;
 import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.qps.adaptive.AdaptiveLimiterManager;
 import org.apache.servicecomb.swagger.invocation.AsyncResponse;
 import org.apache.servicecomb.swagger.invocation.exception.CommonExceptionData;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
@@ -44,7 +45,14 @@ public class ProviderQpsFlowControlHandler implements Handler {
 
     String microserviceName = invocation.getContext(Const.SRC_MICROSERVICE);
     QpsStrategy qpsStrategy = qpsControllerMgr.getOrCreate(microserviceName, invocation);
-    isLimitNewRequest(qpsStrategy, asyncResp);
+    if (isLimitNewRequest(qpsStrategy, asyncResp)) {
+      return;
+    }
+
+    if (Config.INSTANCE.isProviderAdaptiveEnabled() && !AdaptiveLimiterManager.INSTANCE.tryAcquire(invocation)) {
+      CommonExceptionData errorData = new CommonExceptionData(QpsConst.ADAPTIVE_LIMIT_REJECTED);
+      asyncResp.producerFail(new InvocationException(QpsConst.TOO_MANY_REQUESTS_STATUS, errorData));
+    }
   }
 
   private boolean isLimitNewRequest(QpsStrategy qpsStrategy, AsyncResponse asyncResp) {
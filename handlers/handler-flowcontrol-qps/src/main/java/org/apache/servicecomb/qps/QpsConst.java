@@ -23,6 +23,8 @@ import org.apache.servicecomb.swagger.invocation.context.HttpStatus;
 public final class QpsConst {
   public static final StatusType TOO_MANY_REQUESTS_STATUS = new HttpStatus(429, "Too Many Requests");
 
+  public static final String ADAPTIVE_LIMIT_REJECTED = "rejected by adaptive concurrency limit";
+
   private QpsConst() {
   }
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.qps.adaptive;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nonnull;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.exception.Exceptions;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.core.filter.ProducerFilter;
+import org.apache.servicecomb.qps.Config;
+import org.apache.servicecomb.qps.QpsConst;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.swagger.invocation.exception.CommonExceptionData;
+import org.springframework.stereotype.Component;
+
+/**
+ * must be placed before schedule filter, so that excess requests are rejected in eventloop
+ */
+@Component
+public class AdaptiveLimitFilter implements ProducerFilter {
+  public static final String NAME = "adaptive-limit";
+
+  @Nonnull
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public CompletableFuture<Response> onFilter(Invocation invocation, FilterNode nextNode) {
+    if (Config.INSTANCE.isProviderAdaptiveEnabled() && !AdaptiveLimiterManager.INSTANCE.tryAcquire(invocation)) {
+      throw Exceptions.create(QpsConst.TOO_MANY_REQUESTS_STATUS,
+          new CommonExceptionData(QpsConst.ADAPTIVE_LIMIT_REJECTED));
+    }
+
+    return nextNode.onFilter(invocation);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.qps.adaptive;
+
+import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
+import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+
+import com.google.common.eventbus.EventBus;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.patterns.PolledMeter;
+
+public class AdaptiveLimitMetersInitializer implements MetricsInitializer {
+  public static final String ADAPTIVE_LIMIT = "servicecomb.flowcontrol.adaptive";
+
+  public static final String TAG_NAME = "name";
+
+  public static final String TAG_STATISTIC = "statistic";
+
+  private Registry registry;
+
+  @Override
+  public void init(GlobalRegistry globalRegistry, EventBus eventBus, MetricsBootstrapConfig config) {
+    registry = globalRegistry.getDefaultRegistry();
+
+    AdaptiveLimiterManager.INSTANCE.setCreateListener(this::createMeters);
+  }
+
+  protected void createMeters(VegasLimiter limiter) {
+    PolledMeter.using(registry)
+        .withName(ADAPTIVE_LIMIT)
+        .withTag(TAG_NAME, limiter.getName())
+        .withTag(TAG_STATISTIC, "limit")
+        .monitorValue(limiter, VegasLimiter::getLimit);
+    PolledMeter.using(registry)
+        .withName(ADAPTIVE_LIMIT)
+        .withTag(TAG_NAME, limiter.getName())
+        .withTag(TAG_STATISTIC, "inflight")
+        .monitorValue(limiter, VegasLimiter::getInflight);
+    PolledMeter.using(registry)
+        .withName(ADAPTIVE_LIMIT)
+        .withTag(TAG_NAME, limiter.getName())
+        .withTag(TAG_STATISTIC, "rejected")
+        .monitorMonotonicCounter(limiter, VegasLimiter::getRejectedCount);
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.qps.adaptive;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.event.InvocationFinishEvent;
+import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
+import org.apache.servicecomb.foundation.common.event.EventManager;
+import org.apache.servicecomb.qps.Config;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * provider adaptive concurrency limiters, acquire before schedule, release when invocation finished
+ */
+public final class AdaptiveLimiterManager {
+  public static final AdaptiveLimiterManager INSTANCE = new AdaptiveLimiterManager();
+
+  private static final String LOCAL_CONTEXT_KEY = "x-scb-adaptive-limiter";
+
+  // key is schemaId or schemaId.operationId
+  private final Map<String, VegasLimiter> limiters = new ConcurrentHashMapEx<>();
+
+  private volatile Consumer<VegasLimiter> createListener;
+
+  private AdaptiveLimiterManager() {
+    EventManager.register(this);
+  }
+
+  public Collection<VegasLimiter> getLimiters() {
+    return limiters.values();
+  }
+
+  /**
+   * listener is invoked for exists limiters and all limiters created later
+   */
+  public synchronized void setCreateListener(Consumer<VegasLimiter> createListener) {
+    this.createListener = createListener;
+    limiters.values().forEach(createListener);
+  }
+
+  public VegasLimiter getOrCreate(Invocation invocation) {
+    String name = Config.ADAPTIVE_SCOPE_SCHEMA.equals(Config.INSTANCE.getProviderAdaptiveScope()) ?
+        invocation.getSchemaId() : invocation.getOperationMeta().getSchemaQualifiedName();
+    VegasLimiter limiter = limiters.get(name);
+    if (limiter == null) {
+      limiter = create(name);
+    }
+    return limiter;
+  }
+
+  private synchronized VegasLimiter create(String name) {
+    return limiters.computeIfAbsent(name, key -> {
+      VegasLimiter limiter = new VegasLimiter(key,
+          Config.INSTANCE.getProviderAdaptiveInitialLimit(),
+          Config.INSTANCE.getProviderAdaptiveMinLimit(),
+          Config.INSTANCE.getProviderAdaptiveMaxLimit());
+      if (createListener != null) {
+        createListener.accept(limiter);
+      }
+      return limiter;
+    });
+  }
+
+  /**
+   * @return false if reach the limit
+   */
+  public boolean tryAcquire(Invocation invocation) {
+    if (invocation.getLocalContext(LOCAL_CONTEXT_KEY) != null) {
+      // already acquired by handler or filter
+      return true;
+    }
+
+    VegasLimiter limiter = getOrCreate(invocation);
+    if (!limiter.tryAcquire()) {
+      return false;
+    }
+
+    invocation.addLocalContext(LOCAL_CONTEXT_KEY, limiter);
+    return true;
+  }
+
+  @Subscribe
+  @AllowConcurrentEvents
+  public void onInvocationFinish(InvocationFinishEvent event) {
+    Invocation invocation = event.getInvocation();
+    if (!invocation.isProducer()) {
+      return;
+    }
+
+    VegasLimiter limiter = (VegasLimiter) invocation.getLocalContext().remove(LOCAL_CONTEXT_KEY);
+    if (limiter != null) {
+      limiter.release(event.getNanoCurrent() - invocation.getInvocationStageTrace().getStart());
+    }
+  }
+}
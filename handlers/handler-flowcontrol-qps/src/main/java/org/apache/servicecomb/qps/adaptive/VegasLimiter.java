@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.qps.adaptive;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * concurrency limit adjusted by TCP Vegas algorithm<br>
+ * <pre>
+ *   queueSize = limit * (1 - minRtt / rtt)
+ *   queueSize small: no queue in provider, increase limit
+ *   queueSize large: requests are queuing, decrease limit
+ * </pre>
+ * minRtt is re-probed periodically, so that it can follow the change of downstream latency.
+ */
+public class VegasLimiter {
+  private static final int PROBE_MULTIPLIER = 30;
+
+  private final String name;
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final AtomicInteger inflight = new AtomicInteger();
+
+  private final LongAdder rejectedCount = new LongAdder();
+
+  private volatile double limit;
+
+  // guarded by this
+  private long minRtt = Long.MAX_VALUE;
+
+  // guarded by this
+  private long samplesToProbe;
+
+  public VegasLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+    this.name = name;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+    this.samplesToProbe = nextProbeSamples();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInflight() {
+    return inflight.get();
+  }
+
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  public boolean tryAcquire() {
+    for (; ; ) {
+      int current = inflight.get();
+      if (current >= (int) limit) {
+        rejectedCount.increment();
+        return false;
+      }
+
+      if (inflight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  public void release(long nanoRtt) {
+    int inflightBeforeRelease = inflight.getAndDecrement();
+    onSample(nanoRtt, inflightBeforeRelease);
+  }
+
+  private long nextProbeSamples() {
+    return (long) (limit * PROBE_MULTIPLIER);
+  }
+
+  protected synchronized void onSample(long nanoRtt, int inflightAtSample) {
+    if (nanoRtt <= 0) {
+      return;
+    }
+
+    if (--samplesToProbe <= 0) {
+      samplesToProbe = nextProbeSamples();
+      minRtt = nanoRtt;
+      return;
+    }
+
+    if (nanoRtt < minRtt) {
+      minRtt = nanoRtt;
+      return;
+    }
+
+    double current = limit;
+    double log = Math.max(1, Math.log10(current));
+    int queueSize = (int) Math.ceil(current * (1 - (double) minRtt / nanoRtt));
+
+    double newLimit;
+    if (queueSize <= log) {
+      newLimit = current + 6 * log;
+    } else if (queueSize < 3 * log) {
+      newLimit = current + log;
+    } else if (queueSize > 6 * log) {
+      newLimit = current - log;
+    } else {
+      return;
+    }
+
+    // not busy enough to prove the limit is too small
+    if (newLimit > current && inflightAtSample * 2 < current) {
+      return;
+    }
+
+    limit = Math.min(Math.max(newLimit, minLimit), maxLimit);
+  }
+}
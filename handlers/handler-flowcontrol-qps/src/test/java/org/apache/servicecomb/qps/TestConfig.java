@@ -52,4 +52,26 @@ public class TestConfig {
     ArchaiusUtils.setProperty(Config.CONSUMER_ENABLED, null);
     Assert.assertEquals(true, Config.INSTANCE.isConsumerEnabled());
   }
+
+  @Test
+  public void testProviderAdaptive() {
+    Config.INSTANCE = new Config();
+
+    Assert.assertEquals(false, Config.INSTANCE.isProviderAdaptiveEnabled());
+    Assert.assertEquals("operation", Config.INSTANCE.getProviderAdaptiveScope());
+    Assert.assertEquals(20, Config.INSTANCE.getProviderAdaptiveInitialLimit());
+    Assert.assertEquals(1, Config.INSTANCE.getProviderAdaptiveMinLimit());
+    Assert.assertEquals(1000, Config.INSTANCE.getProviderAdaptiveMaxLimit());
+
+    ArchaiusUtils.setProperty(Config.PROVIDER_ADAPTIVE_ENABLED, true);
+    ArchaiusUtils.setProperty(Config.PROVIDER_ADAPTIVE_SCOPE, Config.ADAPTIVE_SCOPE_SCHEMA);
+    ArchaiusUtils.setProperty(Config.PROVIDER_ADAPTIVE_INITIAL_LIMIT, 10);
+    ArchaiusUtils.setProperty(Config.PROVIDER_ADAPTIVE_MIN_LIMIT, 2);
+    ArchaiusUtils.setProperty(Config.PROVIDER_ADAPTIVE_MAX_LIMIT, 100);
+    Assert.assertEquals(true, Config.INSTANCE.isProviderAdaptiveEnabled());
+    Assert.assertEquals(Config.ADAPTIVE_SCOPE_SCHEMA, Config.INSTANCE.getProviderAdaptiveScope());
+    Assert.assertEquals(10, Config.INSTANCE.getProviderAdaptiveInitialLimit());
+    Assert.assertEquals(2, Config.INSTANCE.getProviderAdaptiveMinLimit());
+    Assert.assertEquals(100, Config.INSTANCE.getProviderAdaptiveMaxLimit());
+  }
 }
@@ -22,13 +22,20 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.servicecomb.core.Const;
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.definition.OperationMeta;
+import org.apache.servicecomb.core.filter.FilterNode;
 import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.qps.adaptive.AdaptiveLimitFilter;
+import org.apache.servicecomb.qps.adaptive.AdaptiveLimiterManager;
+import org.apache.servicecomb.qps.adaptive.TestAdaptiveLimiterManager;
 import org.apache.servicecomb.qps.strategy.AbstractQpsStrategy;
 import org.apache.servicecomb.qps.strategy.FixedWindowStrategy;
 import org.apache.servicecomb.swagger.invocation.AsyncResponse;
+import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.swagger.invocation.exception.CommonExceptionData;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 import org.junit.After;
@@ -64,6 +71,7 @@ public class TestProviderQpsFlowControlHandler {
   @After
   public void afterTest() {
     ArchaiusUtils.resetConfig();
+    Config.INSTANCE = new Config();
   }
 
   @Test
@@ -187,4 +195,28 @@ public class TestProviderQpsFlowControlHandler {
     Mockito.verify(invocation, times(0)).next(asyncResp);
     Mockito.verify(asyncResp, times(0)).producerFail(Mockito.any(Exception.class));
   }
+
+  @Test
+  public void testHandleAdaptiveLimit() throws Exception {
+    ArchaiusUtils.setProperty(Config.PROVIDER_ADAPTIVE_ENABLED, true);
+    ArchaiusUtils.setProperty(Config.PROVIDER_ADAPTIVE_INITIAL_LIMIT, 1);
+    Config.INSTANCE = new Config();
+
+    Invocation first = TestAdaptiveLimiterManager.createInvocation("handlerAdaptive", "op");
+    handler.handle(first, asyncResp);
+    Mockito.verify(asyncResp, times(0)).producerFail(Mockito.any(Exception.class));
+
+    // acquired by handler, filter of the same invocation must not acquire again
+    FilterNode nextNode = new FilterNode((invocation, next) -> CompletableFuture.completedFuture(Response.ok("ok")));
+    assertEquals("ok", new AdaptiveLimitFilter().onFilter(first, nextNode).get().getResult());
+    assertEquals(1, AdaptiveLimiterManager.INSTANCE.getOrCreate(first).getInflight());
+
+    handler.handle(TestAdaptiveLimiterManager.createInvocation("handlerAdaptive", "op"), asyncResp);
+
+    ArgumentCaptor<InvocationException> captor = ArgumentCaptor.forClass(InvocationException.class);
+    Mockito.verify(asyncResp, times(1)).producerFail(captor.capture());
+    assertEquals(QpsConst.TOO_MANY_REQUESTS_STATUS, captor.getValue().getStatus());
+    assertEquals(QpsConst.ADAPTIVE_LIMIT_REJECTED,
+        ((CommonExceptionData) captor.getValue().getErrorData()).getMessage());
+  }
 }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.qps.adaptive;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.filter.FilterNode;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.qps.Config;
+import org.apache.servicecomb.qps.QpsConst;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.apache.servicecomb.swagger.invocation.exception.CommonExceptionData;
+import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestAdaptiveLimitFilter {
+  AdaptiveLimitFilter filter = new AdaptiveLimitFilter();
+
+  FilterNode nextNode = new FilterNode((invocation, next) -> CompletableFuture.completedFuture(Response.ok("ok")));
+
+  @Before
+  public void setUp() {
+    ArchaiusUtils.resetConfig();
+    ArchaiusUtils.setProperty(Config.PROVIDER_ADAPTIVE_INITIAL_LIMIT, 1);
+    Config.INSTANCE = new Config();
+  }
+
+  @After
+  public void tearDown() {
+    ArchaiusUtils.resetConfig();
+    Config.INSTANCE = new Config();
+  }
+
+  @Test
+  public void should_not_limit_when_disabled() throws Exception {
+    for (int idx = 0; idx < 3; idx++) {
+      Invocation invocation = TestAdaptiveLimiterManager.createInvocation("filterDisabled", "op");
+      Assert.assertEquals("ok", filter.onFilter(invocation, nextNode).get().getResult());
+    }
+    Assert.assertEquals(0, AdaptiveLimiterManager.INSTANCE
+        .getOrCreate(TestAdaptiveLimiterManager.createInvocation("filterDisabled", "op")).getInflight());
+  }
+
+  @Test
+  public void should_reject_when_reach_limit() throws Exception {
+    ArchaiusUtils.setProperty(Config.PROVIDER_ADAPTIVE_ENABLED, true);
+
+    Invocation invocation = TestAdaptiveLimiterManager.createInvocation("filterEnabled", "op");
+    Assert.assertEquals("ok", filter.onFilter(invocation, nextNode).get().getResult());
+
+    try {
+      filter.onFilter(TestAdaptiveLimiterManager.createInvocation("filterEnabled", "op"), nextNode);
+      Assert.fail("must throw exception");
+    } catch (InvocationException e) {
+      Assert.assertEquals(QpsConst.TOO_MANY_REQUESTS_STATUS, e.getStatus());
+      Assert.assertEquals(QpsConst.ADAPTIVE_LIMIT_REJECTED, ((CommonExceptionData) e.getErrorData()).getMessage());
+    }
+  }
+}
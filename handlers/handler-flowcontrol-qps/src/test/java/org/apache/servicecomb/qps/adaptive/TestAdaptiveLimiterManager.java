@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.qps.adaptive;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.event.InvocationFinishEvent;
+import org.apache.servicecomb.foundation.common.event.EventManager;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.qps.Config;
+import org.apache.servicecomb.qps.QpsControllerManagerTest;
+import org.apache.servicecomb.swagger.invocation.Response;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class TestAdaptiveLimiterManager {
+  AdaptiveLimiterManager manager = AdaptiveLimiterManager.INSTANCE;
+
+  @Before
+  public void setUp() {
+    ArchaiusUtils.resetConfig();
+    ArchaiusUtils.setProperty(Config.PROVIDER_ADAPTIVE_INITIAL_LIMIT, 1);
+    Config.INSTANCE = new Config();
+  }
+
+  @After
+  public void tearDown() {
+    ArchaiusUtils.resetConfig();
+    Config.INSTANCE = new Config();
+  }
+
+  public static Invocation createInvocation(String schemaId, String operationId) {
+    Invocation invocation = Mockito.spy(new Invocation());
+    Mockito.doReturn(true).when(invocation).isProducer();
+    Mockito.doReturn(schemaId).when(invocation).getSchemaId();
+    Mockito.doReturn(QpsControllerManagerTest.getMockOperationMeta("pojo", schemaId, operationId))
+        .when(invocation).getOperationMeta();
+    invocation.getInvocationStageTrace().start(System.nanoTime());
+    return invocation;
+  }
+
+  @Test
+  public void should_share_limiter_by_operation() {
+    VegasLimiter limiter = manager.getOrCreate(createInvocation("managerScope", "op1"));
+
+    Assert.assertEquals("managerScope.op1", limiter.getName());
+    Assert.assertEquals(1, limiter.getLimit());
+    Assert.assertSame(limiter, manager.getOrCreate(createInvocation("managerScope", "op1")));
+    Assert.assertNotSame(limiter, manager.getOrCreate(createInvocation("managerScope", "op2")));
+  }
+
+  @Test
+  public void should_share_limiter_by_schema() {
+    ArchaiusUtils.setProperty(Config.PROVIDER_ADAPTIVE_SCOPE, Config.ADAPTIVE_SCOPE_SCHEMA);
+
+    VegasLimiter limiter = manager.getOrCreate(createInvocation("managerSchemaScope", "op1"));
+
+    Assert.assertEquals("managerSchemaScope", limiter.getName());
+    Assert.assertSame(limiter, manager.getOrCreate(createInvocation("managerSchemaScope", "op2")));
+  }
+
+  @Test
+  public void should_acquire_once_for_one_invocation() {
+    Invocation invocation = createInvocation("managerAcquire", "op");
+
+    Assert.assertTrue(manager.tryAcquire(invocation));
+    // handler and filter both try to acquire the same invocation
+    Assert.assertTrue(manager.tryAcquire(invocation));
+    Assert.assertEquals(1, manager.getOrCreate(invocation).getInflight());
+    Assert.assertFalse(manager.tryAcquire(createInvocation("managerAcquire", "op")));
+  }
+
+  @Test
+  public void should_release_when_invocation_finished() {
+    Invocation invocation = createInvocation("managerRelease", "op");
+    Assert.assertTrue(manager.tryAcquire(invocation));
+    VegasLimiter limiter = manager.getOrCreate(invocation);
+
+    invocation.getInvocationStageTrace().finish();
+    EventManager.post(new InvocationFinishEvent(invocation, Response.ok(null)));
+
+    Assert.assertEquals(0, limiter.getInflight());
+    Assert.assertTrue(invocation.getLocalContext().isEmpty());
+    Assert.assertTrue(manager.tryAcquire(createInvocation("managerRelease", "op")));
+
+    // finished twice, must not release twice
+    EventManager.post(new InvocationFinishEvent(invocation, Response.ok(null)));
+    Assert.assertEquals(1, limiter.getInflight());
+  }
+
+  @Test
+  public void should_not_release_for_consumer() {
+    Invocation invocation = createInvocation("managerConsumer", "op");
+    Assert.assertTrue(manager.tryAcquire(invocation));
+    VegasLimiter limiter = manager.getOrCreate(invocation);
+
+    Mockito.doReturn(false).when(invocation).isProducer();
+    invocation.getInvocationStageTrace().finish();
+    EventManager.post(new InvocationFinishEvent(invocation, Response.ok(null)));
+
+    Assert.assertEquals(1, limiter.getInflight());
+  }
+}
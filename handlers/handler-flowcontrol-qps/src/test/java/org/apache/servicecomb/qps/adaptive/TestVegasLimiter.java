@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.qps.adaptive;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestVegasLimiter {
+  private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private void acquire(VegasLimiter limiter, int count) {
+    for (int idx = 0; idx < count; idx++) {
+      Assert.assertTrue(limiter.tryAcquire());
+    }
+  }
+
+  private void release(VegasLimiter limiter, int count, long rtt) {
+    for (int idx = 0; idx < count; idx++) {
+      limiter.release(rtt);
+    }
+  }
+
+  @Test
+  public void should_reject_when_reach_limit() {
+    VegasLimiter limiter = new VegasLimiter("test", 2, 1, 10);
+
+    acquire(limiter, 2);
+    Assert.assertFalse(limiter.tryAcquire());
+    Assert.assertEquals(2, limiter.getInflight());
+    Assert.assertEquals(1, limiter.getRejectedCount());
+
+    limiter.release(RTT);
+    Assert.assertTrue(limiter.tryAcquire());
+  }
+
+  @Test
+  public void should_keep_initial_limit_in_range() {
+    Assert.assertEquals(10, new VegasLimiter("test", 100, 1, 10).getLimit());
+    Assert.assertEquals(5, new VegasLimiter("test", 0, 5, 10).getLimit());
+  }
+
+  @Test
+  public void should_increase_limit_when_rtt_stable_under_load() {
+    VegasLimiter limiter = new VegasLimiter("test", 20, 1, 1000);
+
+    acquire(limiter, 20);
+    release(limiter, 5, RTT);
+
+    Assert.assertTrue(limiter.getLimit() > 20);
+  }
+
+  @Test
+  public void should_not_increase_limit_when_not_busy() {
+    VegasLimiter limiter = new VegasLimiter("test", 20, 1, 1000);
+
+    for (int idx = 0; idx < 10; idx++) {
+      acquire(limiter, 1);
+      release(limiter, 1, RTT);
+    }
+
+    Assert.assertEquals(20, limiter.getLimit());
+  }
+
+  @Test
+  public void should_decrease_limit_when_rtt_rising() {
+    VegasLimiter limiter = new VegasLimiter("test", 20, 1, 1000);
+
+    acquire(limiter, 20);
+    release(limiter, 1, RTT);
+    release(limiter, 10, RTT * 10);
+
+    Assert.assertTrue(limiter.getLimit() < 20);
+    Assert.assertTrue(limiter.getLimit() >= 1);
+  }
+}
@@ -37,6 +37,7 @@ import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.SCBEngine;
 import org.apache.servicecomb.core.Transport;
 import org.apache.servicecomb.core.provider.consumer.SyncResponseExecutor;
+import org.apache.servicecomb.core.registry.discovery.InvocationDiscoveryReplayInput;
 import org.apache.servicecomb.foundation.common.cache.VersionedCache;
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.apache.servicecomb.foundation.common.utils.ExceptionUtils;
@@ -455,6 +456,7 @@ public class LoadbalanceHandler implements Handler {
   protected LoadBalancer getOrCreateLoadBalancer(Invocation invocation) {
     DiscoveryContext context = new DiscoveryContext();
     context.setInputParameters(invocation);
+    context.setReplayInput(new InvocationDiscoveryReplayInput(invocation));
     VersionedCache serversVersionedCache = discoveryTree.discovery(context,
         invocation.getAppId(),
         invocation.getMicroserviceName(),
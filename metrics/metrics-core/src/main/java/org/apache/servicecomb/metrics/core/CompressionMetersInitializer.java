@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.metrics.core;
+
+import java.util.Map.Entry;
+import java.util.function.ToLongFunction;
+
+import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
+import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+import org.apache.servicecomb.foundation.vertx.compress.CompressionStatistics;
+import org.apache.servicecomb.foundation.vertx.compress.CompressorManager;
+
+import com.google.common.eventbus.EventBus;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.patterns.PolledMeter;
+
+public class CompressionMetersInitializer implements MetricsInitializer {
+  public static final String COMPRESSION = "servicecomb.compression";
+
+  public static final String TAG_CODEC = "codec";
+
+  public static final String TAG_STATISTIC = "statistic";
+
+  @Override
+  public void init(GlobalRegistry globalRegistry, EventBus eventBus, MetricsBootstrapConfig config) {
+    Registry registry = globalRegistry.getDefaultRegistry();
+
+    for (Entry<String, CompressionStatistics> entry : CompressorManager.INSTANCE.getStatisticsMap().entrySet()) {
+      createMeters(registry, entry.getKey(), entry.getValue());
+    }
+  }
+
+  protected void createMeters(Registry registry, String codec, CompressionStatistics statistics) {
+    createCounter(registry, codec, "compressCount", statistics, CompressionStatistics::getCompressCount);
+    createCounter(registry, codec, "inputBytes", statistics, CompressionStatistics::getCompressInputBytes);
+    createCounter(registry, codec, "outputBytes", statistics, CompressionStatistics::getCompressOutputBytes);
+    createCounter(registry, codec, "compressNanos", statistics, CompressionStatistics::getCompressNanos);
+    createCounter(registry, codec, "decompressCount", statistics, CompressionStatistics::getDecompressCount);
+    createCounter(registry, codec, "decompressNanos", statistics, CompressionStatistics::getDecompressNanos);
+
+    PolledMeter.using(registry)
+        .withName(COMPRESSION)
+        .withTag(TAG_CODEC, codec)
+        .withTag(TAG_STATISTIC, "ratio")
+        .monitorValue(statistics, CompressionStatistics::getRatio);
+  }
+
+  private void createCounter(Registry registry, String codec, String statistic, CompressionStatistics statistics,
+      ToLongFunction<CompressionStatistics> getter) {
+    PolledMeter.using(registry)
+        .withName(COMPRESSION)
+        .withTag(TAG_CODEC, codec)
+        .withTag(TAG_STATISTIC, statistic)
+        .monitorMonotonicCounter(statistics, getter);
+  }
+}
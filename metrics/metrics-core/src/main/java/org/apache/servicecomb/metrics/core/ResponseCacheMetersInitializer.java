@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.metrics.core;
+
+import java.util.function.ToLongFunction;
+
+import org.apache.servicecomb.core.filter.cache.ResponseCacheManager;
+import org.apache.servicecomb.foundation.metrics.MetricsBootstrapConfig;
+import org.apache.servicecomb.foundation.metrics.MetricsInitializer;
+import org.apache.servicecomb.foundation.metrics.registry.GlobalRegistry;
+
+import com.google.common.cache.CacheStats;
+import com.google.common.eventbus.EventBus;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.patterns.PolledMeter;
+
+public class ResponseCacheMetersInitializer implements MetricsInitializer {
+  public static final String RESPONSE_CACHE = "servicecomb.response.cache";
+
+  public static final String TAG_STATISTIC = "statistic";
+
+  @Override
+  public void init(GlobalRegistry globalRegistry, EventBus eventBus, MetricsBootstrapConfig config) {
+    Registry registry = globalRegistry.getDefaultRegistry();
+
+    createCounter(registry, "hit", CacheStats::hitCount);
+    createCounter(registry, "miss", CacheStats::missCount);
+    createCounter(registry, "eviction", CacheStats::evictionCount);
+  }
+
+  private void createCounter(Registry registry, String statistic, ToLongFunction<CacheStats> getter) {
+    PolledMeter.using(registry)
+        .withName(RESPONSE_CACHE)
+        .withTag(TAG_STATISTIC, statistic)
+        .monitorMonotonicCounter(ResponseCacheManager.INSTANCE, manager -> getter.applyAsLong(manager.stats()));
+  }
+}
@@ -19,6 +19,7 @@ package org.apache.servicecomb.metrics.core.meter.invocation;
 import java.util.Map;
 
 import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.event.InvocationFinishEvent;
 import org.apache.servicecomb.core.event.InvocationStartEvent;
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
@@ -31,18 +32,42 @@ import com.netflix.spectator.api.SpectatorUtils;
 public abstract class AbstractInvocationMeters {
   protected Registry registry;
 
-  private Map<String, AbstractInvocationMeter> metersMap = new ConcurrentHashMapEx<>();
-
-  // not care for concurrency, just for make build key faster 
-  private int maxKeyLen = 64;
+  // only used when create meter, make sure one Id only register one meter
+  private Map<Id, AbstractInvocationMeter> metersMap = new ConcurrentHashMapEx<>();
 
   public AbstractInvocationMeters(Registry registry) {
     this.registry = registry;
   }
 
   protected AbstractInvocationMeter getOrCreateMeters(Invocation invocation, Response response) {
-    // build string key is faster then use Id to locate timer directly
-    StringBuilder keyBuilder = new StringBuilder(maxKeyLen);
+    OperationInvocationMeters operationMeters = findOperationMeters(invocation);
+    String transport = invocation.getRealTransportName();
+    int statusCode = response.getStatusCode();
+    if (operationMeters == null) {
+      return createMeter(invocation, transport, statusCode);
+    }
+
+    AbstractInvocationMeter meter = operationMeters.find(transport, statusCode);
+    if (meter == null) {
+      meter = createMeter(invocation, transport, statusCode);
+      operationMeters.put(transport, statusCode, meter);
+    }
+    return meter;
+  }
+
+  protected OperationInvocationMeters findOperationMeters(Invocation invocation) {
+    OperationMeta operationMeta = invocation.getOperationMeta();
+    if (operationMeta == null) {
+      return null;
+    }
+
+    // one OperationMeta may be used by different roles, so use this as the key
+    Object operationMeters = operationMeta.getVendorExtensions()
+        .computeIfAbsent(this, k -> new OperationInvocationMeters());
+    return operationMeters instanceof OperationInvocationMeters ? (OperationInvocationMeters) operationMeters : null;
+  }
+
+  private AbstractInvocationMeter createMeter(Invocation invocation, String transport, int statusCode) {
     String invocationName;
     //check edge
     if (invocation.isConsumer() && invocation.isEdge()) {
@@ -51,26 +76,16 @@ public abstract class AbstractInvocationMeters {
       invocationName = invocation.getInvocationType().name();
     }
 
-    keyBuilder
-        .append(invocationName)
-        .append(invocation.getRealTransportName())
-        .append(invocation.getMicroserviceQualifiedName())
-        .append(response.getStatusCode());
-    if (keyBuilder.length() > maxKeyLen) {
-      maxKeyLen = keyBuilder.length();
-    }
-
-    return metersMap.computeIfAbsent(keyBuilder.toString(), k -> {
-      Id id = registry.createId(MeterInvocationConst.INVOCATION_NAME,
-          MeterInvocationConst.TAG_ROLE,
-          invocationName,
-          MeterInvocationConst.TAG_TRANSPORT,
-          invocation.getRealTransportName(),
-          MeterInvocationConst.TAG_OPERATION,
-          invocation.getMicroserviceQualifiedName(),
-          MeterInvocationConst.TAG_STATUS,
-          String.valueOf(response.getStatusCode()));
-
+    Id id = registry.createId(MeterInvocationConst.INVOCATION_NAME,
+        MeterInvocationConst.TAG_ROLE,
+        invocationName,
+        MeterInvocationConst.TAG_TRANSPORT,
+        transport,
+        MeterInvocationConst.TAG_OPERATION,
+        invocation.getMicroserviceQualifiedName(),
+        MeterInvocationConst.TAG_STATUS,
+        String.valueOf(statusCode));
+    return metersMap.computeIfAbsent(id, k -> {
       AbstractInvocationMeter meter = createMeter(id);
       SpectatorUtils.registerMeter(registry, meter);
       return meter;
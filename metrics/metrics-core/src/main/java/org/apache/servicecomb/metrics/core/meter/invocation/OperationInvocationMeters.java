@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.meter.invocation;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * meters of one operation for one role, bound to OperationMeta<br>
+ * find by transport and then by status code, without building any key<br>
+ * read is lock free, write is copy on write, only happened when a new status code appear
+ */
+public class OperationInvocationMeters {
+  private static final int INIT_CAPACITY = 8;
+
+  private volatile StatusMeters[] transports = new StatusMeters[0];
+
+  public AbstractInvocationMeter find(String transport, int statusCode) {
+    StatusMeters statusMeters = findStatusMeters(transports, transport);
+    return statusMeters == null ? null : statusMeters.find(statusCode);
+  }
+
+  public synchronized void put(String transport, int statusCode, AbstractInvocationMeter meter) {
+    StatusMeters[] current = transports;
+    StatusMeters statusMeters = findStatusMeters(current, transport);
+    if (statusMeters == null) {
+      StatusMeters[] newTransports = Arrays.copyOf(current, current.length + 1);
+      newTransports[current.length] = new StatusMeters(transport, INIT_CAPACITY).put(statusCode, meter);
+      transports = newTransports;
+      return;
+    }
+
+    StatusMeters newStatusMeters = statusMeters.put(statusCode, meter);
+    if (newStatusMeters == statusMeters) {
+      return;
+    }
+
+    StatusMeters[] newTransports = current.clone();
+    for (int idx = 0; idx < newTransports.length; idx++) {
+      if (newTransports[idx] == statusMeters) {
+        newTransports[idx] = newStatusMeters;
+      }
+    }
+    transports = newTransports;
+  }
+
+  private static StatusMeters findStatusMeters(StatusMeters[] transports, String transport) {
+    // transport names are constants, normally compare by reference is enough
+    for (StatusMeters statusMeters : transports) {
+      if (statusMeters.transport == transport) {
+        return statusMeters;
+      }
+    }
+    for (StatusMeters statusMeters : transports) {
+      if (Objects.equals(statusMeters.transport, transport)) {
+        return statusMeters;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * open addressing table, status code itself is the hash, linear probing
+   */
+  static class StatusMeters {
+    final String transport;
+
+    final int[] statusCodes;
+
+    final AbstractInvocationMeter[] meters;
+
+    final int size;
+
+    StatusMeters(String transport, int capacity) {
+      this(transport, new int[capacity], new AbstractInvocationMeter[capacity], 0);
+    }
+
+    private StatusMeters(String transport, int[] statusCodes, AbstractInvocationMeter[] meters, int size) {
+      this.transport = transport;
+      this.statusCodes = statusCodes;
+      this.meters = meters;
+      this.size = size;
+    }
+
+    AbstractInvocationMeter find(int statusCode) {
+      int mask = meters.length - 1;
+      for (int idx = statusCode & mask; ; idx = (idx + 1) & mask) {
+        AbstractInvocationMeter meter = meters[idx];
+        if (meter == null || statusCodes[idx] == statusCode) {
+          return meter;
+        }
+      }
+    }
+
+    int capacity() {
+      return meters.length;
+    }
+
+    /**
+     * @return a new table contains the new meter, or this if statusCode already exists
+     */
+    StatusMeters put(int statusCode, AbstractInvocationMeter meter) {
+      if (find(statusCode) != null) {
+        return this;
+      }
+
+      int capacity = meters.length;
+      // keep load factor not bigger than 0.5, so that probe is always short
+      if ((size + 1) * 2 > capacity) {
+        capacity *= 2;
+      }
+
+      StatusMeters newTable = new StatusMeters(transport, new int[capacity], new AbstractInvocationMeter[capacity],
+          size + 1);
+      for (int idx = 0; idx < meters.length; idx++) {
+        if (meters[idx] != null) {
+          newTable.insert(statusCodes[idx], meters[idx]);
+        }
+      }
+      newTable.insert(statusCode, meter);
+      return newTable;
+    }
+
+    private void insert(int statusCode, AbstractInvocationMeter meter) {
+      int mask = meters.length - 1;
+      int idx = statusCode & mask;
+      while (meters[idx] != null) {
+        idx = (idx + 1) & mask;
+      }
+      statusCodes[idx] = statusCode;
+      meters[idx] = meter;
+    }
+  }
+}
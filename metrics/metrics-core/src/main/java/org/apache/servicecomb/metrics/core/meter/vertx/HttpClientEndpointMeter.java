@@ -17,6 +17,7 @@
 package org.apache.servicecomb.metrics.core.meter.vertx;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultClientEndpointMetric;
 import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultEndpointMetric;
@@ -25,20 +26,50 @@ import com.netflix.spectator.api.Id;
 import com.netflix.spectator.api.Measurement;
 
 public class HttpClientEndpointMeter extends EndpointMeter {
+  private static final double SNV_MILLI_SECONDS = 1.0 / TimeUnit.MILLISECONDS.toNanos(1L);
+
   public static final String QUEUE_COUNT = "queueCount";
 
+  public static final String QUEUE_TIME = "queueTime";
+
+  public static final String PENDING_COUNT = "pendingCount";
+
   private Id idQueueCount;
 
+  private Id idQueueTime;
+
+  private Id idPendingCount;
+
+  private long lastDequeueCount;
+
+  private long lastQueueTime;
+
   public HttpClientEndpointMeter(Id id, DefaultEndpointMetric metric) {
     super(id, metric);
     idQueueCount = this.id.withTag(STATISTIC, QUEUE_COUNT);
+    idQueueTime = this.id.withTag(STATISTIC, QUEUE_TIME);
+    idPendingCount = this.id.withTag(STATISTIC, PENDING_COUNT);
   }
 
   @Override
   public void calcMeasurements(List<Measurement> measurements, long msNow, double secondInterval) {
     super.calcMeasurements(measurements, msNow, secondInterval);
 
-    long queueCount = ((DefaultClientEndpointMetric) metric).getQueueCount();
+    DefaultClientEndpointMetric clientMetric = (DefaultClientEndpointMetric) metric;
+    long queueCount = clientMetric.getQueueCount();
     measurements.add(newMeasurement(idQueueCount, msNow, queueCount));
+
+    // only tcp client with inflight limit record them now, skip to keep output of others unchanged
+    long dequeueCount = clientMetric.getDequeueCount();
+    long queueTime = clientMetric.getQueueTime();
+    long pendingCount = clientMetric.getPendingCount();
+    if (dequeueCount != lastDequeueCount || pendingCount != 0) {
+      // average queue time in milliseconds
+      measurements.add(newMeasurement(idQueueTime, msNow, dequeueCount == lastDequeueCount ? 0 :
+          (queueTime - lastQueueTime) / (dequeueCount - lastDequeueCount) * SNV_MILLI_SECONDS));
+      measurements.add(newMeasurement(idPendingCount, msNow, pendingCount));
+    }
+    lastDequeueCount = dequeueCount;
+    lastQueueTime = queueTime;
   }
 }
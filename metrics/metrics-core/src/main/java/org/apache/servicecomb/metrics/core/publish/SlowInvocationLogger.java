@@ -46,8 +46,7 @@ public class SlowInvocationLogger {
   public void onInvocationFinish(InvocationFinishEvent event) {
     Invocation invocation = event.getInvocation();
     OperationConfig operationConfig = invocation.getOperationMeta().getConfig();
-    if (!operationConfig.isSlowInvocationEnabled() ||
-        invocation.getInvocationStageTrace().calcTotalTime() < operationConfig.getNanoSlowInvocation()) {
+    if (!isSlow(invocation, operationConfig) && !invocation.getInvocationStageTrace().isSampled()) {
       return;
     }
 
@@ -64,6 +63,17 @@ public class SlowInvocationLogger {
     logSlowConsumer(invocation, event.getResponse(), operationConfig);
   }
 
+  private boolean isSlow(Invocation invocation, OperationConfig operationConfig) {
+    return operationConfig.isSlowInvocationEnabled() &&
+        invocation.getInvocationStageTrace().calcTotalTime() >= operationConfig.getNanoSlowInvocation();
+  }
+
+  // sampled invocation is logged with the same format, but marked as "sampled" instead of "slow(threshold)",
+  // its actual time is in the "total" line
+  private String collectKind(Invocation invocation, OperationConfig operationConfig) {
+    return isSlow(invocation, operationConfig) ? "slow(" + operationConfig.getMsSlowInvocation() + " ms)" : "sampled";
+  }
+
   private String collectClientAddress(Invocation invocation) {
     HttpServletRequestEx requestEx = invocation.getRequestEx();
     return requestEx == null ? "unknown" : requestEx.getRemoteAddr() + ":" + requestEx.getRemotePort();
@@ -83,7 +93,7 @@ public class SlowInvocationLogger {
     RestOperationMeta restOperationMeta = invocation.getOperationMeta().getExtData(RestConst.SWAGGER_REST_OPERATION);
     InvocationStageTrace stageTrace = invocation.getInvocationStageTrace();
     invocation.getTraceIdLogger().warn(LOGGER, ""
-            + "slow({} ms) invocation, {}:\n"
+            + "{} invocation, {}:\n"
             + "  http method: {}\n"
             + "  url        : {}\n"
             + "  client     : {}\n"
@@ -97,7 +107,7 @@ public class SlowInvocationLogger {
             + "    handlers response      : {} ms\n"
             + "    server filters response: {} ms\n"
             + "    send response          : {} ms",
-        operationConfig.getMsSlowInvocation(),
+        collectKind(invocation, operationConfig),
         invocation.getInvocationQualifiedName(),
         restOperationMeta.getHttpMethod(),
         restOperationMeta.getAbsolutePath(),
@@ -119,7 +129,7 @@ public class SlowInvocationLogger {
     RestOperationMeta restOperationMeta = invocation.getOperationMeta().getExtData(RestConst.SWAGGER_REST_OPERATION);
     InvocationStageTrace stageTrace = invocation.getInvocationStageTrace();
     invocation.getTraceIdLogger().warn(LOGGER, ""
-            + "slow({} ms) invocation, {}:\n"
+            + "{} invocation, {}:\n"
             + "  http method: {}\n"
             + "  url        : {}\n"
             + "  server     : {}\n"
@@ -135,7 +145,7 @@ public class SlowInvocationLogger {
             + "    wake consumer          : {} ms\n"
             + "    client filters response: {} ms\n"
             + "    handlers response      : {} ms",
-        operationConfig.getMsSlowInvocation(),
+        collectKind(invocation, operationConfig),
         invocation.getInvocationQualifiedName(),
         restOperationMeta.getHttpMethod(),
         restOperationMeta.getAbsolutePath(),
@@ -159,7 +169,7 @@ public class SlowInvocationLogger {
     RestOperationMeta restOperationMeta = invocation.getOperationMeta().getExtData(RestConst.SWAGGER_REST_OPERATION);
     InvocationStageTrace stageTrace = invocation.getInvocationStageTrace();
     invocation.getTraceIdLogger().warn(LOGGER, ""
-            + "slow({} ms) invocation, {}:\n"
+            + "{} invocation, {}:\n"
             + "  http method: {}\n"
             + "  url        : {}\n"
             + "  server     : {}\n"
@@ -179,7 +189,7 @@ public class SlowInvocationLogger {
             + "    handlers response      : {} ms\n"
             + "    server filters response: {} ms\n"
             + "    send response          : {} ms",
-        operationConfig.getMsSlowInvocation(),
+        collectKind(invocation, operationConfig),
         invocation.getInvocationQualifiedName(),
         restOperationMeta.getHttpMethod(),
         restOperationMeta.getAbsolutePath(),
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.metrics.core.meter.invocation;
+
+import org.apache.servicecomb.core.Const;
+import org.junit.Assert;
+import org.junit.Test;
+
+import mockit.Mocked;
+
+public class TestOperationInvocationMeters {
+  OperationInvocationMeters operationMeters = new OperationInvocationMeters();
+
+  @Test
+  public void findAndPut(@Mocked AbstractInvocationMeter meter200, @Mocked AbstractInvocationMeter meter404,
+      @Mocked AbstractInvocationMeter highway200) {
+    Assert.assertNull(operationMeters.find(Const.RESTFUL, 200));
+
+    operationMeters.put(Const.RESTFUL, 200, meter200);
+    operationMeters.put(Const.RESTFUL, 404, meter404);
+    operationMeters.put(Const.HIGHWAY, 200, highway200);
+    // already exists, ignore
+    operationMeters.put(Const.RESTFUL, 200, highway200);
+
+    Assert.assertSame(meter200, operationMeters.find(Const.RESTFUL, 200));
+    Assert.assertSame(meter404, operationMeters.find(Const.RESTFUL, 404));
+    Assert.assertSame(highway200, operationMeters.find(Const.HIGHWAY, 200));
+    Assert.assertSame(meter200, operationMeters.find(new String(Const.RESTFUL), 200));
+    Assert.assertNull(operationMeters.find(Const.HIGHWAY, 404));
+    Assert.assertNull(operationMeters.find("unknown", 200));
+  }
+
+  @Test
+  public void statusMeters_collisionAndGrow(@Mocked AbstractInvocationMeter meter) {
+    OperationInvocationMeters.StatusMeters statusMeters = new OperationInvocationMeters.StatusMeters(Const.RESTFUL,
+        8);
+    // 200 and 208 are in the same slot of capacity 8
+    int[] codes = {200, 208, 404, 500, 503, -1};
+    for (int code : codes) {
+      statusMeters = statusMeters.put(code, meter);
+    }
+
+    Assert.assertEquals(16, statusMeters.capacity());
+    for (int code : codes) {
+      Assert.assertSame(meter, statusMeters.find(code));
+    }
+    Assert.assertNull(statusMeters.find(201));
+  }
+}
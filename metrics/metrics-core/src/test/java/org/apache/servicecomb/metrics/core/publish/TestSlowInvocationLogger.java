@@ -104,6 +104,33 @@ public class TestSlowInvocationLogger {
     Assert.assertTrue(logCollector.getEvents().isEmpty());
   }
 
+  @Test
+  public void consumerSampled(@Mocked Endpoint endpoint) {
+    new Expectations() {
+      {
+        invocation.getEndpoint();
+        result = endpoint;
+        endpoint.getEndpoint();
+        result = "rest://1.1.1.1:1234";
+        invocation.isConsumer();
+        result = true;
+        invocation.getTraceIdLogger();
+        result = new TraceIdLogger(invocation);
+        operationMeta.getExtData(RestConst.SWAGGER_REST_OPERATION);
+        result = restOperationMeta;
+        operationConfig.isSlowInvocationEnabled();
+        result = false;
+        stageTrace.isSampled();
+        result = true;
+      }
+    };
+    logger.onInvocationFinish(event);
+
+    Assert.assertEquals(1, logCollector.getEvents().size());
+    Assert.assertTrue(logCollector.getEvents().get(0).getMessage().toString()
+        .startsWith("sampled invocation, null:\n"));
+  }
+
   @Test
   public void consumerSlow(@Mocked Endpoint endpoint) {
     new Expectations() {
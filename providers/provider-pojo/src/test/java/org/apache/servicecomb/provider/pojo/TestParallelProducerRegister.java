@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.servicecomb.provider.pojo;
+
+import org.apache.servicecomb.config.ConfigUtil;
+import org.apache.servicecomb.core.SCBEngine;
+import org.apache.servicecomb.core.bootstrap.SCBBootstrap;
+import org.apache.servicecomb.core.provider.producer.ProducerProviderManager;
+import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
+import org.apache.servicecomb.registry.DiscoveryManager;
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestParallelProducerRegister {
+  public static class SchemaA {
+    public String a(String name) {
+      return name;
+    }
+  }
+
+  public static class SchemaB {
+    public int b(int value) {
+      return value;
+    }
+  }
+
+  @Before
+  public void setUp() {
+    ConfigUtil.installDynamicConfig();
+    DiscoveryManager.renewInstance();
+    ArchaiusUtils.setProperty(ProducerProviderManager.KEY_PARALLEL_ENABLED, true);
+  }
+
+  @After
+  public void teardown() {
+    ArchaiusUtils.resetConfig();
+  }
+
+  @Test
+  public void registerInParallel() {
+    SCBEngine scbEngine = SCBBootstrap.createSCBEngineForTest()
+        .addProducerMeta("a", new SchemaA())
+        .addProducerMeta("b", new SchemaB())
+        .run();
+
+    Assert.assertThat(scbEngine.getProducerMicroserviceMeta().getSchemaMetas().keySet(),
+        Matchers.containsInAnyOrder("a", "b"));
+    Assert.assertNotNull(scbEngine.getProducerMicroserviceMeta().ensureFindSchemaMeta("b")
+        .ensureFindOperation("b").getSwaggerProducerOperation());
+
+    scbEngine.destroy();
+  }
+}
@@ -26,6 +26,7 @@ import org.apache.servicecomb.registry.api.registry.Microservice;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstanceStatus;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstances;
+import org.apache.servicecomb.service.center.client.model.FindInstancesRequest;
 import org.apache.servicecomb.serviceregistry.api.registry.ServiceCenterInfo;
 import org.apache.servicecomb.serviceregistry.api.response.GetSchemaResponse;
 import org.apache.servicecomb.serviceregistry.api.response.HeartbeatResponse;
@@ -161,6 +162,16 @@ public interface ServiceRegistryClient {
   MicroserviceInstances findServiceInstances(String consumerId, String appId, String serviceName,
       String versionRule, String revision);
 
+  /**
+   * find instances of several microservices in one request, results are in the same order of requests,
+   * null item means not resolved by the batch, caller should find it by {@link #findServiceInstances}.
+   * @return null if batch find is not supported or failed
+   */
+  default List<MicroserviceInstances> batchFindServiceInstances(String consumerId,
+      List<FindInstancesRequest> requests) {
+    return null;
+  }
+
   /**
    * 通过serviceId， instanceId 获取instance对象。
    * @param serviceId
@@ -22,6 +22,7 @@ import static java.util.Collections.emptyList;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +42,8 @@ import org.apache.servicecomb.registry.api.registry.Microservice;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstanceStatus;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstances;
+import org.apache.servicecomb.service.center.client.model.BatchFindInstancesRequest;
+import org.apache.servicecomb.service.center.client.model.FindInstancesRequest;
 import org.apache.servicecomb.serviceregistry.RegistryUtils;
 import org.apache.servicecomb.serviceregistry.api.Const;
 import org.apache.servicecomb.serviceregistry.api.registry.ServiceCenterInfo;
@@ -67,6 +70,8 @@ import org.apache.servicecomb.serviceregistry.task.MicroserviceInstanceHeartbeat
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
@@ -85,6 +90,10 @@ public final class ServiceRegistryClientImpl implements ServiceRegistryClient {
 
   private static final String ERR_SERVICE_NOT_EXISTS = "400012";
 
+  private static final TypeReference<List<MicroserviceInstance>> INSTANCE_LIST_TYPE =
+      new TypeReference<List<MicroserviceInstance>>() {
+      };
+
   private static final String ERR_SCHEMA_NOT_EXISTS = "400016";
 
   private IpPortManager ipPortManager;
@@ -793,6 +802,93 @@ public final class ServiceRegistryClientImpl implements ServiceRegistryClient {
     return null;
   }
 
+  @Override
+  public List<MicroserviceInstances> batchFindServiceInstances(String consumerId,
+      List<FindInstancesRequest> requests) {
+    if (Const.REGISTRY_API.VERSION_V3.equals(Const.REGISTRY_API.CURRENT_VERSION)) {
+      return null;
+    }
+
+    Holder<String> holder = new Holder<>();
+    IpPort ipPort = ipPortManager.getAvailableAddress();
+    try {
+      BatchFindInstancesRequest request = new BatchFindInstancesRequest();
+      request.setServices(requests);
+      RequestParam requestParam = new RequestParam().addQueryParam("type", "query")
+          .setBody(JsonUtils.writeValueAsBytes(request));
+      if (consumerId != null) {
+        requestParam.addHeader("X-ConsumerId", consumerId);
+      }
+
+      CountDownLatch countDownLatch = new CountDownLatch(1);
+      restClientUtil.post(ipPort,
+          Const.REGISTRY_API.MICROSERVICE_INSTANCES + "/action",
+          requestParam,
+          syncHandler(countDownLatch, String.class, holder));
+      countDownLatch.await();
+      if (holder.value == null || holder.getStatusCode() != Status.OK.getStatusCode()) {
+        LOGGER.warn("failed to batch find instances, statusCode={}, body={}", holder.getStatusCode(), holder.value);
+        return null;
+      }
+      return readBatchFindResults(JsonUtils.OBJ_MAPPER.readTree(holder.value), requests.size());
+    } catch (Exception e) {
+      LOGGER.error("batch find instances of {} microservices failed", requests.size(), e);
+    }
+    return null;
+  }
+
+  @VisibleForTesting
+  static List<MicroserviceInstances> readBatchFindResults(JsonNode body, int size) {
+    List<MicroserviceInstances> results = new ArrayList<>(Collections.nCopies(size, null));
+    JsonNode services = body.path("services");
+    for (JsonNode updated : services.path("updated")) {
+      MicroserviceInstances microserviceInstances = new MicroserviceInstances();
+      microserviceInstances.setNeedRefresh(true);
+      microserviceInstances.setRevision(updated.path("rev").asText(null));
+      FindInstancesResponse instancesResponse = new FindInstancesResponse();
+      instancesResponse.setInstances(updated.hasNonNull("instances") ?
+          JsonUtils.OBJ_MAPPER.convertValue(updated.get("instances"), INSTANCE_LIST_TYPE) : new ArrayList<>());
+      microserviceInstances.setInstancesResponse(instancesResponse);
+      // index is omitted by service center when it is 0
+      if (!setBatchFindResult(results, updated.path("index"), microserviceInstances)) {
+        return null;
+      }
+    }
+    for (JsonNode index : services.path("notModified")) {
+      MicroserviceInstances microserviceInstances = new MicroserviceInstances();
+      microserviceInstances.setNeedRefresh(false);
+      if (!setBatchFindResult(results, index, microserviceInstances)) {
+        return null;
+      }
+    }
+    for (JsonNode failed : services.path("failed")) {
+      // other errors are left to find one by one, to keep the error handling of single find
+      if (!ERR_SERVICE_NOT_EXISTS.equals(failed.path("error").path(ERROR_CODE).asText())) {
+        continue;
+      }
+      for (JsonNode index : failed.path("indexes")) {
+        MicroserviceInstances microserviceInstances = new MicroserviceInstances();
+        microserviceInstances.setMicroserviceNotExist(true);
+        microserviceInstances.setNeedRefresh(false);
+        if (!setBatchFindResult(results, index, microserviceInstances)) {
+          return null;
+        }
+      }
+    }
+    return results;
+  }
+
+  private static boolean setBatchFindResult(List<MicroserviceInstances> results, JsonNode index,
+      MicroserviceInstances microserviceInstances) {
+    int idx = index.isMissingNode() ? 0 : (index.canConvertToInt() ? index.asInt() : -1);
+    if (idx < 0 || idx >= results.size()) {
+      LOGGER.warn("invalid index {} in batch find response, size={}.", index, results.size());
+      return false;
+    }
+    results.set(idx, microserviceInstances);
+    return true;
+  }
+
   private void watchErrorHandler(Throwable e, String selfMicroserviceId,
       AsyncResultCallback<MicroserviceInstanceChangedEvent> callback) {
     LOGGER.error(
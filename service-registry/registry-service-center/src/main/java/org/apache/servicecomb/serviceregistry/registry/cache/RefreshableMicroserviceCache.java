@@ -29,7 +29,9 @@ import org.apache.servicecomb.registry.api.registry.Microservice;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstances;
 import org.apache.servicecomb.registry.consumer.MicroserviceInstancePing;
+import org.apache.servicecomb.registry.consumer.MicroserviceInstancesDiff;
 import org.apache.servicecomb.registry.definition.DefinitionConst;
+import org.apache.servicecomb.service.center.client.model.FindInstancesRequest;
 import org.apache.servicecomb.serviceregistry.client.ServiceRegistryClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,9 +84,23 @@ public class RefreshableMicroserviceCache implements MicroserviceCache {
     }
   }
 
+  /**
+   * refresh by instances pulled together with other microservices
+   */
+  void refresh(MicroserviceInstances serviceInstances) {
+    try {
+      onInstancesPulled(serviceInstances);
+    } catch (Throwable e) {
+      LOGGER.error("unknown error occurs while setting batch pulled instances", e);
+      setStatus(MicroserviceCacheStatus.UNKNOWN_ERROR);
+    }
+  }
+
   void pullInstance(String revisionId) {
-    MicroserviceInstances serviceInstances = pullInstanceFromServiceCenter(revisionId);
+    onInstancesPulled(pullInstanceFromServiceCenter(revisionId));
+  }
 
+  private void onInstancesPulled(MicroserviceInstances serviceInstances) {
     if (serviceInstances == null) {
       LOGGER.error("Can not find any instances from service center due to previous errors. service={}/{}/{}",
           key.getAppId(),
@@ -128,6 +144,13 @@ public class RefreshableMicroserviceCache implements MicroserviceCache {
         key.getAppId(), key.getServiceName(), key.getVersionRule(), revisionId);
   }
 
+  FindInstancesRequest createFindInstancesRequest() {
+    FindInstancesRequest request = new FindInstancesRequest(key.getAppId(), key.getServiceName(),
+        key.getVersionRule(), revisionId);
+    request.getService().setEnvironment(key.getEnv());
+    return request;
+  }
+
   private void safeSetInstances(List<MicroserviceInstance> pulledInstances, String rev) {
     try {
       synchronized (SET_OPERATION_LOCK) {
@@ -152,6 +175,8 @@ public class RefreshableMicroserviceCache implements MicroserviceCache {
           mergedInstance.getInstanceId(),
           mergedInstance.getEndpoints());
     }
+    LOGGER.info("instances of {} changed, {}.", key.plainKey(),
+        MicroserviceInstancesDiff.compute(instances, mergedInstances));
     instances = Collections.unmodifiableList(new ArrayList<>(mergedInstances));
     revisionId = rev;
   }
@@ -17,7 +17,9 @@
 
 package org.apache.servicecomb.serviceregistry.registry.cache;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -28,6 +30,7 @@ import java.util.stream.Collectors;
 import org.apache.servicecomb.foundation.common.concurrent.ConcurrentHashMapEx;
 import org.apache.servicecomb.registry.api.event.MicroserviceInstanceChangedEvent;
 import org.apache.servicecomb.registry.api.registry.Microservice;
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstances;
 import org.apache.servicecomb.serviceregistry.client.ServiceRegistryClient;
 import org.apache.servicecomb.serviceregistry.registry.cache.MicroserviceCache.MicroserviceCacheStatus;
 import org.slf4j.Logger;
@@ -73,13 +76,56 @@ public class RefreshableServiceRegistryCache implements ServiceRegistryCache {
   }
 
   private List<MicroserviceCache> refreshInnerState() {
-    return microserviceCache.values().stream()
-        .peek(cache -> cache.refresh())
+    List<RefreshableMicroserviceCache> caches = new ArrayList<>(microserviceCache.values());
+    Map<RefreshableMicroserviceCache, MicroserviceInstances> batchPulled = batchPullInstances(caches);
+    return caches.stream()
+        .peek(cache -> {
+          MicroserviceInstances pulled = batchPulled.get(cache);
+          if (pulled == null) {
+            cache.refresh();
+            return;
+          }
+          cache.refresh(pulled);
+        })
         .filter(this::isRefreshedMicroserviceCache)
         .peek(this::removeCacheIfServiceNotFound)
         .collect(Collectors.toList());
   }
 
+  /**
+   * pull instances of several microservices in one request, caches not in the result should be refreshed one by one
+   */
+  Map<RefreshableMicroserviceCache, MicroserviceInstances> batchPullInstances(
+      List<RefreshableMicroserviceCache> caches) {
+    List<RefreshableMicroserviceCache> batchCaches = caches.stream()
+        .filter(this::isBatchPullable)
+        .collect(Collectors.toList());
+    if (batchCaches.size() < 2) {
+      return Collections.emptyMap();
+    }
+
+    List<MicroserviceInstances> results = srClient.batchFindServiceInstances(consumerService.getServiceId(),
+        batchCaches.stream()
+            .map(RefreshableMicroserviceCache::createFindInstancesRequest)
+            .collect(Collectors.toList()));
+    if (results == null || results.size() != batchCaches.size()) {
+      return Collections.emptyMap();
+    }
+
+    Map<RefreshableMicroserviceCache, MicroserviceInstances> batchPulled = new HashMap<>();
+    for (int idx = 0; idx < batchCaches.size(); idx++) {
+      if (results.get(idx) != null) {
+        batchPulled.put(batchCaches.get(idx), results.get(idx));
+      }
+    }
+    return batchPulled;
+  }
+
+  // batch find does not search global microservices, cross app ones are still found one by one
+  private boolean isBatchPullable(RefreshableMicroserviceCache cache) {
+    return cache.getKey().getAppId().equals(consumerService.getAppId());
+  }
+
   private boolean isRefreshedMicroserviceCache(MicroserviceCache microserviceCache) {
     return MicroserviceCacheStatus.REFRESHED.equals(microserviceCache.getStatus())
         || MicroserviceCacheStatus.SERVICE_NOT_FOUND.equals(microserviceCache.getStatus());
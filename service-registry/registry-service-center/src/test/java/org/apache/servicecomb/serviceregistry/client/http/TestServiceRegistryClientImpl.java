@@ -20,6 +20,7 @@ package org.apache.servicecomb.serviceregistry.client.http;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -34,6 +35,7 @@ import org.apache.log4j.Logger;
 import org.apache.log4j.spi.LoggingEvent;
 import org.apache.servicecomb.config.BootStrapProperties;
 import org.apache.servicecomb.foundation.common.net.IpPort;
+import org.apache.servicecomb.foundation.common.utils.JsonUtils;
 import org.apache.servicecomb.foundation.test.scaffolding.config.ArchaiusUtils;
 import org.apache.servicecomb.foundation.vertx.client.http.HttpClients;
 import org.apache.servicecomb.registry.api.registry.Microservice;
@@ -56,6 +58,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -620,6 +623,33 @@ public class TestServiceRegistryClientImpl {
     }
   }
 
+  @Test
+  public void readBatchFindResults() throws IOException {
+    JsonNode body = JsonUtils.OBJ_MAPPER.readTree("{\"services\":{"
+        + "\"updated\":[{\"rev\":\"r0\",\"instances\":[{\"instanceId\":\"i0\"}]}],"
+        + "\"notModified\":[1],"
+        + "\"failed\":[{\"indexes\":[2],\"error\":{\"errorCode\":\"400012\"}},"
+        + "{\"indexes\":[3],\"error\":{\"errorCode\":\"500003\"}}]}}");
+
+    List<MicroserviceInstances> results = ServiceRegistryClientImpl.readBatchFindResults(body, 4);
+
+    Assert.assertEquals(4, results.size());
+    Assert.assertTrue(results.get(0).isNeedRefresh());
+    Assert.assertEquals("r0", results.get(0).getRevision());
+    Assert.assertEquals("i0", results.get(0).getInstancesResponse().getInstances().get(0).getInstanceId());
+    Assert.assertFalse(results.get(1).isNeedRefresh());
+    Assert.assertFalse(results.get(1).isMicroserviceNotExist());
+    Assert.assertTrue(results.get(2).isMicroserviceNotExist());
+    Assert.assertNull(results.get(3));
+  }
+
+  @Test
+  public void readBatchFindResults_invalidIndex() throws IOException {
+    JsonNode body = JsonUtils.OBJ_MAPPER.readTree("{\"services\":{\"updated\":[{\"index\":2,\"rev\":\"r0\"}]}}");
+
+    Assert.assertNull(ServiceRegistryClientImpl.readBatchFindResults(body, 2));
+  }
+
   private void shouldThrowException() {
     fail("an exception is expected");
   }
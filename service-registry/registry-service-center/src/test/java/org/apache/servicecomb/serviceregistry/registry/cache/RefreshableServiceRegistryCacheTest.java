@@ -18,18 +18,24 @@
 package org.apache.servicecomb.serviceregistry.registry.cache;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.apache.servicecomb.foundation.common.Holder;
 import org.apache.servicecomb.registry.api.registry.FindInstancesResponse;
 import org.apache.servicecomb.registry.api.registry.Microservice;
+import org.apache.servicecomb.registry.api.registry.MicroserviceInstance;
 import org.apache.servicecomb.registry.api.registry.MicroserviceInstances;
+import org.apache.servicecomb.service.center.client.model.FindInstancesRequest;
+import org.apache.servicecomb.serviceregistry.client.ServiceRegistryClient;
 import org.apache.servicecomb.serviceregistry.registry.cache.MicroserviceCache.MicroserviceCacheStatus;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 public class RefreshableServiceRegistryCacheTest {
 
@@ -52,6 +58,8 @@ public class RefreshableServiceRegistryCacheTest {
 
   @Before
   public void setUp() throws Exception {
+    consumerService = new Microservice();
+    consumerService.setServiceId("testConsumer");
     serviceRegistryCache = new RefreshableServiceRegistryCache(consumerService, null) {
       @Override
       RefreshableMicroserviceCache createMicroserviceCache(MicroserviceCacheKey microserviceCacheKey) {
@@ -63,8 +71,6 @@ public class RefreshableServiceRegistryCacheTest {
         };
       }
     };
-    consumerService = new Microservice();
-    consumerService.setServiceId("testConsumer");
   }
 
   @Test
@@ -123,6 +129,54 @@ public class RefreshableServiceRegistryCacheTest {
     Assert.assertSame(microserviceCache2, serviceRegistryCache.microserviceCache.get(microserviceCache2.getKey()));
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void refreshCache_batch() {
+    consumerService.setAppId("app");
+    ServiceRegistryClient srClient = Mockito.mock(ServiceRegistryClient.class);
+    serviceRegistryCache = new RefreshableServiceRegistryCache(consumerService, srClient);
+    MicroserviceCacheKey key1 = MicroserviceCacheKey.builder().serviceName("svc1").appId("app").env("env").build();
+    MicroserviceCacheKey key2 = MicroserviceCacheKey.builder().serviceName("svc2").appId("app").env("env").build();
+    MicroserviceCacheKey key3 = MicroserviceCacheKey.builder().serviceName("other:svc3").appId("app").env("env")
+        .build();
+    for (MicroserviceCacheKey key : Arrays.asList(key1, key2, key3)) {
+      serviceRegistryCache.microserviceCache.put(key, serviceRegistryCache.createMicroserviceCache(key));
+    }
+
+    MicroserviceInstance instance = new MicroserviceInstance();
+    instance.setInstanceId("i1");
+    MicroserviceInstances batchPulled = pullInstanceFromServiceCenterLogic.value.apply("rev1");
+    batchPulled.getInstancesResponse().getInstances().add(instance);
+    List<FindInstancesRequest> batchRequests = new ArrayList<>();
+    Mockito.when(srClient.batchFindServiceInstances(Mockito.eq("testConsumer"), Mockito.anyList())).thenAnswer(
+        invocation -> {
+          batchRequests.addAll((List<FindInstancesRequest>) invocation.getArguments()[1]);
+          return batchRequests.stream()
+              .map(request -> "svc1".equals(request.getService().getServiceName()) ? batchPulled : null)
+              .collect(Collectors.toList());
+        });
+    MicroserviceInstances notModified = new MicroserviceInstances();
+    notModified.setNeedRefresh(false);
+    Mockito.when(srClient.findServiceInstances(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+        Mockito.any())).thenReturn(notModified);
+
+    serviceRegistryCache.refreshCache();
+
+    Assert.assertEquals(2, batchRequests.size());
+    Assert.assertEquals("env", batchRequests.get(0).getService().getEnvironment());
+    Assert.assertEquals(MicroserviceCacheStatus.REFRESHED, serviceRegistryCache.microserviceCache.get(key1).getStatus());
+    Assert.assertEquals("rev1", serviceRegistryCache.microserviceCache.get(key1).getRevisionId());
+    Assert.assertSame(instance, serviceRegistryCache.microserviceCache.get(key1).getInstances().get(0));
+    Assert.assertEquals(MicroserviceCacheStatus.NO_CHANGE, serviceRegistryCache.microserviceCache.get(key2).getStatus());
+    Assert.assertEquals(MicroserviceCacheStatus.NO_CHANGE, serviceRegistryCache.microserviceCache.get(key3).getStatus());
+    Mockito.verify(srClient, Mockito.never())
+        .findServiceInstances(Mockito.any(), Mockito.any(), Mockito.eq("svc1"), Mockito.any(), Mockito.any());
+    Mockito.verify(srClient)
+        .findServiceInstances(Mockito.any(), Mockito.any(), Mockito.eq("svc2"), Mockito.any(), Mockito.any());
+    Mockito.verify(srClient)
+        .findServiceInstances(Mockito.any(), Mockito.eq("other"), Mockito.eq("svc3"), Mockito.any(), Mockito.any());
+  }
+
   @Test
   public void findServiceCache_normal() {
     mockServiceRegistryHolder().value = MicroserviceCacheStatus.REFRESHED;
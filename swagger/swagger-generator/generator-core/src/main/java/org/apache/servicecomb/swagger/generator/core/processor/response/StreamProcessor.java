@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.swagger.generator.core.processor.response;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.servicecomb.swagger.generator.OperationGenerator;
+import org.apache.servicecomb.swagger.generator.SwaggerGenerator;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+/**
+ * Stream&lt;T&gt; is described as array of T in swagger<br>
+ * producer can encode elements one by one, consumer will get them as a stream too
+ */
+public class StreamProcessor extends DefaultResponseTypeProcessor {
+  public StreamProcessor() {
+    extractActualType = true;
+  }
+
+  @Override
+  public Type getProcessType() {
+    return Stream.class;
+  }
+
+  @Override
+  public Type extractResponseType(SwaggerGenerator swaggerGenerator, OperationGenerator operationGenerator,
+      Type genericResponseType) {
+    Type elementType = super.extractResponseType(swaggerGenerator, operationGenerator, genericResponseType);
+    TypeFactory typeFactory = TypeFactory.defaultInstance();
+    return typeFactory.constructCollectionType(List.class, typeFactory.constructType(elementType));
+  }
+}
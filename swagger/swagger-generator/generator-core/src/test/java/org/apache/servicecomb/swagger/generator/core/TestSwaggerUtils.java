@@ -219,6 +219,11 @@ public class TestSwaggerUtils {
     testSchemaMethod("testCompletableFutureOptional", "testCompletableFutureOptional");
   }
 
+  @Test
+  public void testStream() {
+    testSchemaMethod("testStream", "testStream");
+  }
+
   @Test
   public void testDate() {
     testSchemaMethod("date", "testDate");
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.Part;
@@ -185,6 +186,10 @@ public class Schema {
     return null;
   }
 
+  public Stream<String> testStream() {
+    return null;
+  }
+
   public void testAllType(AllType obj) {
   }
 
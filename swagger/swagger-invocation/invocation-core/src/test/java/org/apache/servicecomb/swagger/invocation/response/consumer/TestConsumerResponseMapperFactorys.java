@@ -18,8 +18,11 @@ package org.apache.servicecomb.swagger.invocation.response.consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.servicecomb.swagger.engine.SwaggerConsumer;
 import org.apache.servicecomb.swagger.engine.SwaggerConsumerOperation;
@@ -46,6 +49,8 @@ public class TestConsumerResponseMapperFactorys {
     javax.ws.rs.core.Response jaxrsResponse();
 
     Optional<String> optional();
+
+    Stream<String> stream();
   }
 
   SwaggerEnvironment environment = new SwaggerEnvironment();
@@ -93,4 +98,18 @@ public class TestConsumerResponseMapperFactorys {
     Optional<String> optional = (Optional<String>) operation.getResponseMapper().mapResponse(response);
     Assert.assertEquals(result, optional.get());
   }
+
+  @Test
+  public void should_mapper_to_stream_string() {
+    SwaggerConsumerOperation operation = swaggerConsumer.findOperation("stream");
+    assertThat(operation.getResponseMapper()).isInstanceOf(StreamConsumerResponseMapper.class);
+    @SuppressWarnings("unchecked")
+    Stream<String> stream = (Stream<String>) operation.getResponseMapper()
+        .mapResponse(Response.ok(Arrays.asList("a", "b")));
+    Assert.assertEquals(Arrays.asList("a", "b"), stream.collect(Collectors.toList()));
+
+    @SuppressWarnings("unchecked")
+    Stream<String> empty = (Stream<String>) operation.getResponseMapper().mapResponse(Response.ok(null));
+    Assert.assertEquals(0, empty.count());
+  }
 }
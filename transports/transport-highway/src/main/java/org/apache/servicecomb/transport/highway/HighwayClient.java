@@ -70,6 +70,10 @@ public class HighwayClient {
     // global request timeout to be login timeout
     tcpClientConfig.setMsLoginTimeout(DynamicPropertyFactory.getInstance()
         .getLongProperty("servicecomb.request.timeout", TcpClientConfig.DEFAULT_LOGIN_TIMEOUT).get());
+    tcpClientConfig.setConnectionsPerEndpoint(HighwayConfig.getClientConnectionsPerEndpoint());
+    tcpClientConfig.setMaxInflightPerConnection(HighwayConfig.getClientMaxInflightPerConnection());
+    tcpClientConfig.setTcpFastOpen(HighwayConfig.isClientTcpFastOpen());
+    tcpClientConfig.setTcpQuickAck(HighwayConfig.isClientTcpQuickAck());
 
     SSLOptionFactory factory =
         SSLOptionFactory.createSSLOptionFactory(SSL_KEY, null);
@@ -122,7 +126,8 @@ public class HighwayClient {
           Response response =
               HighwayCodec.decodeResponse(invocation,
                   operationProtobuf,
-                  ar.result());
+                  ar.result(),
+                  clientPackage.getZipName());
           invocation.getInvocationStageTrace().finishClientFiltersResponse();
           asyncResp.complete(response);
         } catch (Throwable e) {
@@ -139,7 +144,7 @@ public class HighwayClient {
   }
 
   public HighwayClientConnection findClientPool(Invocation invocation) {
-    HighwayClientConnection tcpClient = clientMgr.findClientPool(invocation.isSync())
+    HighwayClientConnection tcpClient = clientMgr.findClientPool(invocation.isSync(), invocation.getAffinityContext())
         .findOrCreateClient(invocation.getEndpoint().getEndpoint());
 
     invocation.getInvocationStageTrace().finishGetConnection(System.nanoTime());
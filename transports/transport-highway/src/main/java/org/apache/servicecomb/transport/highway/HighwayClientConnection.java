@@ -20,6 +20,8 @@ import org.apache.servicecomb.core.Const;
 import org.apache.servicecomb.foundation.vertx.client.tcp.AbstractTcpClientPackage;
 import org.apache.servicecomb.foundation.vertx.client.tcp.NetClientWrapper;
 import org.apache.servicecomb.foundation.vertx.client.tcp.TcpClientConnection;
+import org.apache.servicecomb.foundation.vertx.client.tcp.TcpResponseCallback;
+import org.apache.servicecomb.foundation.vertx.compress.CompressorManager;
 import org.apache.servicecomb.foundation.vertx.tcp.TcpOutputStream;
 import org.apache.servicecomb.transport.highway.message.LoginRequest;
 import org.apache.servicecomb.transport.highway.message.LoginResponse;
@@ -38,6 +40,15 @@ public class HighwayClientConnection extends TcpClientConnection {
     setLocalSupportLogin(true);
   }
 
+  @Override
+  public void send(AbstractTcpClientPackage tcpClientPackage, TcpResponseCallback callback) {
+    if (tcpClientPackage instanceof HighwayClientPackage) {
+      // package is encoded after login, so compressor must be read from connection at that time
+      ((HighwayClientPackage) tcpClientPackage).setConnection(this);
+    }
+    super.send(tcpClientPackage, callback);
+  }
+
   @Override
   protected TcpOutputStream createLogin() {
     try {
@@ -46,6 +57,7 @@ public class HighwayClientConnection extends TcpClientConnection {
 
       LoginRequest login = new LoginRequest();
       login.setProtocol(Const.HIGHWAY);
+      login.setZipName(HighwayConfig.getCompressors());
 
       HighwayOutputStream os = new HighwayOutputStream(AbstractTcpClientPackage.getAndIncRequestId());
       os.write(header, LoginRequest.getRootSerializer(), login);
@@ -59,6 +71,8 @@ public class HighwayClientConnection extends TcpClientConnection {
   protected boolean onLoginResponse(Buffer bodyBuffer) {
     try {
       LoginResponse response = LoginResponse.readObject(bodyBuffer);
+      // old server not answer zipName, then never compress
+      setZipName(CompressorManager.INSTANCE.negotiate(response.getZipName()));
       return true;
     } catch (Throwable e) {
       LOGGER.error("decode login response failed.", e);
@@ -55,17 +55,18 @@ public class HighwayClientFilter implements ConsumerFilter {
     invocation.getInvocationStageTrace().startClientFiltersRequest();
 
     OperationProtobuf operationProtobuf = ProtobufManager.getOrCreateOperation(invocation);
-    return send(invocation, operationProtobuf)
-        .thenApply(tcpData -> convertToResponse(invocation, operationProtobuf, tcpData))
+    HighwayClient highwayClient = ((HighwayTransport) invocation.getTransport()).getHighwayClient();
+    HighwayClientPackage clientPackage = highwayClient.createClientPackage(invocation, operationProtobuf);
+    return send(invocation, highwayClient, clientPackage)
+        .thenApply(tcpData -> convertToResponse(invocation, operationProtobuf, tcpData, clientPackage.getZipName()))
         .thenApply(this::convertFailedResponseToException)
         .whenComplete((response, throwable) -> invocation.getInvocationStageTrace().finishClientFiltersResponse());
   }
 
-  protected CompletableFuture<TcpData> send(Invocation invocation, OperationProtobuf operationProtobuf) {
+  protected CompletableFuture<TcpData> send(Invocation invocation, HighwayClient highwayClient,
+      HighwayClientPackage clientPackage) {
     invocation.onStartSendRequest();
 
-    HighwayClient highwayClient = ((HighwayTransport) invocation.getTransport()).getHighwayClient();
-    HighwayClientPackage clientPackage = highwayClient.createClientPackage(invocation, operationProtobuf);
     CompletableFuture<TcpData> sendFuture = highwayClient.findClientPool(invocation)
         .send(clientPackage)
         .whenComplete((tcpData, throwable) -> afterSend(invocation, clientPackage));
@@ -79,9 +80,10 @@ public class HighwayClientFilter implements ConsumerFilter {
     invocation.getInvocationStageTrace().startClientFiltersResponse();
   }
 
-  protected Response convertToResponse(Invocation invocation, OperationProtobuf operationProtobuf, TcpData tcpData) {
+  protected Response convertToResponse(Invocation invocation, OperationProtobuf operationProtobuf, TcpData tcpData,
+      String zipName) {
     try {
-      return HighwayCodec.decodeResponse(invocation, operationProtobuf, tcpData);
+      return HighwayCodec.decodeResponse(invocation, operationProtobuf, tcpData, zipName);
     } catch (Exception e) {
       AsyncUtils.rethrow(e);
       return null;
@@ -19,6 +19,9 @@ package org.apache.servicecomb.transport.highway;
 import org.apache.servicecomb.codec.protobuf.definition.OperationProtobuf;
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.foundation.vertx.client.tcp.AbstractTcpClientPackage;
+import org.apache.servicecomb.foundation.vertx.compress.Compressor;
+import org.apache.servicecomb.foundation.vertx.compress.CompressorManager;
+import org.apache.servicecomb.foundation.vertx.tcp.TcpConnection;
 import org.apache.servicecomb.foundation.vertx.tcp.TcpOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,16 +33,31 @@ public class HighwayClientPackage extends AbstractTcpClientPackage {
 
   private OperationProtobuf operationProtobuf;
 
+  private TcpConnection connection;
+
   public HighwayClientPackage(Invocation invocation, OperationProtobuf operationProtobuf, long msRequestTimeout) {
     this.invocation = invocation;
     this.operationProtobuf = operationProtobuf;
     this.setMsRequestTimeout(msRequestTimeout);
   }
 
+  public void setConnection(TcpConnection connection) {
+    this.connection = connection;
+  }
+
+  /**
+   * response is received from the connection which sent the request, so they share the same compressor
+   */
+  public String getZipName() {
+    return connection == null ? null : connection.getZipName();
+  }
+
   @Override
   public TcpOutputStream createStream() {
     try {
-      return HighwayCodec.encodeRequest(msgId, invocation, operationProtobuf);
+      Compressor compressor = connection == null ? null :
+          CompressorManager.INSTANCE.findCompressor(connection.getZipName());
+      return HighwayCodec.encodeRequest(msgId, invocation, operationProtobuf, compressor);
     } catch (Exception e) {
       String msg = String.format("encode request failed. appid=%s, qualifiedName=%s",
           invocation.getAppId(),
@@ -17,9 +17,13 @@
 
 package org.apache.servicecomb.transport.highway;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.servicecomb.codec.protobuf.definition.OperationProtobuf;
 import org.apache.servicecomb.codec.protobuf.definition.RequestRootDeserializer;
@@ -27,6 +31,9 @@ import org.apache.servicecomb.codec.protobuf.definition.ResponseRootDeserializer
 import org.apache.servicecomb.codec.protobuf.definition.ResponseRootSerializer;
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.foundation.vertx.client.tcp.TcpData;
+import org.apache.servicecomb.foundation.vertx.compress.Compressor;
+import org.apache.servicecomb.foundation.vertx.compress.CompressorManager;
+import org.apache.servicecomb.foundation.vertx.server.TcpParser;
 import org.apache.servicecomb.foundation.vertx.tcp.TcpOutputStream;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.transport.highway.message.RequestHeader;
@@ -39,11 +46,21 @@ import io.swagger.models.parameters.Parameter;
 import io.vertx.core.buffer.Buffer;
 
 public final class HighwayCodec {
+  /**
+   * low 8 bits of header flags is the id of compressor which compressed the body, 0 means not compressed
+   */
+  public static final int FLAG_COMPRESSOR_MASK = 0xff;
+
   private HighwayCodec() {
   }
 
   public static TcpOutputStream encodeRequest(long msgId, Invocation invocation,
       OperationProtobuf operationProtobuf) throws Exception {
+    return encodeRequest(msgId, invocation, operationProtobuf, null);
+  }
+
+  public static TcpOutputStream encodeRequest(long msgId, Invocation invocation,
+      OperationProtobuf operationProtobuf, Compressor compressor) throws Exception {
     // 写header
     RequestHeader header = new RequestHeader();
     header.setMsgType(MsgType.REQUEST);
@@ -53,11 +70,49 @@ public final class HighwayCodec {
     header.setOperationName(invocation.getOperationName());
     header.setContext(invocation.getContext());
 
+    byte[] body = operationProtobuf.getRequestRootSerializer().serialize(invocation.getSwaggerArguments());
+    if (compressor != null) {
+      body = compressBody(id -> header.setFlags(header.getFlags() | id), compressor,
+          invocation.getOperationMeta().getConfig().getCompressionMinSize(), body);
+    }
+
     HighwayOutputStream os = new HighwayOutputStream(msgId);
-    os.write(header, operationProtobuf.getRequestRootSerializer(), invocation.getSwaggerArguments());
+    os.write(RequestHeader.getRootSerializer().serialize(header), body);
     return os;
   }
 
+  private static byte[] compressBody(IntConsumer flagsSetter, Compressor compressor, int minSize, byte[] body)
+      throws IOException {
+    if (body == null || body.length < minSize) {
+      return body;
+    }
+
+    byte[] compressed = CompressorManager.INSTANCE.compress(compressor, body);
+    if (compressed.length >= body.length) {
+      return body;
+    }
+
+    flagsSetter.accept(compressor.getId());
+    return compressed;
+  }
+
+  /**
+   * @param zipName compressor negotiated by login of the connection, body compressed by any other compressor is rejected
+   */
+  public static Buffer decompressBody(String zipName, int flags, Buffer bodyBuffer) throws IOException {
+    int compressorId = flags & FLAG_COMPRESSOR_MASK;
+    if (compressorId == 0 || bodyBuffer == null) {
+      return bodyBuffer;
+    }
+
+    Compressor compressor = CompressorManager.INSTANCE.findCompressor(zipName);
+    if (compressor == null || compressor.getId() != compressorId) {
+      throw new IllegalStateException(
+          String.format("compressor id %d is not negotiated, negotiated=%s.", compressorId, zipName));
+    }
+    return CompressorManager.INSTANCE.decompress(compressor, bodyBuffer, TcpParser.TCP_MAX_REQUEST_LENGTH);
+  }
+
   private static Map<String, Object> addPrimitiveTypeDefaultValues(Invocation invocation,
       Map<String, Object> swaggerArguments) {
     // proto buffer never serialize default values, put it back in provider
@@ -76,9 +131,10 @@ public final class HighwayCodec {
   }
 
   public static void decodeRequest(Invocation invocation, RequestHeader header, OperationProtobuf operationProtobuf,
-      Buffer bodyBuffer) throws Exception {
+      Buffer bodyBuffer, String zipName) throws Exception {
     RequestRootDeserializer<Object> requestDeserializer = operationProtobuf.getRequestRootDeserializer();
-    Map<String, Object> swaggerArguments = requestDeserializer.deserialize(bodyBuffer.getBytes());
+    Map<String, Object> swaggerArguments = requestDeserializer
+        .deserialize(decompressBody(zipName, header.getFlags(), bodyBuffer).getBytes());
     addPrimitiveTypeDefaultValues(invocation, swaggerArguments);
     invocation.setSwaggerArguments(swaggerArguments);
   }
@@ -89,14 +145,30 @@ public final class HighwayCodec {
 
   public static Buffer encodeResponse(long msgId, ResponseHeader header, ResponseRootSerializer bodySchema,
       Object body) throws Exception {
+    return encodeResponse(msgId, header, bodySchema, body, null, 0);
+  }
+
+  public static Buffer encodeResponse(long msgId, ResponseHeader header, ResponseRootSerializer bodySchema,
+      Object body, Compressor compressor, int minCompressSize) throws Exception {
+    if (body instanceof Stream) {
+      // highway response is a single frame, stream elements are sent as a whole array
+      try (Stream<?> stream = (Stream<?>) body) {
+        body = stream.collect(Collectors.toList());
+      }
+    }
+    byte[] bodyBytes = bodySchema.serialize(body);
+    if (compressor != null) {
+      bodyBytes = compressBody(id -> header.setFlags(header.getFlags() | id), compressor,
+          minCompressSize, bodyBytes);
+    }
     try (HighwayOutputStream os = new HighwayOutputStream(msgId)) {
-      os.write(header, bodySchema, body);
+      os.write(ResponseHeader.getRootSerializer().serialize(header), bodyBytes);
       return os.getBuffer();
     }
   }
 
-  public static Response decodeResponse(Invocation invocation, OperationProtobuf operationProtobuf, TcpData tcpData)
-      throws Exception {
+  public static Response decodeResponse(Invocation invocation, OperationProtobuf operationProtobuf, TcpData tcpData,
+      String zipName) throws Exception {
     ResponseHeader header = ResponseHeader.readObject(tcpData.getHeaderBuffer());
     if (header.getContext() != null) {
       invocation.getContext().putAll(header.getContext());
@@ -106,7 +178,7 @@ public final class HighwayCodec {
         .findResponseRootDeserializer(header.getStatusCode());
     JavaType type = invocation.findResponseType(header.getStatusCode());
     Object body = bodySchema
-        .deserialize(tcpData.getBodyBuffer().getBytes(), type);
+        .deserialize(decompressBody(zipName, header.getFlags(), tcpData.getBodyBuffer()).getBytes(), type);
 
     Response response = Response.create(header.getStatusCode(), header.getReasonPhrase()
         , defaultPrimitiveValue(body, type));
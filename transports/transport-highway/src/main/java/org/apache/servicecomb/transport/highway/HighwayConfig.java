@@ -38,9 +38,81 @@ public final class HighwayConfig {
         "servicecomb.highway.server.thread-count");
   }
 
+  /**
+   * SO_REUSEPORT, only available for native transport
+   */
+  public static boolean isServerReusePort() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.highway.server.reusePort", false)
+        .get();
+  }
+
+  /**
+   * TCP_FASTOPEN, only available for native transport
+   */
+  public static boolean isServerTcpFastOpen() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.highway.server.tcpFastOpen", false)
+        .get();
+  }
+
+  /**
+   * TCP_QUICKACK, only available for epoll
+   */
+  public static boolean isServerTcpQuickAck() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.highway.server.tcpQuickAck", false)
+        .get();
+  }
+
+  /**
+   * TCP_CORK, only available for epoll
+   */
+  public static boolean isServerTcpCork() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.highway.server.tcpCork", false)
+        .get();
+  }
+
+  /**
+   * compressors offered by client in login, separated by comma, in preference order
+   */
+  public static String getCompressors() {
+    return DynamicPropertyFactory.getInstance().getStringProperty("servicecomb.highway.compression.codecs", "")
+        .get();
+  }
+
   public static int getClientThreadCount() {
     return TransportConfigUtils.readVerticleCount(
         "servicecomb.highway.client.verticle-count",
         "servicecomb.highway.client.thread-count");
   }
+
+  /**
+   * connections to one endpoint in one client verticle
+   */
+  public static int getClientConnectionsPerEndpoint() {
+    return DynamicPropertyFactory.getInstance()
+        .getIntProperty("servicecomb.highway.client.connectionsPerEndpoint", 1).get();
+  }
+
+  /**
+   * max requests waiting for response in one connection, others will be queued, 0 means no limit
+   */
+  public static int getClientMaxInflightPerConnection() {
+    return DynamicPropertyFactory.getInstance()
+        .getIntProperty("servicecomb.highway.client.maxInflightPerConnection", 0).get();
+  }
+
+  public static boolean isClientTcpFastOpen() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.highway.client.tcpFastOpen", false)
+        .get();
+  }
+
+  public static boolean isClientTcpQuickAck() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.highway.client.tcpQuickAck", false)
+        .get();
+  }
 }
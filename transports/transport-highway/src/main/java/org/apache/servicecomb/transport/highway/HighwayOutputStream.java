@@ -61,7 +61,7 @@ public class HighwayOutputStream extends TcpOutputStream {
     write(headerBytes, bodyBytes);
   }
 
-  private void write(byte[] headerBytes, byte[] bodyBytes)
+  public void write(byte[] headerBytes, byte[] bodyBytes)
       throws Exception {
     int headerLength = 0;
     int totalLength = 0;
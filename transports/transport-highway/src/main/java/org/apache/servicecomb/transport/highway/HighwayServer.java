@@ -24,6 +24,8 @@ import org.apache.servicecomb.foundation.vertx.server.TcpServerConnection;
 
 import com.netflix.config.DynamicPropertyFactory;
 
+import io.vertx.core.net.NetServerOptions;
+
 public class HighwayServer extends TcpServer {
   private Endpoint endpoint;
 
@@ -37,6 +39,16 @@ public class HighwayServer extends TcpServer {
     return new HighwayServerConnection(endpoint);
   }
 
+  @Override
+  protected NetServerOptions createNetServerOptions() {
+    NetServerOptions serverOptions = super.createNetServerOptions();
+    serverOptions.setReusePort(HighwayConfig.isServerReusePort())
+        .setTcpFastOpen(HighwayConfig.isServerTcpFastOpen())
+        .setTcpQuickAck(HighwayConfig.isServerTcpQuickAck())
+        .setTcpCork(HighwayConfig.isServerTcpCork());
+    return serverOptions;
+  }
+
   @Override
   protected int getConnectionLimit() {
     return DynamicPropertyFactory.getInstance()
@@ -28,6 +28,7 @@ import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.filter.FilterNode;
 import org.apache.servicecomb.core.filter.ProducerFilter;
 import org.apache.servicecomb.foundation.common.utils.AsyncUtils;
+import org.apache.servicecomb.foundation.vertx.compress.CompressorManager;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.transport.highway.message.ResponseHeader;
 import org.springframework.stereotype.Component;
@@ -59,7 +60,8 @@ public class HighwayServerCodecFilter implements ProducerFilter {
       HighwayCodec.decodeRequest(invocation,
           transportContext.getHeader(),
           transportContext.getOperationProtobuf(),
-          transportContext.getBodyBuffer());
+          transportContext.getBodyBuffer(),
+          transportContext.getConnection().getZipName());
       return CompletableFuture.completedFuture(invocation);
     } catch (Exception e) {
       return AsyncUtils.completeExceptionally(e);
@@ -82,7 +84,9 @@ public class HighwayServerCodecFilter implements ProducerFilter {
 
     try {
       Buffer respBuffer = HighwayCodec.encodeResponse(
-          msgId, header, bodySchema, response.getResult());
+          msgId, header, bodySchema, response.getResult(),
+          CompressorManager.INSTANCE.findCompressor(transportContext.getConnection().getZipName()),
+          invocation.getOperationMeta().getConfig().getCompressionMinSize());
       transportContext.setResponseBuffer(respBuffer);
 
       return CompletableFuture.completedFuture(response);
@@ -30,6 +30,7 @@ import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.definition.SchemaMeta;
 import org.apache.servicecomb.core.invocation.InvocationCreator;
 import org.apache.servicecomb.core.invocation.InvocationFactory;
+import org.apache.servicecomb.foundation.vertx.compress.CompressorManager;
 import org.apache.servicecomb.foundation.vertx.server.TcpBufferHandler;
 import org.apache.servicecomb.foundation.vertx.server.TcpParser;
 import org.apache.servicecomb.foundation.vertx.server.TcpServerConnection;
@@ -105,7 +106,7 @@ public class HighwayServerConnection extends TcpServerConnection implements TcpB
 
     if (request != null) {
       this.setProtocol(request.getProtocol());
-      this.setZipName(request.getZipName());
+      this.setZipName(CompressorManager.INSTANCE.negotiate(request.getZipName()));
     }
 
     try (HighwayOutputStream os = new HighwayOutputStream(msgId)) {
@@ -113,6 +114,7 @@ public class HighwayServerConnection extends TcpServerConnection implements TcpB
       responseHeader.setStatusCode(Status.OK.getStatusCode());
 
       LoginResponse response = new LoginResponse();
+      response.setZipName(zipName);
 
       os.write(ResponseHeader.getRootSerializer(),
           responseHeader,
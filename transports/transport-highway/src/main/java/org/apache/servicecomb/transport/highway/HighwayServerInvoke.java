@@ -18,6 +18,7 @@
 package org.apache.servicecomb.transport.highway;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 
 import javax.ws.rs.core.Response.Status;
@@ -33,8 +34,10 @@ import org.apache.servicecomb.core.SCBEngine;
 import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.definition.SchemaMeta;
+import org.apache.servicecomb.core.executor.PriorityTask;
 import org.apache.servicecomb.core.invocation.InvocationFactory;
 import org.apache.servicecomb.foundation.common.Holder;
+import org.apache.servicecomb.foundation.vertx.compress.CompressorManager;
 import org.apache.servicecomb.foundation.vertx.tcp.TcpConnection;
 import org.apache.servicecomb.swagger.invocation.Response;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
@@ -125,7 +128,7 @@ public class HighwayServerInvoke {
     invocation.onExecuteStart();
 
     invocation.getInvocationStageTrace().startServerFiltersRequest();
-    HighwayCodec.decodeRequest(invocation, header, operationProtobuf, bodyBuffer);
+    HighwayCodec.decodeRequest(invocation, header, operationProtobuf, bodyBuffer, connection.getZipName());
     invocation.getHandlerContext().put(Const.REMOTE_ADDRESS, this.connection.getNetSocket().remoteAddress());
 
     invocation.onStartHandlersRequest();
@@ -148,7 +151,9 @@ public class HighwayServerInvoke {
     }
 
     try {
-      Buffer respBuffer = HighwayCodec.encodeResponse(msgId, header, bodySchema, body);
+      Buffer respBuffer = HighwayCodec.encodeResponse(msgId, header, bodySchema, body,
+          CompressorManager.INSTANCE.findCompressor(connection.getZipName()),
+          operationMeta.getConfig().getCompressionMinSize());
       invocation.getInvocationStageTrace().finishServerFiltersResponse();
       connection.write(respBuffer.getByteBuf());
     } catch (Exception e) {
@@ -190,7 +195,8 @@ public class HighwayServerInvoke {
         return;
       }
 
-      operationMeta.getExecutor().execute(this::runInExecutor);
+      Executor executor = operationMeta.getExecutor();
+      executor.execute(PriorityTask.wrap(executor, invocation, this::runInExecutor));
     } catch (Throwable e) {
       if (e instanceof RejectedExecutionException) {
         LOGGER.error("failed to schedule invocation, message={}, executor={}.", e.getMessage(), e.getClass().getName());
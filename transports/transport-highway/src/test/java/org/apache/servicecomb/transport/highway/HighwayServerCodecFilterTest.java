@@ -103,7 +103,8 @@ public class HighwayServerCodecFilterTest {
     };
     new Expectations(HighwayCodec.class) {
       {
-        HighwayCodec.decodeRequest(invocation, (RequestHeader) any, (OperationProtobuf) any, (Buffer) any);
+        HighwayCodec.decodeRequest(invocation, (RequestHeader) any, (OperationProtobuf) any, (Buffer) any,
+            anyString);
         result = new RuntimeExceptionWithoutStackTrace("encode request failed");
       }
     };
@@ -44,6 +44,7 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Context;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
@@ -123,7 +124,7 @@ public class TestHighwayClient {
 
     new MockUp<ClientPoolManager<HighwayClientConnectionPool>>() {
       @Mock
-      public HighwayClientConnectionPool findClientPool(boolean sync) {
+      public HighwayClientConnectionPool findClientPool(boolean sync, Context targetContext) {
         return pool;
       }
     };
@@ -150,8 +151,8 @@ public class TestHighwayClient {
       }
 
       @Mock
-      Response decodeResponse(Invocation invocation, OperationProtobuf operationProtobuf, TcpData tcpData)
-          throws Throwable {
+      Response decodeResponse(Invocation invocation, OperationProtobuf operationProtobuf, TcpData tcpData,
+          String zipName) throws Throwable {
         if (decodedResponse instanceof Response) {
           return (Response) decodedResponse;
         }
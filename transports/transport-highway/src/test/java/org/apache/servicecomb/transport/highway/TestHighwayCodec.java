@@ -17,6 +17,7 @@
 
 package org.apache.servicecomb.transport.highway;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
@@ -30,9 +31,13 @@ import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.definition.MicroserviceMeta;
 import org.apache.servicecomb.core.definition.OperationMeta;
 import org.apache.servicecomb.core.definition.SchemaMeta;
+import org.apache.servicecomb.foundation.vertx.compress.Compressor;
+import org.apache.servicecomb.foundation.vertx.compress.CompressorManager;
+import org.apache.servicecomb.foundation.vertx.compress.GzipCompressor;
 import org.apache.servicecomb.foundation.vertx.server.TcpParser;
 import org.apache.servicecomb.foundation.vertx.tcp.TcpOutputStream;
 import org.apache.servicecomb.transport.highway.message.RequestHeader;
+import org.apache.servicecomb.transport.highway.message.ResponseHeader;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -129,11 +134,11 @@ public class TestHighwayCodec {
     RequestHeader headers = new RequestHeader();
     Map<String, String> context = new HashMap<>();
     headers.setContext(context);
-    HighwayCodec.decodeRequest(invocation, headers, operationProtobuf, bodyBuffer);
+    HighwayCodec.decodeRequest(invocation, headers, operationProtobuf, bodyBuffer, null);
     Assert.assertEquals("test1", invocation.getContext("X-B3-traceId"));
 
     context.put("X-B3-traceId", "test2");
-    HighwayCodec.decodeRequest(invocation, headers, operationProtobuf, bodyBuffer);
+    HighwayCodec.decodeRequest(invocation, headers, operationProtobuf, bodyBuffer, null);
     Assert.assertEquals("test1", invocation.getContext("X-B3-traceId"));
   }
 
@@ -153,6 +158,62 @@ public class TestHighwayCodec {
     Assert.assertTrue(status);
   }
 
+  @Test
+  public void testEncodeResponseCompressed() throws Exception {
+    ResponseRootSerializer bodySchema = Mockito.mock(ResponseRootSerializer.class);
+    byte[] data = new byte[4096];
+    Mockito.when(bodySchema.serialize(data)).thenReturn(data);
+    Compressor gzip = CompressorManager.INSTANCE.findCompressor(GzipCompressor.NAME);
+
+    ResponseHeader header = new ResponseHeader();
+    Buffer buffer = HighwayCodec.encodeResponse(1, header, bodySchema, data, gzip, 1024);
+    Assert.assertEquals(GzipCompressor.ID, header.getFlags() & HighwayCodec.FLAG_COMPRESSOR_MASK);
+    Assert.assertTrue(buffer.length() < data.length);
+    Assert.assertArrayEquals(data,
+        HighwayCodec.decompressBody(GzipCompressor.NAME, header.getFlags(), Buffer.buffer(gzip.compress(data)))
+            .getBytes());
+
+    // below threshold
+    header = new ResponseHeader();
+    buffer = HighwayCodec.encodeResponse(1, header, bodySchema, data, gzip, 8192);
+    Assert.assertEquals(0, header.getFlags());
+    Assert.assertTrue(buffer.length() > data.length);
+  }
+
+  @Test
+  public void testDecompressBodyNotNegotiated() throws Exception {
+    Buffer body = Buffer.buffer(new GzipCompressor().compress(new byte[1024]));
+
+    try {
+      HighwayCodec.decompressBody(null, GzipCompressor.ID, body);
+      Assert.fail("must throw exception");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("compressor id 1 is not negotiated, negotiated=null.", e.getMessage());
+    }
+
+    try {
+      HighwayCodec.decompressBody(GzipCompressor.NAME, 2, body);
+      Assert.fail("must throw exception");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("compressor id 2 is not negotiated, negotiated=gzip.", e.getMessage());
+    }
+
+    Assert.assertSame(body, HighwayCodec.decompressBody(null, 0, body));
+  }
+
+  @Test
+  public void testDecompressBodyTooLarge() throws Exception {
+    Buffer body = Buffer.buffer(new GzipCompressor().compress(new byte[TcpParser.TCP_MAX_REQUEST_LENGTH + 1]));
+
+    try {
+      HighwayCodec.decompressBody(GzipCompressor.NAME, GzipCompressor.ID, body);
+      Assert.fail("must throw exception");
+    } catch (IOException e) {
+      Assert.assertEquals("decompressed data exceeds the limit " + TcpParser.TCP_MAX_REQUEST_LENGTH + ".",
+          e.getMessage());
+    }
+  }
+
   @Test
   public void testEncodeRequest() {
     boolean status = true;
@@ -141,6 +141,21 @@ public class HttpTransportHttpClientOptionsSPI implements HttpClientOptionsSPI {
     return HttpClientOptions.DEFAULT_HTTP2_MAX_POOL_SIZE;
   }
 
+  @Override
+  public boolean isTcpFastOpen() {
+    return TransportClientConfig.isTcpFastOpen();
+  }
+
+  @Override
+  public boolean isTcpQuickAck() {
+    return TransportClientConfig.isTcpQuickAck();
+  }
+
+  @Override
+  public boolean isTcpCork() {
+    return TransportClientConfig.isTcpCork();
+  }
+
   @Override
   public boolean isUseAlpn() {
     return HttpClientOptions.DEFAULT_USE_ALPN;
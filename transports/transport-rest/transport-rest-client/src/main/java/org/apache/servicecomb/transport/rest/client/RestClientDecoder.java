@@ -58,7 +58,8 @@ public class RestClientDecoder {
     JavaType responseType = invocation.findResponseType(response.getStatusCode());
 
     try {
-      return produceProcessor.decodeResponse((Buffer) response.getResult(), responseType);
+      return produceProcessor.decodeResponse(invocation, response.getStatusCode(), (Buffer) response.getResult(),
+          responseType);
     } catch (Exception e) {
       throw createDecodeException(invocation, response, e);
     }
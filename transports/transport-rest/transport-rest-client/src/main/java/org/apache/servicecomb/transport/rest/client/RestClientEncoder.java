@@ -34,6 +34,7 @@ import javax.ws.rs.core.MediaType;
 
 import org.apache.servicecomb.common.rest.codec.RestCodec;
 import org.apache.servicecomb.common.rest.codec.RestObjectMapperFactory;
+import org.apache.servicecomb.common.rest.codec.produce.ProduceProtobufProcessor;
 import org.apache.servicecomb.common.rest.codec.query.QueryCodec;
 import org.apache.servicecomb.core.Const;
 import org.apache.servicecomb.core.Invocation;
@@ -61,6 +62,21 @@ public class RestClientEncoder {
 
   public static final int FORM_BUFFER_SIZE = 1024;
 
+  private static final String PROTOBUF_ACCEPT = ProduceProtobufProcessor.MEDIA_TYPE + ", " + MediaType.APPLICATION_JSON
+      + ";q=0.9";
+
+  /**
+   * shared by handler and filter flows, producers not support protobuf will choose json
+   */
+  public static void writeProtobufAccept(Invocation invocation, HttpClientRequest httpClientRequest) {
+    if (invocation.isThirdPartyInvocation() || !invocation.getOperationMeta().getConfig()
+        .isRestClientProtobufEnabled()) {
+      return;
+    }
+
+    httpClientRequest.putHeader(HttpHeaders.ACCEPT, PROTOBUF_ACCEPT);
+  }
+
   public void encode(Invocation invocation) {
     try {
       EncoderSession encoderSession = new EncoderSession(invocation);
@@ -97,6 +113,7 @@ public class RestClientEncoder {
 
       writeCookies(requestParameters.getCookieMap());
       writeScbHeaders();
+      writeAccept();
       writeForm(requestParameters.getFormMap());
     }
 
@@ -132,6 +149,10 @@ public class RestClientEncoder {
           RestObjectMapperFactory.getRestObjectMapper().writeValueAsString(invocation.getContext()));
     }
 
+    protected void writeAccept() {
+      writeProtobufAccept(invocation, httpClientRequest);
+    }
+
     protected void writeForm(@Nullable Map<String, Object> formMap) throws Exception {
       if (requestParameters.getUploads() == null) {
         writeUrlEncodedForm(formMap);
@@ -27,6 +27,7 @@ import javax.servlet.http.Part;
 import org.apache.servicecomb.core.Invocation;
 import org.apache.servicecomb.core.invocation.InvocationStageTrace;
 import org.apache.servicecomb.foundation.common.http.HttpStatus;
+import org.apache.servicecomb.foundation.vertx.client.http.HttpClientWithContext;
 import org.apache.servicecomb.foundation.vertx.executor.VertxContextExecutor;
 import org.apache.servicecomb.foundation.vertx.http.ReadStreamPart;
 import org.apache.servicecomb.foundation.vertx.metrics.metric.DefaultHttpSocketMetric;
@@ -37,6 +38,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Multimap;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientRequest;
@@ -56,6 +58,12 @@ public class RestClientSender {
 
   protected final CompletableFuture<Response> future = new CompletableFuture<>();
 
+  // http2 streams share metric of the connection, so record time of getting stream and writing by request self
+  // write callbacks are called for every request after the stream is created, not only for new connections
+  protected long firstWrittenTime;
+
+  protected long endWrittenTime;
+
   public RestClientSender(Invocation invocation) {
     this.invocation = invocation;
     this.transportContext = invocation.getTransportContext();
@@ -69,6 +77,10 @@ public class RestClientSender {
 
     httpClientRequest.exceptionHandler(future::completeExceptionally);
     httpClientRequest.handler(this::processResponse);
+    HttpClientWithContext httpClientWithContext = transportContext.getHttpClientWithContext();
+    if (httpClientWithContext != null) {
+      httpClientWithContext.beginStream();
+    }
 
     // can read metrics of connection in vertx success/exception callback
     // but after the callback, maybe the connection will be reused or closed, metrics is not valid any more
@@ -92,15 +104,15 @@ public class RestClientSender {
     Multimap<String, Part> uploads = requestParameters.getUploads();
     if (uploads == null) {
       if (requestParameters.getBodyBuffer() != null) {
-        httpClientRequest.end(requestParameters.getBodyBuffer());
+        httpClientRequest.end(requestParameters.getBodyBuffer(), this::onEndWritten);
       } else {
-        httpClientRequest.end();
+        httpClientRequest.end(this::onEndWritten);
       }
       return CompletableFuture.completedFuture(null);
     }
 
     if (requestParameters.getBodyBuffer() != null) {
-      httpClientRequest.write(requestParameters.getBodyBuffer());
+      httpClientRequest.write(requestParameters.getBodyBuffer(), this::onWritten);
     }
     return sendFiles();
   }
@@ -117,12 +129,12 @@ public class RestClientSender {
     }
 
     return sendFileFuture
-        .thenAccept(v -> httpClientRequest.end(genBoundaryEndBuffer(boundary)));
+        .thenAccept(v -> httpClientRequest.end(genBoundaryEndBuffer(boundary), this::onEndWritten));
   }
 
   private CompletableFuture<Void> sendFile(Part part, String name, String boundary) {
     Buffer fileHeader = genFileBoundaryBuffer(part, name, boundary);
-    httpClientRequest.write(fileHeader);
+    httpClientRequest.write(fileHeader, this::onWritten);
 
     return new PumpFromPart(transportContext.getVertxContext(), part)
         .toWriteStream(httpClientRequest, future::completeExceptionally)
@@ -136,6 +148,19 @@ public class RestClientSender {
         });
   }
 
+  protected void onWritten(AsyncResult<Void> ar) {
+    if (ar.succeeded() && firstWrittenTime == 0) {
+      firstWrittenTime = System.nanoTime();
+    }
+  }
+
+  protected void onEndWritten(AsyncResult<Void> ar) {
+    onWritten(ar);
+    if (ar.succeeded()) {
+      endWrittenTime = System.nanoTime();
+    }
+  }
+
   protected void processResponse(HttpClientResponse httpClientResponse) {
     transportContext.setHttpClientResponse(httpClientResponse);
 
@@ -161,6 +186,10 @@ public class RestClientSender {
   }
 
   protected void afterSend(Response response, Throwable throwable) {
+    HttpClientWithContext httpClientWithContext = transportContext.getHttpClientWithContext();
+    if (httpClientWithContext != null) {
+      httpClientWithContext.endStream();
+    }
     processMetrics();
 
     if (throwable != null) {
@@ -178,9 +207,21 @@ public class RestClientSender {
     // connection maybe null when exception happens such as ssl handshake failure
     ConnectionBase connection = (ConnectionBase) httpClientRequest.connection();
     if (connection != null) {
-      DefaultHttpSocketMetric httpSocketMetric = (DefaultHttpSocketMetric) connection.metric();
-      stageTrace.finishGetConnection(httpSocketMetric.getRequestBeginTime());
-      stageTrace.finishWriteToBuffer(httpSocketMetric.getRequestEndTime());
+      // only http2 request has stream id
+      if (httpClientRequest.streamId() > 0) {
+        // get connection: waiting for a stream, include creating connection or waiting for the multiplexing limit
+        // first write is done after the stream created, not set if failed before any write
+        if (firstWrittenTime != 0) {
+          stageTrace.finishGetConnection(firstWrittenTime);
+        }
+        if (endWrittenTime != 0) {
+          stageTrace.finishWriteToBuffer(endWrittenTime);
+        }
+      } else {
+        DefaultHttpSocketMetric httpSocketMetric = (DefaultHttpSocketMetric) connection.metric();
+        stageTrace.finishGetConnection(httpSocketMetric.getRequestBeginTime());
+        stageTrace.finishWriteToBuffer(httpSocketMetric.getRequestEndTime());
+      }
     }
 
     // even failed and did not received response, still set time for it
@@ -19,6 +19,7 @@ package org.apache.servicecomb.transport.rest.client;
 import java.util.Optional;
 
 import org.apache.servicecomb.common.rest.definition.RestOperationMeta;
+import org.apache.servicecomb.foundation.vertx.client.http.HttpClientWithContext;
 import org.apache.servicecomb.swagger.invocation.context.VertxTransportContext;
 
 import io.vertx.core.Context;
@@ -29,6 +30,8 @@ import io.vertx.core.http.HttpConnection;
 public class RestClientTransportContext implements VertxTransportContext {
   protected final RestOperationMeta restOperationMeta;
 
+  protected final HttpClientWithContext httpClientWithContext;
+
   protected final Context vertxContext;
 
   protected final HttpClientRequest httpClientRequest;
@@ -43,7 +46,19 @@ public class RestClientTransportContext implements VertxTransportContext {
 
   public RestClientTransportContext(RestOperationMeta restOperationMeta, Context vertxContext,
       HttpClientRequest httpClientRequest, BoundaryFactory boundaryFactory) {
+    this(restOperationMeta, null, vertxContext, httpClientRequest, boundaryFactory);
+  }
+
+  public RestClientTransportContext(RestOperationMeta restOperationMeta, HttpClientWithContext httpClientWithContext,
+      HttpClientRequest httpClientRequest, BoundaryFactory boundaryFactory) {
+    this(restOperationMeta, httpClientWithContext, httpClientWithContext.context(), httpClientRequest,
+        boundaryFactory);
+  }
+
+  protected RestClientTransportContext(RestOperationMeta restOperationMeta, HttpClientWithContext httpClientWithContext,
+      Context vertxContext, HttpClientRequest httpClientRequest, BoundaryFactory boundaryFactory) {
     this.restOperationMeta = restOperationMeta;
+    this.httpClientWithContext = httpClientWithContext;
     this.vertxContext = vertxContext;
     this.httpClientRequest = httpClientRequest;
     this.boundaryFactory = boundaryFactory;
@@ -58,6 +73,13 @@ public class RestClientTransportContext implements VertxTransportContext {
     return restOperationMeta.isDownloadFile();
   }
 
+  /**
+   * null if created without client pool
+   */
+  public HttpClientWithContext getHttpClientWithContext() {
+    return httpClientWithContext;
+  }
+
   @Override
   public Context getVertxContext() {
     return vertxContext;
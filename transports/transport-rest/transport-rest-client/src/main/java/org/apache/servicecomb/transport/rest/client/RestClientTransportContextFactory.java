@@ -70,7 +70,7 @@ public class RestClientTransportContextFactory {
     HttpClientRequest httpClientRequest = createHttpClientRequest(invocation, restOperationMeta,
         httpClientWithContext.getHttpClient());
     return new RestClientTransportContext(restOperationMeta,
-        httpClientWithContext.context(),
+        httpClientWithContext,
         httpClientRequest,
         boundaryFactory);
   }
@@ -78,10 +78,12 @@ public class RestClientTransportContextFactory {
   protected HttpClientWithContext findHttpClientPool(Invocation invocation) {
     URIEndpointObject endpoint = (URIEndpointObject) invocation.getEndpoint().getAddress();
     if (endpoint.isHttp2Enabled()) {
-      return HttpClients.getClient(Http2TransportHttpClientOptionsSPI.CLIENT_NAME, invocation.isSync());
+      return HttpClients.getClient(Http2TransportHttpClientOptionsSPI.CLIENT_NAME, invocation.isSync(),
+          invocation.getAffinityContext());
     }
 
-    return HttpClients.getClient(HttpTransportHttpClientOptionsSPI.CLIENT_NAME, invocation.isSync());
+    return HttpClients.getClient(HttpTransportHttpClientOptionsSPI.CLIENT_NAME, invocation.isSync(),
+        invocation.getAffinityContext());
   }
 
   protected HttpClientRequest createHttpClientRequest(Invocation invocation, RestOperationMeta restOperationMeta,
@@ -60,9 +60,11 @@ public class RestTransportClient {
     HttpClientWithContext httpClientWithContext;
     if (endpoint.isHttp2Enabled()) {
       httpClientWithContext = HttpClients
-          .getClient(Http2TransportHttpClientOptionsSPI.CLIENT_NAME, invocation.isSync());
+          .getClient(Http2TransportHttpClientOptionsSPI.CLIENT_NAME, invocation.isSync(),
+              invocation.getAffinityContext());
     } else {
-      httpClientWithContext = HttpClients.getClient(HttpTransportHttpClientOptionsSPI.CLIENT_NAME, invocation.isSync());
+      httpClientWithContext = HttpClients.getClient(HttpTransportHttpClientOptionsSPI.CLIENT_NAME, invocation.isSync(),
+          invocation.getAffinityContext());
     }
     return httpClientWithContext;
   }
@@ -113,6 +113,24 @@ public final class TransportClientConfig {
         .get();
   }
 
+  public static boolean isTcpFastOpen() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.rest.client.tcpFastOpen", false)
+        .get();
+  }
+
+  public static boolean isTcpQuickAck() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.rest.client.tcpQuickAck", false)
+        .get();
+  }
+
+  public static boolean isTcpCork() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.rest.client.tcpCork", false)
+        .get();
+  }
+
   public static boolean isHttpTransportClientEnabled() {
     return DynamicPropertyFactory.getInstance()
         .getBooleanProperty("servicecomb.rest.client.enabled",
@@ -101,7 +101,8 @@ public class DefaultHttpClientFilter implements HttpClientFilter {
     }
 
     try {
-      result = produceProcessor.decodeResponse(responseEx.getBodyBuffer(), responseType);
+      result = produceProcessor.decodeResponse(invocation, responseEx.getStatus(), responseEx.getBodyBuffer(),
+          responseType);
       return Response.create(responseEx.getStatusType(), result);
     } catch (Exception e) {
       LOGGER.error("failed to decode response body, exception is [{}]", e.getMessage());
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.transport.rest.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.servicecomb.core.Invocation;
+import org.apache.servicecomb.core.invocation.InvocationStageTrace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.net.impl.ConnectionBase;
+
+class RestClientSenderTest {
+  Invocation invocation = Mockito.mock(Invocation.class, Mockito.RETURNS_DEEP_STUBS);
+
+  InvocationStageTrace stageTrace = new InvocationStageTrace(invocation);
+
+  RestClientTransportContext transportContext = Mockito.mock(RestClientTransportContext.class);
+
+  HttpClientRequest httpClientRequest = Mockito.mock(HttpClientRequest.class);
+
+  RestClientSender sender;
+
+  @BeforeEach
+  void setUp() {
+    Mockito.when(invocation.getTransportContext()).thenReturn(transportContext);
+    Mockito.when(invocation.getInvocationStageTrace()).thenReturn(stageTrace);
+    Mockito.when(transportContext.getRequestParameters()).thenReturn(Mockito.mock(RestClientRequestParameters.class));
+    Mockito.when(transportContext.getHttpClientRequest()).thenReturn(httpClientRequest);
+    // http2 stream on an existing connection, connectionHandler of request will not be called
+    Mockito.when(httpClientRequest.connection()).thenReturn((HttpConnection) Mockito.mock(ConnectionBase.class,
+        Mockito.withSettings().extraInterfaces(HttpConnection.class)));
+    Mockito.when(httpClientRequest.streamId()).thenReturn(1);
+
+    sender = new RestClientSender(invocation);
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void should_record_http2_stream_time_by_write_callback() {
+    sender.sendInVertxContext();
+
+    ArgumentCaptor<Handler<AsyncResult<Void>>> captor = ArgumentCaptor.forClass((Class) Handler.class);
+    Mockito.verify(httpClientRequest).end(captor.capture());
+    long beforeWritten = System.nanoTime();
+    captor.getValue().handle(Future.succeededFuture());
+    sender.processMetrics();
+
+    assertThat(stageTrace.getFinishGetConnection()).isGreaterThanOrEqualTo(beforeWritten);
+    assertThat(stageTrace.getFinishWriteToBuffer()).isGreaterThanOrEqualTo(stageTrace.getFinishGetConnection());
+    assertThat(stageTrace.getFinishReceiveResponse()).isGreaterThanOrEqualTo(stageTrace.getFinishWriteToBuffer());
+  }
+
+  @Test
+  void should_not_record_http2_stream_time_when_not_written() {
+    sender.processMetrics();
+
+    assertThat(stageTrace.getFinishGetConnection()).isZero();
+    assertThat(stageTrace.getFinishWriteToBuffer()).isZero();
+    assertThat(stageTrace.getFinishReceiveResponse()).isPositive();
+  }
+}
@@ -272,7 +272,7 @@ public class TestDefaultHttpClientFilter {
         result = responseHeader.getAll("b");
         swaggerRestOperation.findProduceProcessor("json");
         result = produceProcessor;
-        produceProcessor.decodeResponse(bodyBuffer, (JavaType) any);
+        produceProcessor.decodeResponse(invocation, anyInt, bodyBuffer, (JavaType) any);
         result = decodedResult;
 
         invocation.getOperationMeta();
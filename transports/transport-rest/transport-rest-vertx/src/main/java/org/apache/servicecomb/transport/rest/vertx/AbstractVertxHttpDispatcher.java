@@ -40,6 +40,9 @@ public abstract class AbstractVertxHttpDispatcher implements VertxHttpDispatcher
     bodyHandler.setUploadsDirectory(uploadConfig.getLocation());
     bodyHandler.setDeleteUploadedFilesOnEnd(true);
     bodyHandler.setBodyLimit(uploadConfig.getMaxSize());
+    bodyHandler.setFileSizeThreshold(uploadConfig.getFileSizeThreshold())
+        .setMaxMemorySizePerRequest(uploadConfig.getMaxMemorySizePerRequest())
+        .setMaxMemorySize(uploadConfig.getMaxMemorySize());
 
     if (uploadConfig.toMultipartConfigElement() != null) {
       LOGGER.info("set uploads directory to \"{}\".", uploadConfig.getLocation());
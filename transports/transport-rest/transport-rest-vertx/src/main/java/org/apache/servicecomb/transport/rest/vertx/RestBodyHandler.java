@@ -26,18 +26,24 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.ws.rs.core.Response.Status;
 
+import org.apache.servicecomb.foundation.vertx.http.HybridFileUpload;
 import org.apache.servicecomb.swagger.invocation.exception.CommonExceptionData;
 import org.apache.servicecomb.swagger.invocation.exception.ExceptionFactory;
 import org.apache.servicecomb.swagger.invocation.exception.InvocationException;
 
+import io.netty.buffer.ByteBufUtil;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
 import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerFileUpload;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -52,6 +58,7 @@ import io.vertx.ext.web.impl.FileUploadImpl;
  * and modified.
  *
  * allowed to disable fileupload by setUploadsDirectory(null)
+ * allowed to keep small files in memory by setFileSizeThreshold
  */
 public class RestBodyHandler implements BodyHandler {
 
@@ -59,6 +66,9 @@ public class RestBodyHandler implements BodyHandler {
 
   private static final String BODY_HANDLED = "__body-handled";
 
+  // memory of files kept in memory of all requests
+  private static final AtomicLong UPLOAD_MEMORY_SIZE = new AtomicLong();
+
   private long bodyLimit = DEFAULT_BODY_LIMIT;
 
   private boolean handleFileUploads;
@@ -71,6 +81,13 @@ public class RestBodyHandler implements BodyHandler {
 
   private boolean isPreallocateBodyBuffer = DEFAULT_PREALLOCATE_BODY_BUFFER;
 
+  // files not bigger than this are kept in memory, 0 means always write to disk
+  private int fileSizeThreshold;
+
+  private long maxMemorySizePerRequest = -1;
+
+  private long maxMemorySize = -1;
+
   private static final int DEFAULT_INITIAL_BODY_BUFFER_SIZE = 1024; //bytes
 
   public static final String BYPASS_BODY_HANDLER = "__bypass_body_handler";
@@ -160,6 +177,25 @@ public class RestBodyHandler implements BodyHandler {
     return this;
   }
 
+  public RestBodyHandler setFileSizeThreshold(int fileSizeThreshold) {
+    this.fileSizeThreshold = fileSizeThreshold;
+    return this;
+  }
+
+  public RestBodyHandler setMaxMemorySizePerRequest(long maxMemorySizePerRequest) {
+    this.maxMemorySizePerRequest = maxMemorySizePerRequest;
+    return this;
+  }
+
+  public RestBodyHandler setMaxMemorySize(long maxMemorySize) {
+    this.maxMemorySize = maxMemorySize;
+    return this;
+  }
+
+  public static long getUploadMemorySize() {
+    return UPLOAD_MEMORY_SIZE.get();
+  }
+
   private long parseContentLengthHeader(HttpServerRequest request) {
     String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
     if (contentLength == null || contentLength.isEmpty()) {
@@ -190,6 +226,8 @@ public class RestBodyHandler implements BodyHandler {
 
     private long uploadSize = 0L;
 
+    private long memorySize = 0L;
+
     private final boolean isMultipart;
 
     private final boolean isUrlEncoded;
@@ -237,6 +275,12 @@ public class RestBodyHandler implements BodyHandler {
           if (handleFileUploads) {
             // we actually upload to a file with a generated filename
             uploadCount.incrementAndGet();
+            // *** cse begin ***
+            if (fileSizeThreshold > 0) {
+              handleHybridUpload(upload, fileUploads);
+              return;
+            }
+            // *** cse end ***
             String uploadedFileName = new File(uploadsDir, UUID.randomUUID().toString()).getPath();
             upload.streamToFileSystem(uploadedFileName);
             FileUploadImpl fileUpload = new FileUploadImpl(uploadedFileName, upload);
@@ -255,6 +299,85 @@ public class RestBodyHandler implements BodyHandler {
       });
     }
 
+    private void handleHybridUpload(HttpServerFileUpload upload, Set<FileUpload> fileUploads) {
+      HybridFileUpload fileUpload = new HybridFileUpload(upload);
+      fileUploads.add(fileUpload);
+      upload.exceptionHandler(t -> {
+        deleteFileUploads();
+        context.fail(t);
+      });
+      upload.handler(data -> {
+        if (reserveMemory(fileUpload, data.length())) {
+          fileUpload.append(data, fileSizeThreshold);
+          return;
+        }
+
+        spillToFileSystem(upload, fileUpload, data);
+      });
+      upload.endHandler(v -> uploadEnded());
+    }
+
+    private boolean reserveMemory(HybridFileUpload fileUpload, int length) {
+      if (fileUpload.getMemorySize() + length > fileSizeThreshold) {
+        return false;
+      }
+
+      if (maxMemorySizePerRequest >= 0 && memorySize + length > maxMemorySizePerRequest) {
+        return false;
+      }
+
+      long totalMemorySize = UPLOAD_MEMORY_SIZE.addAndGet(length);
+      if (maxMemorySize >= 0 && totalMemorySize > maxMemorySize) {
+        UPLOAD_MEMORY_SIZE.addAndGet(-length);
+        return false;
+      }
+
+      memorySize += length;
+      return true;
+    }
+
+    private void releaseMemory(HybridFileUpload fileUpload) {
+      int released = fileUpload.release();
+      memorySize -= released;
+      UPLOAD_MEMORY_SIZE.addAndGet(-released);
+    }
+
+    private void spillToFileSystem(HttpServerFileUpload upload, HybridFileUpload fileUpload, Buffer data) {
+      // stop receiving until the file is opened, just like HttpServerFileUpload.streamToFileSystem
+      upload.pause();
+
+      String uploadedFileName = new File(uploadsDir, UUID.randomUUID().toString()).getPath();
+      Buffer content = Buffer.buffer(ByteBufUtil.getBytes(fileUpload.getContent())).appendBuffer(data);
+      fileUpload.spillTo(uploadedFileName);
+      releaseMemory(fileUpload);
+
+      context.vertx().fileSystem().open(uploadedFileName, new OpenOptions(), ar -> {
+        if (ar.failed()) {
+          deleteFileUploads();
+          context.fail(ar.cause());
+          return;
+        }
+
+        AsyncFile file = ar.result();
+        if (cleanup.get()) {
+          // request already failed
+          file.close();
+          deleteFileUpload(fileUpload);
+          return;
+        }
+
+        file.write(content);
+        upload.pipe().endOnComplete(true).to(file, pr -> {
+          if (pr.failed()) {
+            deleteFileUploads();
+            context.fail(pr.cause());
+            return;
+          }
+          uploadEnded();
+        });
+      });
+    }
+
     private void initBodyBuffer(long contentLength) {
       int initialBodyBufferSize;
       if (contentLength < 0) {
@@ -333,6 +456,9 @@ public class RestBodyHandler implements BodyHandler {
 
       if (deleteUploadedFilesOnEnd) {
         context.addBodyEndHandler(x -> deleteFileUploads());
+      } else if (fileSizeThreshold > 0) {
+        // memory must be released even files are kept
+        context.addBodyEndHandler(x -> releaseMemoryUploads());
       }
 
       HttpServerRequest req = context.request();
@@ -346,22 +472,45 @@ public class RestBodyHandler implements BodyHandler {
     private void deleteFileUploads() {
       if (cleanup.compareAndSet(false, true) && handleFileUploads) {
         for (FileUpload fileUpload : context.fileUploads()) {
-          FileSystem fileSystem = context.vertx().fileSystem();
-          String uploadedFileName = fileUpload.uploadedFileName();
-          fileSystem.exists(uploadedFileName, existResult -> {
-            if (existResult.failed()) {
-              LOGGER.warn("Could not detect if uploaded file exists, not deleting: " + uploadedFileName,
-                  existResult.cause());
-            } else if (existResult.result()) {
-              fileSystem.delete(uploadedFileName, deleteResult -> {
-                if (deleteResult.failed()) {
-                  LOGGER.warn("Delete of uploaded file failed: " + uploadedFileName, deleteResult.cause());
-                }
-              });
+          deleteFileUpload(fileUpload);
+        }
+      }
+    }
+
+    private void deleteFileUpload(FileUpload fileUpload) {
+      // *** cse begin ***
+      if (fileUpload instanceof HybridFileUpload) {
+        releaseMemory((HybridFileUpload) fileUpload);
+      }
+      String uploadedFileName = fileUpload.uploadedFileName();
+      if (uploadedFileName == null) {
+        return;
+      }
+      // *** cse end ***
+
+      FileSystem fileSystem = context.vertx().fileSystem();
+      fileSystem.exists(uploadedFileName, existResult -> {
+        if (existResult.failed()) {
+          LOGGER.warn("Could not detect if uploaded file exists, not deleting: " + uploadedFileName,
+              existResult.cause());
+        } else if (existResult.result()) {
+          fileSystem.delete(uploadedFileName, deleteResult -> {
+            if (deleteResult.failed()) {
+              LOGGER.warn("Delete of uploaded file failed: " + uploadedFileName, deleteResult.cause());
             }
           });
         }
+      });
+    }
+
+    // *** cse begin ***
+    private void releaseMemoryUploads() {
+      for (FileUpload fileUpload : context.fileUploads()) {
+        if (fileUpload instanceof HybridFileUpload) {
+          releaseMemory((HybridFileUpload) fileUpload);
+        }
       }
     }
+    // *** cse end ***
   }
 }
@@ -255,6 +255,10 @@ public class RestServerVerticle extends AbstractVerticle {
     serverOptions.setCompressionSupported(TransportConfig.getCompressed());
     serverOptions.setMaxHeaderSize(TransportConfig.getMaxHeaderSize());
     serverOptions.setMaxInitialLineLength(TransportConfig.getMaxInitialLineLength());
+    serverOptions.setReusePort(TransportConfig.isReusePort())
+        .setTcpFastOpen(TransportConfig.isTcpFastOpen())
+        .setTcpQuickAck(TransportConfig.isTcpQuickAck())
+        .setTcpCork(TransportConfig.isTcpCork());
     if (endpointObject.isHttp2Enabled()) {
       serverOptions.setUseAlpn(TransportConfig.getUseAlpn())
           .setInitialSettings(new Http2Settings().setMaxConcurrentStreams(TransportConfig.getMaxConcurrentStreams()));
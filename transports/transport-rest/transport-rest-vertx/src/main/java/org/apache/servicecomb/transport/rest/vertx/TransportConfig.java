@@ -97,6 +97,42 @@ public final class TransportConfig {
         .get();
   }
 
+  /**
+   * SO_REUSEPORT, only available for native transport
+   */
+  public static boolean isReusePort() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.rest.server.reusePort", false)
+        .get();
+  }
+
+  /**
+   * TCP_FASTOPEN, only available for native transport
+   */
+  public static boolean isTcpFastOpen() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.rest.server.tcpFastOpen", false)
+        .get();
+  }
+
+  /**
+   * TCP_QUICKACK, only available for epoll
+   */
+  public static boolean isTcpQuickAck() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.rest.server.tcpQuickAck", false)
+        .get();
+  }
+
+  /**
+   * TCP_CORK, only available for epoll
+   */
+  public static boolean isTcpCork() {
+    return DynamicPropertyFactory.getInstance()
+        .getBooleanProperty("servicecomb.rest.server.tcpCork", false)
+        .get();
+  }
+
   public static boolean isCorsEnabled() {
     return DynamicPropertyFactory.getInstance()
         .getBooleanProperty(SERVICECOMB_CORS_CONFIG_BASE + ".enabled", false)
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.servicecomb.transport.rest.vertx;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.servicecomb.foundation.vertx.http.HybridFileUpload;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBufUtil;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.FileUpload;
+import io.vertx.ext.web.Router;
+
+public class TestRestBodyHandler {
+  private static final String BOUNDARY = "----boundary";
+
+  private final File uploadsDir = new File("target/restBodyHandlerUploads");
+
+  private Vertx vertx;
+
+  private HttpServer server;
+
+  private RestBodyHandler bodyHandler;
+
+  // upload name -> "memory:content" or "file:content"
+  private Map<String, String> uploads;
+
+  private long memorySizeInHandler;
+
+  private CompletableFuture<Long> memorySizeAfterBodyEnd;
+
+  private List<HybridFileUpload> hybridUploads;
+
+  @Before
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    bodyHandler = new RestBodyHandler(uploadsDir.getPath());
+    uploads = new LinkedHashMap<>();
+    hybridUploads = new ArrayList<>();
+    memorySizeAfterBodyEnd = new CompletableFuture<>();
+
+    Router router = Router.router(vertx);
+    router.route().handler(bodyHandler).handler(context -> {
+      memorySizeInHandler = RestBodyHandler.getUploadMemorySize();
+      for (FileUpload fileUpload : context.fileUploads()) {
+        HybridFileUpload hybridFileUpload = (HybridFileUpload) fileUpload;
+        hybridUploads.add(hybridFileUpload);
+        uploads.put(fileUpload.name(), readUpload(hybridFileUpload));
+      }
+      // body end handlers run in reverse order, so check memory after all of them
+      context.addBodyEndHandler(v -> context.vertx()
+          .runOnContext(nothing -> memorySizeAfterBodyEnd.complete(RestBodyHandler.getUploadMemorySize())));
+      context.response().end();
+    });
+
+    CompletableFuture<HttpServer> future = new CompletableFuture<>();
+    vertx.createHttpServer().requestHandler(router).listen(0, ar -> {
+      if (ar.succeeded()) {
+        future.complete(ar.result());
+        return;
+      }
+      future.completeExceptionally(ar.cause());
+    });
+    server = future.get(10, TimeUnit.SECONDS);
+  }
+
+  @After
+  public void teardown() throws IOException {
+    vertx.close();
+    FileUtils.deleteDirectory(uploadsDir);
+  }
+
+  private String readUpload(HybridFileUpload fileUpload) {
+    if (fileUpload.isInMemory()) {
+      return "memory:" + new String(ByteBufUtil.getBytes(fileUpload.getContent()), StandardCharsets.UTF_8);
+    }
+
+    try {
+      return "file:" + FileUtils.readFileToString(new File(fileUpload.uploadedFileName()), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      return "file:" + e.getMessage();
+    }
+  }
+
+  private void upload(String... nameAndContents) throws Exception {
+    StringBuilder sb = new StringBuilder();
+    for (int idx = 0; idx < nameAndContents.length; idx += 2) {
+      sb.append("--").append(BOUNDARY).append("\r\n")
+          .append("Content-Disposition: form-data; name=\"").append(nameAndContents[idx])
+          .append("\"; filename=\"").append(nameAndContents[idx]).append(".txt\"\r\n")
+          .append("Content-Type: text/plain\r\n\r\n")
+          .append(nameAndContents[idx + 1]).append("\r\n");
+    }
+    sb.append("--").append(BOUNDARY).append("--\r\n");
+
+    HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.actualPort() + "/")
+        .openConnection();
+    connection.setRequestMethod("POST");
+    connection.setDoOutput(true);
+    connection.setRequestProperty("Content-Type", "multipart/form-data; boundary=" + BOUNDARY);
+    try (OutputStream os = connection.getOutputStream()) {
+      os.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    Assert.assertEquals(200, connection.getResponseCode());
+    connection.disconnect();
+  }
+
+  @Test
+  public void should_keep_in_memory_and_release_when_body_end() throws Exception {
+    long memorySize = RestBodyHandler.getUploadMemorySize();
+    bodyHandler.setFileSizeThreshold(1024);
+
+    upload("f1", "hello");
+
+    Assert.assertEquals("memory:hello", uploads.get("f1"));
+    Assert.assertEquals(memorySize + 5, memorySizeInHandler);
+    Assert.assertEquals(memorySize, (long) memorySizeAfterBodyEnd.get(10, TimeUnit.SECONDS));
+    try {
+      hybridUploads.get(0).getContent();
+      Assert.fail("must throw exception");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("content of upload f1.txt is already released.", e.getMessage());
+    }
+  }
+
+  @Test
+  public void should_spill_to_file_when_bigger_than_threshold() throws Exception {
+    long memorySize = RestBodyHandler.getUploadMemorySize();
+    bodyHandler.setFileSizeThreshold(4);
+
+    upload("f1", "hello world");
+
+    Assert.assertEquals("file:hello world", uploads.get("f1"));
+    Assert.assertEquals(memorySize, memorySizeInHandler);
+    Assert.assertEquals(memorySize, (long) memorySizeAfterBodyEnd.get(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void should_spill_to_file_when_exceed_max_memory_size_per_request() throws Exception {
+    long memorySize = RestBodyHandler.getUploadMemorySize();
+    bodyHandler.setFileSizeThreshold(1024);
+    bodyHandler.setMaxMemorySizePerRequest(8);
+
+    upload("f1", "12345", "f2", "67890");
+
+    Assert.assertEquals("memory:12345", uploads.get("f1"));
+    Assert.assertEquals("file:67890", uploads.get("f2"));
+    Assert.assertEquals(memorySize + 5, memorySizeInHandler);
+    Assert.assertEquals(memorySize, (long) memorySizeAfterBodyEnd.get(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void should_spill_to_file_when_exceed_max_memory_size() throws Exception {
+    long memorySize = RestBodyHandler.getUploadMemorySize();
+    bodyHandler.setFileSizeThreshold(1024);
+    bodyHandler.setMaxMemorySize(memorySize + 3);
+
+    upload("f1", "12345");
+
+    Assert.assertEquals("file:12345", uploads.get("f1"));
+    Assert.assertEquals(memorySize, memorySizeInHandler);
+    Assert.assertEquals(memorySize, (long) memorySizeAfterBodyEnd.get(10, TimeUnit.SECONDS));
+  }
+}